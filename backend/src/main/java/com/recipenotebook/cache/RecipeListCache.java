@@ -0,0 +1,128 @@
+package com.recipenotebook.cache;
+
+import com.recipenotebook.dto.CacheStatsDTO;
+import com.recipenotebook.dto.RecipeListResponseData;
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.service.RecipeFilterCriteria;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class RecipeListCache {
+    
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<Key, Entry> entries;
+    private final UserChangeVersions userVersions;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    public RecipeListCache(UserChangeVersions userVersions,
+                           @Value("${recipe.list-cache.max-entries:10000}") int maxEntries,
+                           @Value("${recipe.list-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userVersions = userVersions;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > RecipeListCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    public RecipeListResponseData get(RecipeFilterCriteria criteria, Supplier<RecipeListResponseData> loader) {
+        if (maxEntries <= 0) {
+            return loader.get();
+        }
+        
+        Key key = Key.of(criteria);
+        long version = userVersions.current(criteria.getUserId());
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.version != version) {
+                    entries.remove(key);
+                    invalidations.incrementAndGet();
+                } else if (entry.expiresAt <= now) {
+                    entries.remove(key);
+                    expirations.incrementAndGet();
+                } else {
+                    hits.incrementAndGet();
+                    return entry.value;
+                }
+            }
+        }
+        
+        misses.incrementAndGet();
+        RecipeListResponseData value = loader.get();
+        
+        synchronized (entries) {
+            if (userVersions.current(criteria.getUserId()) == version) {
+                entries.put(key, new Entry(value, version, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+        return value;
+    }
+    
+    public CacheStatsDTO getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long requests = hitCount + missCount;
+        return new CacheStatsDTO(
+            size,
+            maxEntries,
+            ttlMillis / 1000,
+            hitCount,
+            missCount,
+            requests == 0 ? 0.0 : (double) hitCount / requests,
+            evictions.get(),
+            expirations.get(),
+            invalidations.get()
+        );
+    }
+    
+    private record Key(Long userId, List<Long> categoryIds, Difficulty difficulty, String searchQuery,
+                       String searchMode, boolean fuzzy, int page, int size, String sortField, String sortDirection,
+                       String cursor, Set<String> fields) {
+        
+        private static Key of(RecipeFilterCriteria criteria) {
+            return new Key(
+                criteria.getUserId(),
+                criteria.getCategoryIds() == null ? null : List.copyOf(criteria.getCategoryIds()),
+                criteria.getDifficulty(),
+                criteria.getSearchQuery(),
+                criteria.getSearchMode(),
+                criteria.isFuzzy(),
+                criteria.getPage(),
+                criteria.getSize(),
+                criteria.getSortField(),
+                criteria.getSortDirection(),
+                criteria.getCursor(),
+                criteria.getFields() == null ? null : Set.copyOf(criteria.getFields())
+            );
+        }
+    }
+    
+    private record Entry(RecipeListResponseData value, long version, long expiresAt) {
+    }
+}
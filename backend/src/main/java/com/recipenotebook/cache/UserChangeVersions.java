@@ -0,0 +1,44 @@
+package com.recipenotebook.cache;
+
+import com.recipenotebook.index.RecipeChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class UserChangeVersions {
+    
+    private final long seed = System.currentTimeMillis();
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    
+    public long current(Long userId) {
+        return counter(userId).get();
+    }
+    
+    public void bump(Long userId) {
+        counter(userId).incrementAndGet();
+    }
+    
+    @EventListener
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        Long userId = event.getUserId();
+        bump(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(userId);
+                }
+            });
+        }
+    }
+    
+    private AtomicLong counter(Long userId) {
+        return versions.computeIfAbsent(userId, id -> new AtomicLong(seed));
+    }
+}
@@ -0,0 +1,138 @@
+package com.recipenotebook.cache;
+
+import com.recipenotebook.dto.CacheStatsDTO;
+import com.recipenotebook.service.JwtClaims;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class VerifiedTokenCache {
+    
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+    private final ScheduledThreadPoolExecutor expiryTimer;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    
+    public VerifiedTokenCache(@Value("${auth.token-cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > VerifiedTokenCache.this.maxEntries) {
+                    eldest.getValue().expiry.cancel(false);
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.expiryTimer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "verified-token-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.expiryTimer.setRemoveOnCancelPolicy(true);
+    }
+    
+    public JwtClaims get(String token, Function<String, JwtClaims> verifier) {
+        if (maxEntries <= 0) {
+            return verifier.apply(token);
+        }
+        
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(digest);
+            if (entry != null && entry.claims.getExpiresAt().toEpochMilli() > now) {
+                hits.incrementAndGet();
+                return entry.claims;
+            }
+        }
+        
+        misses.incrementAndGet();
+        JwtClaims claims = verifier.apply(token);
+        long ttlMillis = claims.getExpiresAt().toEpochMilli() - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return claims;
+        }
+        
+        synchronized (entries) {
+            Entry previous = entries.get(digest);
+            if (previous != null) {
+                return previous.claims;
+            }
+            Entry entry = new Entry(claims);
+            entry.expiry = expiryTimer.schedule(() -> expire(digest, entry), ttlMillis, TimeUnit.MILLISECONDS);
+            entries.put(digest, entry);
+        }
+        return claims;
+    }
+    
+    public CacheStatsDTO getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long requests = hitCount + missCount;
+        return new CacheStatsDTO(
+            size,
+            maxEntries,
+            null,
+            hitCount,
+            missCount,
+            requests == 0 ? 0.0 : (double) hitCount / requests,
+            evictions.get(),
+            expirations.get(),
+            0L
+        );
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        expiryTimer.shutdownNow();
+    }
+    
+    private void expire(String digest, Entry entry) {
+        synchronized (entries) {
+            if (entries.remove(digest, entry)) {
+                expirations.incrementAndGet();
+            }
+        }
+    }
+    
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+    
+    private static final class Entry {
+        private final JwtClaims claims;
+        private ScheduledFuture<?> expiry;
+        
+        private Entry(JwtClaims claims) {
+            this.claims = claims;
+        }
+    }
+}
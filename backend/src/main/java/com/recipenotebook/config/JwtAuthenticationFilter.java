@@ -0,0 +1,125 @@
+package com.recipenotebook.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipenotebook.cache.VerifiedTokenCache;
+import com.recipenotebook.dto.ApiResponse;
+import com.recipenotebook.exception.AuthenticationException;
+import com.recipenotebook.service.JwtClaims;
+import com.recipenotebook.service.JwtService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+@Component
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    
+    private static final String USER_ID_HEADER = "X-User-Id";
+    private static final String BEARER_PREFIX = "Bearer ";
+    
+    private final JwtService jwtService;
+    private final VerifiedTokenCache tokenCache;
+    private final ObjectMapper objectMapper;
+    private final boolean allowUserIdHeader;
+    
+    public JwtAuthenticationFilter(JwtService jwtService,
+                                   VerifiedTokenCache tokenCache,
+                                   ObjectMapper objectMapper,
+                                   @Value("${auth.allow-user-id-header:false}") boolean allowUserIdHeader) {
+        this.jwtService = jwtService;
+        this.tokenCache = tokenCache;
+        this.objectMapper = objectMapper;
+        this.allowUserIdHeader = allowUserIdHeader;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getPathInfo() != null
+            ? request.getServletPath() + request.getPathInfo()
+            : request.getServletPath();
+        return !path.startsWith("/api/v1/") || path.startsWith("/api/v1/auth/")
+            || "OPTIONS".equals(request.getMethod());
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            if (allowUserIdHeader) {
+                chain.doFilter(request, response);
+            } else {
+                reject(response, "Missing bearer token");
+            }
+            return;
+        }
+        
+        JwtClaims claims;
+        try {
+            claims = tokenCache.get(authorization.substring(BEARER_PREFIX.length()).trim(), jwtService::verify);
+        } catch (AuthenticationException e) {
+            log.debug("Rejected bearer token: {}", e.getMessage());
+            reject(response, e.getMessage());
+            return;
+        }
+        
+        chain.doFilter(new AuthenticatedRequest(request, claims.getUserId()), response);
+    }
+    
+    private void reject(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message, null));
+    }
+    
+    private static class AuthenticatedRequest extends HttpServletRequestWrapper {
+        
+        private final String userId;
+        
+        private AuthenticatedRequest(HttpServletRequest request, Long userId) {
+            super(request);
+            this.userId = String.valueOf(userId);
+        }
+        
+        @Override
+        public String getHeader(String name) {
+            return USER_ID_HEADER.equalsIgnoreCase(name) ? userId : super.getHeader(name);
+        }
+        
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return USER_ID_HEADER.equalsIgnoreCase(name)
+                ? Collections.enumeration(List.of(userId))
+                : super.getHeaders(name);
+        }
+        
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            List<String> names = new ArrayList<>();
+            Enumeration<String> original = super.getHeaderNames();
+            while (original.hasMoreElements()) {
+                String name = original.nextElement();
+                if (!USER_ID_HEADER.equalsIgnoreCase(name)) {
+                    names.add(name);
+                }
+            }
+            names.add(USER_ID_HEADER);
+            return Collections.enumeration(names);
+        }
+    }
+}
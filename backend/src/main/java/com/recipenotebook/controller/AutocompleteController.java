@@ -0,0 +1,63 @@
+package com.recipenotebook.controller;
+
+import com.recipenotebook.dto.ApiResponse;
+import com.recipenotebook.dto.AutocompleteResponseData;
+import com.recipenotebook.exception.QueryParameterValidationException;
+import com.recipenotebook.index.AutocompleteIndex;
+import com.recipenotebook.service.AutocompleteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/v1/recipes/autocomplete")
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteController {
+    
+    private static final Set<String> ALLOWED_TYPES = Set.of("title", "ingredient", "unit");
+    private static final int MIN_LIMIT = 1;
+    private static final int MAX_LIMIT = 50;
+    private static final int MAX_PREFIX_LENGTH = 100;
+    
+    private final AutocompleteService autocompleteService;
+    
+    @GetMapping
+    public ResponseEntity<ApiResponse<AutocompleteResponseData>> autocomplete(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "title") String type,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestHeader("X-User-Id") Long userId) {
+        
+        Map<String, String> errors = new HashMap<>();
+        if (q == null || q.isBlank()) {
+            errors.put("q", "Prefix is required");
+        } else if (q.length() > MAX_PREFIX_LENGTH) {
+            errors.put("q", "Prefix must be at most " + MAX_PREFIX_LENGTH + " characters");
+        }
+        if (!ALLOWED_TYPES.contains(type)) {
+            errors.put("type", "Must be one of: title, ingredient, unit");
+        }
+        if (limit < MIN_LIMIT || limit > MAX_LIMIT) {
+            errors.put("limit", "Limit must be between " + MIN_LIMIT + " and " + MAX_LIMIT);
+        }
+        if (!errors.isEmpty()) {
+            throw new QueryParameterValidationException(errors);
+        }
+        
+        AutocompleteIndex.Field field = AutocompleteIndex.Field.valueOf(type.toUpperCase(Locale.ROOT));
+        AutocompleteResponseData data = autocompleteService.suggest(userId, field, q, limit);
+        
+        return ResponseEntity.ok(ApiResponse.success("Suggestions retrieved successfully", data));
+    }
+}
@@ -1,31 +1,50 @@
 package com.recipenotebook.controller;
 
-import com.recipenotebook.dto.ApiResponse;
-import com.recipenotebook.dto.CategoriesResponseData;
 import com.recipenotebook.service.CategoryService;
+import com.recipenotebook.service.CategorySnapshot;
+import com.recipenotebook.util.ETags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/api/v1/categories")
 @RequiredArgsConstructor
 @Slf4j
 public class CategoryController {
     
+    private static final CacheControl LONG_LIVED = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+    
     private final CategoryService categoryService;
     
     @GetMapping
-    public ResponseEntity<ApiResponse<CategoriesResponseData>> getCategories() {
+    public ResponseEntity<byte[]> getCategories(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("GET /api/v1/categories - Retrieving all categories");
         
-        CategoriesResponseData data = categoryService.getAllCategories();
+        CategorySnapshot snapshot = categoryService.getCategorySnapshot();
+        
+        if (ETags.matches(ifNoneMatch, snapshot.getETag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(snapshot.getETag())
+                .cacheControl(LONG_LIVED)
+                .build();
+        }
         
-        return ResponseEntity.ok(
-            ApiResponse.success("Categories retrieved successfully", data)
-        );
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(snapshot.getETag())
+            .cacheControl(LONG_LIVED)
+            .body(snapshot.getResponseBody());
     }
 }
@@ -0,0 +1,33 @@
+package com.recipenotebook.controller;
+
+import com.recipenotebook.cache.RecipeListCache;
+import com.recipenotebook.cache.VerifiedTokenCache;
+import com.recipenotebook.dto.CacheStatsDTO;
+import com.recipenotebook.dto.MetricsResponse;
+import com.recipenotebook.service.PasswordHasher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+    
+    private final RecipeListCache recipeListCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PasswordHasher passwordHasher;
+    
+    @GetMapping
+    public ResponseEntity<MetricsResponse> metrics() {
+        Map<String, CacheStatsDTO> caches = new LinkedHashMap<>();
+        caches.put("recipeList", recipeListCache.getStats());
+        caches.put("verifiedTokens", verifiedTokenCache.getStats());
+        return ResponseEntity.ok(new MetricsResponse(caches, passwordHasher.getStats()));
+    }
+}
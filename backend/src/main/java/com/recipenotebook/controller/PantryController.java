@@ -0,0 +1,78 @@
+package com.recipenotebook.controller;
+
+import com.recipenotebook.dto.ApiResponse;
+import com.recipenotebook.dto.PantryMatchesResponseData;
+import com.recipenotebook.exception.QueryParameterValidationException;
+import com.recipenotebook.service.PantryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/v1/recipes/cookable")
+@RequiredArgsConstructor
+@Slf4j
+public class PantryController {
+    
+    private static final Set<String> ALLOWED_MATCH_MODES = Set.of("any", "all");
+    private static final int MIN_LIMIT = 1;
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_INGREDIENTS = 50;
+    
+    private final PantryService pantryService;
+    
+    @GetMapping
+    public ResponseEntity<ApiResponse<PantryMatchesResponseData>> getCookableRecipes(
+            @RequestParam(required = false) String ingredients,
+            @RequestParam(defaultValue = "any") String match,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestHeader("X-User-Id") Long userId) {
+        
+        log.debug("Received cookable recipes request from user: {} with params - ingredients: '{}', match: {}, limit: {}",
+            userId, ingredients, match, limit);
+        
+        List<String> pantryItems = parseIngredients(ingredients);
+        
+        Map<String, String> errors = new HashMap<>();
+        if (pantryItems.isEmpty()) {
+            errors.put("ingredients", "At least one ingredient is required");
+        } else if (pantryItems.size() > MAX_INGREDIENTS) {
+            errors.put("ingredients", "At most " + MAX_INGREDIENTS + " ingredients are allowed");
+        }
+        if (!ALLOWED_MATCH_MODES.contains(match)) {
+            errors.put("match", "Must be one of: any, all");
+        }
+        if (limit < MIN_LIMIT || limit > MAX_LIMIT) {
+            errors.put("limit", "Limit must be between " + MIN_LIMIT + " and " + MAX_LIMIT);
+        }
+        if (!errors.isEmpty()) {
+            throw new QueryParameterValidationException(errors);
+        }
+        
+        PantryMatchesResponseData data = pantryService.findCookableRecipes(userId, pantryItems, "all".equals(match), limit);
+        
+        return ResponseEntity.ok(ApiResponse.success("Cookable recipes retrieved successfully", data));
+    }
+    
+    private List<String> parseIngredients(String ingredients) {
+        if (ingredients == null) {
+            return List.of();
+        }
+        return Arrays.stream(ingredients.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -1,13 +1,19 @@
 package com.recipenotebook.controller;
 
+import com.recipenotebook.cache.RecipeListCache;
+import com.recipenotebook.cache.UserChangeVersions;
 import com.recipenotebook.dto.*;
 import com.recipenotebook.entity.Difficulty;
 import com.recipenotebook.exception.QueryParameterValidationException;
+import com.recipenotebook.service.RecipeCursor;
 import com.recipenotebook.service.RecipeFilterCriteria;
 import com.recipenotebook.service.RecipeService;
+import com.recipenotebook.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,10 +29,16 @@ public class RecipeController {
     
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of("title", "cookingTimeMinutes", "createdAt", "updatedAt");
     private static final Set<String> ALLOWED_DIRECTIONS = Set.of("asc", "desc");
+    private static final Set<String> ALLOWED_SEARCH_MODES = Set.of("contains", "fulltext", "prefix");
     private static final int MIN_PAGE_SIZE = 1;
     private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_IDS = 100;
+    private static final int MAX_BATCH_DELETE_IDS = 500;
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
     
     private final RecipeService recipeService;
+    private final RecipeListCache recipeListCache;
+    private final UserChangeVersions userChangeVersions;
     
     @PostMapping
     public ResponseEntity<ApiResponse<RecipeIdResponse>> createRecipe(
@@ -61,13 +73,43 @@ public class RecipeController {
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<RecipeDetailDTO>> getRecipeById(
             @PathVariable Long id,
-            @RequestHeader("X-User-Id") Long userId) {
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         log.debug("Received get recipe request for recipe {} from user: {}", id, userId);
         
+        if (ifNoneMatch != null) {
+            String currentETag = ETags.forRecipe(id, recipeService.getRecipeUpdatedAt(id, userId));
+            if (ETags.matches(ifNoneMatch, currentETag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(currentETag)
+                        .cacheControl(REVALIDATE)
+                        .build();
+            }
+        }
+        
         RecipeDetailDTO recipe = recipeService.getRecipeById(id, userId);
         
-        return ResponseEntity.ok(ApiResponse.success("Recipe retrieved successfully", recipe));
+        return ResponseEntity.ok()
+                .eTag(ETags.forRecipe(recipe.getId(), recipe.getUpdatedAt()))
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success("Recipe retrieved successfully", recipe));
+    }
+    
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<RecipeBatchResponseData>> getRecipesByIds(
+            @RequestParam String ids,
+            @RequestHeader("X-User-Id") Long userId) {
+        
+        log.debug("Received batch get request for recipes [{}] from user: {}", ids, userId);
+        
+        List<Long> recipeIds = parseBatchIds(ids, MAX_BATCH_IDS);
+        
+        RecipeBatchResponseData data = new RecipeBatchResponseData(recipeService.getRecipesByIds(recipeIds, userId));
+        
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success("Recipes retrieved successfully", data));
     }
     
     @DeleteMapping("/{id}")
@@ -82,6 +124,20 @@ public class RecipeController {
         return ResponseEntity.ok(ApiResponse.success("Recipe deleted successfully", null));
     }
     
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<ApiResponse<RecipeBatchDeleteResponseData>> deleteRecipes(
+            @RequestParam String ids,
+            @RequestHeader("X-User-Id") Long userId) {
+        
+        log.debug("Received batch delete request for recipes [{}] from user: {}", ids, userId);
+        
+        List<Long> recipeIds = parseBatchIds(ids, MAX_BATCH_DELETE_IDS);
+        
+        RecipeBatchDeleteResponseData data = recipeService.deleteRecipes(recipeIds, userId);
+        
+        return ResponseEntity.ok(ApiResponse.success("Recipes deleted successfully", data));
+    }
+    
     @GetMapping
     public ResponseEntity<ApiResponse<RecipeListResponseData>> getRecipes(
             @RequestParam(defaultValue = "0") int page,
@@ -91,16 +147,29 @@ public class RecipeController {
             @RequestParam(required = false) String categoryIds,
             @RequestParam(required = false) String difficulty,
             @RequestParam(required = false) String search,
-            @RequestHeader("X-User-Id") Long userId) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "contains") String searchMode,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) String fields,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
-        log.debug("Received get recipes request from user: {} with params - page: {}, size: {}, sort: {}, direction: {}, categoryIds: {}, difficulty: {}, search: '{}'",
-            userId, page, size, sort, direction, categoryIds, difficulty, search);
+        log.debug("Received get recipes request from user: {} with params - page: {}, size: {}, sort: {}, direction: {}, categoryIds: {}, difficulty: {}, search: '{}', cursor: {}, searchMode: {}, fuzzy: {}, fields: {}",
+            userId, page, size, sort, direction, categoryIds, difficulty, search, cursor, searchMode, fuzzy, fields);
         
-        Map<String, String> errors = validateQueryParameters(page, size, sort, direction, difficulty, categoryIds);
+        Map<String, String> errors = validateQueryParameters(page, size, sort, direction, difficulty, categoryIds, cursor, searchMode, fuzzy, fields);
         if (!errors.isEmpty()) {
             throw new QueryParameterValidationException(errors);
         }
         
+        String listETag = ETags.forRecipeList(userId, userChangeVersions.current(userId));
+        if (ETags.matches(ifNoneMatch, listETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(listETag)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        
         RecipeFilterCriteria criteria = new RecipeFilterCriteria();
         criteria.setUserId(userId);
         criteria.setPage(page);
@@ -108,23 +177,35 @@ public class RecipeController {
         criteria.setSortField(sort);
         criteria.setSortDirection(direction);
         criteria.setSearchQuery(search);
+        criteria.setCursor(cursor);
+        criteria.setSearchMode(searchMode);
+        criteria.setFuzzy(fuzzy);
+        
+        if (fields != null && !fields.trim().isEmpty()) {
+            criteria.setFields(parseFields(fields));
+        }
         
         if (difficulty != null && !difficulty.trim().isEmpty()) {
             criteria.setDifficulty(Difficulty.valueOf(difficulty.toUpperCase()));
         }
         
         if (categoryIds != null && !categoryIds.trim().isEmpty()) {
-            List<Long> categoryIdList = parseCategoryIds(categoryIds);
+            List<Long> categoryIdList = parseIds(categoryIds);
             criteria.setCategoryIds(categoryIdList);
         }
         
-        RecipeListResponseData data = recipeService.getRecipes(criteria);
+        RecipeListResponseData data = recipeListCache.get(criteria, () -> recipeService.getRecipes(criteria));
         
-        return ResponseEntity.ok(ApiResponse.success("Recipes retrieved successfully", data));
+        return ResponseEntity.ok()
+                .eTag(listETag)
+                .cacheControl(REVALIDATE)
+                .body(ApiResponse.success("Recipes retrieved successfully", data));
     }
     
     private Map<String, String> validateQueryParameters(int page, int size, String sort, 
-                                                        String direction, String difficulty, String categoryIds) {
+                                                        String direction, String difficulty, String categoryIds,
+                                                        String cursor, String searchMode, boolean fuzzy,
+                                                        String fields) {
         Map<String, String> errors = new HashMap<>();
         
         if (page < 0) {
@@ -153,17 +234,70 @@ public class RecipeController {
         
         if (categoryIds != null && !categoryIds.trim().isEmpty()) {
             try {
-                parseCategoryIds(categoryIds);
+                parseIds(categoryIds);
             } catch (NumberFormatException e) {
                 errors.put("categoryIds", "Category IDs must be valid numbers");
             }
         }
         
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                if (!RecipeCursor.decode(cursor).matches(sort, direction)) {
+                    errors.put("cursor", "Cursor does not match the requested sort and direction");
+                }
+            } catch (IllegalArgumentException e) {
+                errors.put("cursor", "Cursor is invalid");
+            }
+        }
+        
+        if (!ALLOWED_SEARCH_MODES.contains(searchMode)) {
+            errors.put("searchMode", "Must be one of: contains, fulltext, prefix");
+        } else if ("fulltext".equals(searchMode) && cursor != null) {
+            errors.put("cursor", "Cursor pagination is not supported for full-text search");
+        }
+        
+        if (fuzzy && !"contains".equals(searchMode)) {
+            errors.put("fuzzy", "Fuzzy matching is only supported with searchMode=contains");
+        } else if (fuzzy && cursor != null) {
+            errors.put("cursor", "Cursor pagination is not supported for fuzzy search");
+        }
+        
+        if (fields != null && !fields.trim().isEmpty()
+                && !RecipeService.SUMMARY_FIELDS.containsAll(parseFields(fields))) {
+            errors.put("fields", "Must be a comma-separated subset of: " + String.join(", ", new TreeSet<>(RecipeService.SUMMARY_FIELDS)));
+        }
+        
         return errors;
     }
     
-    private List<Long> parseCategoryIds(String categoryIds) {
-        return Arrays.stream(categoryIds.split(","))
+    private Set<String> parseFields(String fields) {
+        Set<String> parsed = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toCollection(TreeSet::new));
+        parsed.add("id");
+        return parsed;
+    }
+    
+    private List<Long> parseBatchIds(String ids, int maxIds) {
+        List<Long> recipeIds;
+        try {
+            recipeIds = parseIds(ids);
+        } catch (NumberFormatException e) {
+            throw new QueryParameterValidationException(Map.of("ids", "Recipe IDs must be valid numbers"));
+        }
+        if (recipeIds.isEmpty()) {
+            throw new QueryParameterValidationException(Map.of("ids", "At least one recipe ID is required"));
+        }
+        if (recipeIds.size() > maxIds) {
+            throw new QueryParameterValidationException(Map.of("ids", "At most " + maxIds + " recipe IDs are allowed"));
+        }
+        
+        return recipeIds;
+    }
+    
+    private List<Long> parseIds(String ids) {
+        return Arrays.stream(ids.split(","))
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
                 .map(Long::parseLong)
@@ -0,0 +1,36 @@
+package com.recipenotebook.controller;
+
+import com.recipenotebook.service.RecipeExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class RecipeExportController {
+    
+    private final RecipeExportService recipeExportService;
+    
+    @GetMapping(path = "/api/v1/recipes/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportRecipes(
+            @RequestHeader("X-User-Id") Long userId,
+            HttpServletResponse response) throws IOException {
+        
+        log.debug("Received export request from user: {}", userId);
+        
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"recipes.ndjson\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        
+        recipeExportService.exportRecipes(userId, response.getOutputStream());
+    }
+}
@@ -0,0 +1,32 @@
+package com.recipenotebook.controller;
+
+import com.recipenotebook.dto.ApiResponse;
+import com.recipenotebook.dto.RecipeFacetsResponseData;
+import com.recipenotebook.service.RecipeFacetService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/recipes/facets")
+@RequiredArgsConstructor
+@Slf4j
+public class RecipeFacetController {
+    
+    private final RecipeFacetService recipeFacetService;
+    
+    @GetMapping
+    public ResponseEntity<ApiResponse<RecipeFacetsResponseData>> getFacets(
+            @RequestHeader("X-User-Id") Long userId) {
+        
+        log.debug("Received facet counts request from user: {}", userId);
+        
+        RecipeFacetsResponseData data = recipeFacetService.getFacets(userId);
+        
+        return ResponseEntity.ok(ApiResponse.success("Recipe facets retrieved successfully", data));
+    }
+}
@@ -0,0 +1,36 @@
+package com.recipenotebook.controller;
+
+import com.recipenotebook.dto.ApiResponse;
+import com.recipenotebook.dto.BulkImportResponseData;
+import com.recipenotebook.service.RecipeImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class RecipeImportController {
+    
+    private final RecipeImportService recipeImportService;
+    
+    @PostMapping(
+        path = "/api/v1/recipes:bulk",
+        consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<BulkImportResponseData>> importRecipes(
+            InputStream body,
+            @RequestHeader("X-User-Id") Long userId) {
+        
+        log.debug("Received bulk import request from user: {}", userId);
+        
+        BulkImportResponseData data = recipeImportService.importRecipes(body, userId);
+        
+        return ResponseEntity.ok(ApiResponse.success("Bulk import completed", data));
+    }
+}
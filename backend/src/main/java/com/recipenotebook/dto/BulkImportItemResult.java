@@ -0,0 +1,27 @@
+package com.recipenotebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportItemResult {
+    private int index;
+    private String status;
+    private Long recipeId;
+    private Map<String, String> errors;
+    
+    public static BulkImportItemResult created(int index, Long recipeId) {
+        return new BulkImportItemResult(index, "created", recipeId, null);
+    }
+    
+    public static BulkImportItemResult failed(int index, Map<String, String> errors) {
+        return new BulkImportItemResult(index, "failed", null, errors);
+    }
+}
@@ -0,0 +1,20 @@
+package com.recipenotebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponseData {
+    private int received;
+    private int created;
+    private int failed;
+    private String error;
+    private List<BulkImportItemResult> results;
+}
@@ -0,0 +1,22 @@
+package com.recipenotebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDTO {
+    private Integer size;
+    private Integer maxEntries;
+    private Long ttlSeconds;
+    private Long hits;
+    private Long misses;
+    private Double hitRate;
+    private Long evictions;
+    private Long expirations;
+    private Long invalidations;
+}
@@ -0,0 +1,16 @@
+package com.recipenotebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDTO {
+    private String value;
+    private String label;
+    private long count;
+}
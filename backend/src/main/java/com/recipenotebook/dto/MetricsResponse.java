@@ -0,0 +1,17 @@
+package com.recipenotebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricsResponse {
+    private Map<String, CacheStatsDTO> caches;
+    private PasswordHashingStatsDTO passwordHashing;
+}
@@ -16,4 +16,5 @@ public class PaginationDTO {
     private Integer pageSize;
     private Boolean hasNext;
     private Boolean hasPrevious;
+    private String nextCursor;
 }
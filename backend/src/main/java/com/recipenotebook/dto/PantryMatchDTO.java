@@ -0,0 +1,21 @@
+package com.recipenotebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PantryMatchDTO {
+    private Long recipeId;
+    private String title;
+    private Integer matchedIngredients;
+    private Integer totalIngredients;
+    private Double coverage;
+    private List<String> missingIngredients;
+}
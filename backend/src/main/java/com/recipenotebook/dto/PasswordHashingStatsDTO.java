@@ -0,0 +1,22 @@
+package com.recipenotebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordHashingStatsDTO {
+    private Integer threads;
+    private Integer activeThreads;
+    private Integer queueDepth;
+    private Integer queueCapacity;
+    private Long completed;
+    private Long rejected;
+    private Double averageHashMillis;
+    private Double maxHashMillis;
+    private Double averageQueueWaitMillis;
+}
@@ -0,0 +1,17 @@
+package com.recipenotebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeBatchDeleteResponseData {
+    private List<Long> deletedIds;
+    private List<Long> notFoundIds;
+}
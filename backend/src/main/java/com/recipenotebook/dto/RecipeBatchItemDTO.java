@@ -0,0 +1,24 @@
+package com.recipenotebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeBatchItemDTO {
+    private Long id;
+    private boolean found;
+    private RecipeDetailDTO recipe;
+    
+    public static RecipeBatchItemDTO found(RecipeDetailDTO recipe) {
+        return new RecipeBatchItemDTO(recipe.getId(), true, recipe);
+    }
+    
+    public static RecipeBatchItemDTO notFound(Long id) {
+        return new RecipeBatchItemDTO(id, false, null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.recipenotebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeFacetsResponseData {
+    private List<FacetCountDTO> categories;
+    private List<FacetCountDTO> difficulties;
+    private List<FacetCountDTO> cookingTimes;
+}
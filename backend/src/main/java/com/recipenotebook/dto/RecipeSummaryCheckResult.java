@@ -0,0 +1,23 @@
+package com.recipenotebook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeSummaryCheckResult {
+    private long checked;
+    private List<Long> missingIds;
+    private List<Long> staleIds;
+    private List<Long> orphanedIds;
+    
+    public boolean isConsistent() {
+        return missingIds.isEmpty() && staleIds.isEmpty() && orphanedIds.isEmpty();
+    }
+}
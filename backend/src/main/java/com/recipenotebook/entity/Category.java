@@ -1,5 +1,6 @@
 package com.recipenotebook.entity;
 
+import com.recipenotebook.service.CategoryChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -8,6 +9,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "categories")
+@EntityListeners(CategoryChangeListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,7 +17,8 @@ import lombok.Setter;
 public class Category {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_seq")
+    @SequenceGenerator(name = "categories_seq", sequenceName = "categories_seq", allocationSize = IdBlocks.SIZE)
     private Long id;
     
     @Column(nullable = false, unique = true, length = 50)
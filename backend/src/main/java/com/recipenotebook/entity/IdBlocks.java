@@ -0,0 +1,9 @@
+package com.recipenotebook.entity;
+
+public final class IdBlocks {
+    
+    public static final int SIZE = 50;
+    
+    private IdBlocks() {
+    }
+}
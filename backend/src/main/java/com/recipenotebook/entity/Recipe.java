@@ -1,10 +1,13 @@
 package com.recipenotebook.entity;
 
+import com.recipenotebook.util.TextNormalizer;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -19,7 +22,8 @@ import java.util.List;
 public class Recipe {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipes_seq")
+    @SequenceGenerator(name = "recipes_seq", sequenceName = "recipes_seq", allocationSize = IdBlocks.SIZE)
     private Long id;
     
     @Column(name = "user_id", nullable = false)
@@ -28,6 +32,9 @@ public class Recipe {
     @Column(nullable = false, length = 100)
     private String title;
     
+    @Column(name = "normalized_title", nullable = false, length = 200)
+    private String normalizedTitle;
+    
     @Column(nullable = false, length = 10)
     @Enumerated(EnumType.STRING)
     private Difficulty difficulty;
@@ -42,6 +49,7 @@ public class Recipe {
     private List<Step> steps = new ArrayList<>();
     
     @ManyToMany
+    @OnDelete(action = OnDeleteAction.CASCADE)
     @JoinTable(
         name = "recipe_categories",
         joinColumns = @JoinColumn(name = "recipe_id"),
@@ -59,11 +67,13 @@ public class Recipe {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        normalizedTitle = TextNormalizer.normalize(title);
     }
     
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        normalizedTitle = TextNormalizer.normalize(title);
     }
     
     public void addIngredient(Ingredient ingredient) {
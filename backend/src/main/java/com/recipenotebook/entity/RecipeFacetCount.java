@@ -0,0 +1,46 @@
+package com.recipenotebook.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "recipe_facet_counts")
+@IdClass(RecipeFacetCount.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeFacetCount {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Id
+    @Column(nullable = false, length = 20)
+    private String facet;
+    
+    @Id
+    @Column(name = "facet_value", nullable = false, length = 50)
+    private String facetValue;
+    
+    @Column(name = "recipe_count", nullable = false)
+    private Long recipeCount;
+    
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long userId;
+        private String facet;
+        private String facetValue;
+    }
+}
@@ -0,0 +1,60 @@
+package com.recipenotebook.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "recipe_summaries", indexes = {
+    @Index(name = "idx_recipe_summaries_user_title", columnList = "user_id, title, recipe_id"),
+    @Index(name = "idx_recipe_summaries_user_title_desc", columnList = "user_id, title desc, recipe_id desc"),
+    @Index(name = "idx_recipe_summaries_user_cooking_time", columnList = "user_id, cooking_time_minutes, recipe_id"),
+    @Index(name = "idx_recipe_summaries_user_cooking_time_desc", columnList = "user_id, cooking_time_minutes desc, recipe_id desc"),
+    @Index(name = "idx_recipe_summaries_user_created_at", columnList = "user_id, created_at, recipe_id"),
+    @Index(name = "idx_recipe_summaries_user_created_at_desc", columnList = "user_id, created_at desc, recipe_id desc"),
+    @Index(name = "idx_recipe_summaries_user_updated_at", columnList = "user_id, updated_at, recipe_id"),
+    @Index(name = "idx_recipe_summaries_user_updated_at_desc", columnList = "user_id, updated_at desc, recipe_id desc"),
+    @Index(name = "idx_recipe_summaries_user_normalized_title", columnList = "user_id, normalized_title, recipe_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeSummary {
+    
+    @Id
+    @Column(name = "recipe_id")
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(nullable = false, length = 100)
+    private String title;
+    
+    @Column(name = "normalized_title", nullable = false, length = 200)
+    private String normalizedTitle;
+    
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private Difficulty difficulty;
+    
+    @Column(name = "cooking_time_minutes", nullable = false)
+    private Integer cookingTimeMinutes;
+    
+    @Column(name = "category_ids", nullable = false, length = 1000)
+    private String categoryIds;
+    
+    @Column(nullable = false, length = 4000)
+    private String categories;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
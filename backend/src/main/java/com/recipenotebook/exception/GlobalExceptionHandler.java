@@ -69,6 +69,26 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("Recipe not found", null));
     }
     
+    @ExceptionHandler(IndexNotReadyException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIndexNotReady(
+            IndexNotReadyException ex) {
+        
+        log.warn("Index not ready: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "5")
+                .body(ApiResponse.error("Search indexes are warming up, please retry shortly", null));
+    }
+    
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePasswordHashingUnavailable(
+            PasswordHashingUnavailableException ex) {
+        
+        log.warn("Password hashing unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(ApiResponse.error("Authentication is busy, please retry shortly", null));
+    }
+    
     @ExceptionHandler(UsernameAlreadyExistsException.class)
     public ResponseEntity<ApiResponse<Void>> handleUsernameExists(
             UsernameAlreadyExistsException ex) {
@@ -0,0 +1,172 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.util.TextNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class AutocompleteIndex implements RecipeIndex {
+    
+    public enum Field {
+        TITLE, INGREDIENT, UNIT
+    }
+    
+    private final Map<Long, UserTitles> users = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock dictionaryLock = new ReentrantReadWriteLock();
+    private final Map<Long, DictionaryTerms> termsByRecipeId = new HashMap<>();
+    private WeightedRadixTree ingredients = new WeightedRadixTree();
+    private WeightedRadixTree units = new WeightedRadixTree();
+    
+    @Override
+    public void upsert(RecipeDocument document) {
+        UserTitles titles = users.computeIfAbsent(document.getUserId(), id -> new UserTitles());
+        titles.lock.writeLock().lock();
+        try {
+            String previous = titles.byRecipeId.put(document.getRecipeId(), document.getTitle());
+            if (previous != null) {
+                removeTerm(titles.tree, previous);
+            }
+            addTerm(titles.tree, document.getTitle());
+        } finally {
+            titles.lock.writeLock().unlock();
+        }
+        
+        DictionaryTerms terms = new DictionaryTerms(
+            dictionaryValues(document.getIngredientNames()),
+            dictionaryValues(document.getIngredientUnits())
+        );
+        dictionaryLock.writeLock().lock();
+        try {
+            DictionaryTerms previous = termsByRecipeId.put(document.getRecipeId(), terms);
+            if (previous != null) {
+                previous.ingredients.forEach(value -> removeTerm(ingredients, value));
+                previous.units.forEach(value -> removeTerm(units, value));
+            }
+            terms.ingredients.forEach(value -> addTerm(ingredients, value));
+            terms.units.forEach(value -> addTerm(units, value));
+        } finally {
+            dictionaryLock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long userId, Long recipeId) {
+        UserTitles titles = users.get(userId);
+        if (titles != null) {
+            titles.lock.writeLock().lock();
+            try {
+                String previous = titles.byRecipeId.remove(recipeId);
+                if (previous != null) {
+                    removeTerm(titles.tree, previous);
+                }
+            } finally {
+                titles.lock.writeLock().unlock();
+            }
+        }
+        
+        dictionaryLock.writeLock().lock();
+        try {
+            DictionaryTerms previous = termsByRecipeId.remove(recipeId);
+            if (previous != null) {
+                previous.ingredients.forEach(value -> removeTerm(ingredients, value));
+                previous.units.forEach(value -> removeTerm(units, value));
+            }
+        } finally {
+            dictionaryLock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        users.clear();
+        dictionaryLock.writeLock().lock();
+        try {
+            termsByRecipeId.clear();
+            ingredients = new WeightedRadixTree();
+            units = new WeightedRadixTree();
+        } finally {
+            dictionaryLock.writeLock().unlock();
+        }
+    }
+    
+    public List<Suggestion> suggest(Long userId, Field field, String prefix, int limit) {
+        String normalized = TextNormalizer.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        if (field == Field.TITLE) {
+            UserTitles titles = users.get(userId);
+            if (titles == null) {
+                return new ArrayList<>();
+            }
+            titles.lock.readLock().lock();
+            try {
+                return titles.tree.top(normalized, limit);
+            } finally {
+                titles.lock.readLock().unlock();
+            }
+        }
+        
+        dictionaryLock.readLock().lock();
+        try {
+            return (field == Field.INGREDIENT ? ingredients : units).top(normalized, limit);
+        } finally {
+            dictionaryLock.readLock().unlock();
+        }
+    }
+    
+    private static void addTerm(WeightedRadixTree tree, String value) {
+        wordStarts(value).forEach(key -> tree.add(key, value));
+    }
+    
+    private static void removeTerm(WeightedRadixTree tree, String value) {
+        wordStarts(value).forEach(key -> tree.remove(key, value));
+    }
+    
+    private static Set<String> wordStarts(String text) {
+        String normalized = TextNormalizer.normalize(text);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+    
+    private static Set<String> dictionaryValues(List<String> texts) {
+        Set<String> values = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text != null && !text.isBlank()) {
+                values.add(text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT));
+            }
+        }
+        return values;
+    }
+    
+    private static class UserTitles {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, String> byRecipeId = new HashMap<>();
+        private final WeightedRadixTree tree = new WeightedRadixTree();
+    }
+    
+    private static class DictionaryTerms {
+        private final Set<String> ingredients;
+        private final Set<String> units;
+        
+        private DictionaryTerms(Set<String> ingredients, Set<String> units) {
+            this.ingredients = ingredients;
+            this.units = units;
+        }
+    }
+}
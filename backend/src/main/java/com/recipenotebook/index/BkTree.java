@@ -0,0 +1,148 @@
+package com.recipenotebook.index;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+class BkTree {
+    
+    private Node root;
+    private int size;
+    private int removed;
+    
+    void add(String term) {
+        if (root == null) {
+            root = new Node(term);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                if (node.removed) {
+                    node.removed = false;
+                    removed--;
+                    size++;
+                }
+                return;
+            }
+            Node child = node.child(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(term));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+    
+    void remove(String term) {
+        Node node = root;
+        while (node != null) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                if (!node.removed) {
+                    node.removed = true;
+                    removed++;
+                    size--;
+                }
+                return;
+            }
+            node = node.child(distance);
+        }
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    int removed() {
+        return removed;
+    }
+    
+    Map<String, Integer> search(String query, int maxDistance) {
+        Map<String, Integer> matches = new HashMap<>();
+        if (root == null) {
+            return matches;
+        }
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int limit = Math.max(maxDistance, node.children.length - 1 + maxDistance);
+            int distance = distance(query, node.term, limit);
+            if (distance <= maxDistance && !node.removed) {
+                matches.put(node.term, distance);
+            }
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int i = from; i <= to; i++) {
+                if (node.children[i] != null) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+        return matches;
+    }
+    
+    static int distance(String a, String b) {
+        return distance(a, b, Integer.MAX_VALUE);
+    }
+    
+    static int distance(String a, String b, int limit) {
+        if (a.equals(b)) {
+            return 0;
+        }
+        if (Math.abs(a.length() - b.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+    
+    private static final class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+        
+        private final String term;
+        private Node[] children = NO_CHILDREN;
+        private boolean removed;
+        
+        private Node(String term) {
+            this.term = term;
+        }
+        
+        private Node child(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+        
+        private void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
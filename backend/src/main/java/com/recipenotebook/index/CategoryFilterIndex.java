@@ -0,0 +1,178 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.util.TextNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class CategoryFilterIndex implements RecipeIndex {
+    
+    private final Map<Long, UserBitmaps> users = new ConcurrentHashMap<>();
+    
+    @Override
+    public void upsert(RecipeDocument document) {
+        UserBitmaps bitmaps = users.computeIfAbsent(document.getUserId(), id -> new UserBitmaps());
+        bitmaps.lock.writeLock().lock();
+        try {
+            bitmaps.remove(document.getRecipeId());
+            bitmaps.add(document);
+        } finally {
+            bitmaps.lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long userId, Long recipeId) {
+        UserBitmaps bitmaps = users.get(userId);
+        if (bitmaps == null) {
+            return;
+        }
+        bitmaps.lock.writeLock().lock();
+        try {
+            bitmaps.remove(recipeId);
+        } finally {
+            bitmaps.lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        users.clear();
+    }
+    
+    public FilteredRecipeIds filter(Long userId, List<Long> categoryIds, Difficulty difficulty, String titleQuery,
+                                    String sortField, boolean descending, int limit) {
+        UserBitmaps bitmaps = users.get(userId);
+        if (bitmaps == null) {
+            return new FilteredRecipeIds(new ArrayList<>(), 0);
+        }
+        
+        String needle = TextNormalizer.normalize(titleQuery);
+        Comparator<RecipeDocument> order = sortOrder(sortField);
+        if (descending) {
+            order = order.reversed();
+        }
+        PriorityQueue<RecipeDocument> leading = new PriorityQueue<>(order.reversed());
+        int totalMatches = 0;
+        
+        bitmaps.lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) bitmaps.live.clone();
+            if (categoryIds != null && !categoryIds.isEmpty()) {
+                BitSet anyCategory = new BitSet();
+                for (Long categoryId : categoryIds) {
+                    BitSet recipes = bitmaps.byCategory.get(categoryId);
+                    if (recipes != null) {
+                        anyCategory.or(recipes);
+                    }
+                }
+                result.and(anyCategory);
+            }
+            if (difficulty != null) {
+                BitSet recipes = bitmaps.byDifficulty.get(difficulty);
+                if (recipes == null) {
+                    return new FilteredRecipeIds(new ArrayList<>(), 0);
+                }
+                result.and(recipes);
+            }
+            
+            for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+                RecipeDocument document = bitmaps.documents.get(slot);
+                if (!needle.isEmpty() && !document.getNormalizedTitle().contains(needle)) {
+                    continue;
+                }
+                totalMatches++;
+                if (leading.size() < limit) {
+                    leading.add(document);
+                } else if (limit > 0 && order.compare(document, leading.peek()) < 0) {
+                    leading.poll();
+                    leading.add(document);
+                }
+            }
+        } finally {
+            bitmaps.lock.readLock().unlock();
+        }
+        
+        List<RecipeDocument> matches = new ArrayList<>(leading);
+        matches.sort(order);
+        
+        List<Long> ids = new ArrayList<>(matches.size());
+        matches.forEach(document -> ids.add(document.getRecipeId()));
+        return new FilteredRecipeIds(ids, totalMatches);
+    }
+    
+    private static Comparator<RecipeDocument> sortOrder(String sortField) {
+        Comparator<RecipeDocument> primary = switch (sortField) {
+            case "title" -> Comparator.comparing(RecipeDocument::getTitle);
+            case "cookingTimeMinutes" -> Comparator.comparing(RecipeDocument::getCookingTimeMinutes);
+            case "createdAt" -> Comparator.comparing(RecipeDocument::getCreatedAt,
+                Comparator.nullsLast(Comparator.naturalOrder()));
+            case "updatedAt" -> Comparator.comparing(RecipeDocument::getUpdatedAt,
+                Comparator.nullsLast(Comparator.naturalOrder()));
+            default -> throw new IllegalArgumentException("Unsupported sort field: " + sortField);
+        };
+        return primary.thenComparing(RecipeDocument::getRecipeId);
+    }
+    
+    private static class UserBitmaps {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final List<RecipeDocument> documents = new ArrayList<>();
+        private final Map<Long, Integer> slotsByRecipeId = new HashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final BitSet live = new BitSet();
+        private final Map<Long, BitSet> byCategory = new HashMap<>();
+        private final Map<Difficulty, BitSet> byDifficulty = new EnumMap<>(Difficulty.class);
+        
+        private void add(RecipeDocument document) {
+            int slot;
+            if (freeSlots.isEmpty()) {
+                slot = documents.size();
+                documents.add(document);
+            } else {
+                slot = freeSlots.pop();
+                documents.set(slot, document);
+            }
+            slotsByRecipeId.put(document.getRecipeId(), slot);
+            live.set(slot);
+            for (Long categoryId : document.getCategoryIds()) {
+                byCategory.computeIfAbsent(categoryId, id -> new BitSet()).set(slot);
+            }
+            if (document.getDifficulty() != null) {
+                byDifficulty.computeIfAbsent(document.getDifficulty(), d -> new BitSet()).set(slot);
+            }
+        }
+        
+        private void remove(Long recipeId) {
+            Integer slot = slotsByRecipeId.remove(recipeId);
+            if (slot == null) {
+                return;
+            }
+            RecipeDocument document = documents.set(slot, null);
+            freeSlots.push(slot);
+            live.clear(slot);
+            for (Long categoryId : document.getCategoryIds()) {
+                BitSet recipes = byCategory.get(categoryId);
+                recipes.clear(slot);
+                if (recipes.isEmpty()) {
+                    byCategory.remove(categoryId);
+                }
+            }
+            if (document.getDifficulty() != null) {
+                byDifficulty.get(document.getDifficulty()).clear(slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.recipenotebook.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class FilteredRecipeIds {
+    private List<Long> recipeIds;
+    private int totalMatches;
+}
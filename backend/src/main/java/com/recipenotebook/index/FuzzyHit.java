@@ -0,0 +1,12 @@
+package com.recipenotebook.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FuzzyHit {
+    private Long recipeId;
+    private int distance;
+    private int score;
+}
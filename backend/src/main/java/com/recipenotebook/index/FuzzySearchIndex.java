@@ -0,0 +1,212 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.util.TextNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class FuzzySearchIndex implements RecipeIndex {
+    
+    private static final int TITLE_WEIGHT = 3;
+    private static final int INGREDIENT_WEIGHT = 2;
+    private static final int MIN_COMPACTION_SIZE = 1024;
+    
+    private final Map<Long, UserIndex> users = new ConcurrentHashMap<>();
+    
+    @Override
+    public void upsert(RecipeDocument document) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        addTerms(termWeights, document.getTitle(), TITLE_WEIGHT);
+        document.getIngredientNames().forEach(name -> addTerms(termWeights, name, INGREDIENT_WEIGHT));
+        
+        UserIndex userIndex = users.computeIfAbsent(document.getUserId(), id -> new UserIndex());
+        userIndex.lock.writeLock().lock();
+        try {
+            userIndex.removeDocument(document.getRecipeId());
+            userIndex.addDocument(document, termWeights);
+        } finally {
+            userIndex.lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long userId, Long recipeId) {
+        UserIndex userIndex = users.get(userId);
+        if (userIndex == null) {
+            return;
+        }
+        userIndex.lock.writeLock().lock();
+        try {
+            userIndex.removeDocument(recipeId);
+        } finally {
+            userIndex.lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        users.clear();
+    }
+    
+    public List<FuzzyHit> search(Long userId, String query, List<Long> categoryIds, Difficulty difficulty) {
+        UserIndex userIndex = users.get(userId);
+        Set<String> queryTerms = new LinkedHashSet<>(TextNormalizer.tokenize(query));
+        if (userIndex == null || queryTerms.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        int missPenalty = queryTerms.stream().mapToInt(term -> maxEdits(term) + 1).sum();
+        
+        Map<Long, Accumulator> accumulators = new HashMap<>();
+        userIndex.lock.readLock().lock();
+        try {
+            for (String queryTerm : queryTerms) {
+                int allowed = maxEdits(queryTerm);
+                Map<Long, Match> bestMatches = new HashMap<>();
+                userIndex.vocabulary.search(queryTerm, allowed).forEach((term, distance) -> {
+                    for (Map.Entry<Long, Integer> posting : userIndex.postings.get(term).entrySet()) {
+                        bestMatches.merge(posting.getKey(), new Match(distance, posting.getValue()), Match::better);
+                    }
+                });
+                
+                for (Map.Entry<Long, Match> entry : bestMatches.entrySet()) {
+                    IndexedDocument document = userIndex.documents.get(entry.getKey());
+                    if (!document.matches(categoryIds, difficulty)) {
+                        continue;
+                    }
+                    Accumulator accumulator = accumulators.computeIfAbsent(entry.getKey(), id -> new Accumulator(missPenalty));
+                    accumulator.distance -= allowed + 1 - entry.getValue().distance;
+                    accumulator.score += entry.getValue().weight;
+                }
+            }
+        } finally {
+            userIndex.lock.readLock().unlock();
+        }
+        
+        List<FuzzyHit> hits = new ArrayList<>(accumulators.size());
+        accumulators.forEach((recipeId, accumulator) ->
+            hits.add(new FuzzyHit(recipeId, accumulator.distance, accumulator.score)));
+        hits.sort(Comparator.comparingInt(FuzzyHit::getDistance)
+            .thenComparing(Comparator.comparingInt(FuzzyHit::getScore).reversed())
+            .thenComparing(FuzzyHit::getRecipeId));
+        return hits;
+    }
+    
+    static int maxEdits(String term) {
+        if (term.length() <= 2) {
+            return 0;
+        }
+        return term.length() <= 5 ? 1 : 2;
+    }
+    
+    private static void addTerms(Map<String, Integer> termWeights, String text, int weight) {
+        for (String token : TextNormalizer.tokenize(text)) {
+            termWeights.merge(token, weight, Integer::sum);
+        }
+    }
+    
+    private static class UserIndex {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, IndexedDocument> documents = new HashMap<>();
+        private BkTree vocabulary = new BkTree();
+        
+        private void addDocument(RecipeDocument document, Map<String, Integer> termWeights) {
+            for (Map.Entry<String, Integer> entry : termWeights.entrySet()) {
+                Map<Long, Integer> termPostings = postings.get(entry.getKey());
+                if (termPostings == null) {
+                    termPostings = new HashMap<>();
+                    postings.put(entry.getKey(), termPostings);
+                    vocabulary.add(entry.getKey());
+                }
+                termPostings.put(document.getRecipeId(), entry.getValue());
+            }
+            documents.put(document.getRecipeId(), new IndexedDocument(
+                termWeights.keySet(),
+                new HashSet<>(document.getCategoryIds()),
+                document.getDifficulty()
+            ));
+        }
+        
+        private void removeDocument(Long recipeId) {
+            IndexedDocument existing = documents.remove(recipeId);
+            if (existing == null) {
+                return;
+            }
+            for (String term : existing.terms) {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(recipeId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                        vocabulary.remove(term);
+                    }
+                }
+            }
+            if (vocabulary.removed() > MIN_COMPACTION_SIZE && vocabulary.removed() > vocabulary.size()) {
+                BkTree compacted = new BkTree();
+                postings.keySet().forEach(compacted::add);
+                vocabulary = compacted;
+            }
+        }
+    }
+    
+    private static class IndexedDocument {
+        private final Set<String> terms;
+        private final Set<Long> categoryIds;
+        private final Difficulty difficulty;
+        
+        private IndexedDocument(Set<String> terms, Set<Long> categoryIds, Difficulty difficulty) {
+            this.terms = terms;
+            this.categoryIds = categoryIds;
+            this.difficulty = difficulty;
+        }
+        
+        private boolean matches(List<Long> requiredCategoryIds, Difficulty requiredDifficulty) {
+            if (requiredDifficulty != null && requiredDifficulty != difficulty) {
+                return false;
+            }
+            if (requiredCategoryIds == null || requiredCategoryIds.isEmpty()) {
+                return true;
+            }
+            return requiredCategoryIds.stream().anyMatch(categoryIds::contains);
+        }
+    }
+    
+    private static class Match {
+        private final int distance;
+        private final int weight;
+        
+        private Match(int distance, int weight) {
+            this.distance = distance;
+            this.weight = weight;
+        }
+        
+        private static Match better(Match a, Match b) {
+            if (a.distance != b.distance) {
+                return a.distance < b.distance ? a : b;
+            }
+            return a.weight >= b.weight ? a : b;
+        }
+    }
+    
+    private static class Accumulator {
+        private int distance;
+        private int score;
+        
+        private Accumulator(int distance) {
+            this.distance = distance;
+        }
+    }
+}
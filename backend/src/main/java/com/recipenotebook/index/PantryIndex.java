@@ -0,0 +1,245 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.util.TextNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class PantryIndex implements RecipeIndex {
+    
+    private static final Comparator<PantryMatch> RANKING = Comparator
+        .comparingDouble(PantryMatch::getCoverage).reversed()
+        .thenComparingInt(match -> match.getMissingIngredients().size())
+        .thenComparing(PantryMatch::getRecipeId);
+    
+    private final Map<Long, UserPantry> users = new ConcurrentHashMap<>();
+    
+    public static String ingredientKey(String name) {
+        String normalized = TextNormalizer.normalize(name);
+        int cut = normalized.length();
+        for (char separator : new char[] {',', '('}) {
+            int position = normalized.indexOf(separator);
+            if (position >= 0 && position < cut) {
+                cut = position;
+            }
+        }
+        return normalized.substring(0, cut).trim();
+    }
+    
+    @Override
+    public void upsert(RecipeDocument document) {
+        Map<String, String> ingredients = new LinkedHashMap<>();
+        for (String name : document.getIngredientNames()) {
+            String key = ingredientKey(name);
+            if (!key.isEmpty()) {
+                ingredients.putIfAbsent(key, name);
+            }
+        }
+        
+        UserPantry pantry = users.computeIfAbsent(document.getUserId(), id -> new UserPantry());
+        pantry.lock.writeLock().lock();
+        try {
+            pantry.remove(document.getRecipeId());
+            pantry.add(new PantryEntry(document.getRecipeId(), document.getTitle(), ingredients));
+        } finally {
+            pantry.lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long userId, Long recipeId) {
+        UserPantry pantry = users.get(userId);
+        if (pantry == null) {
+            return;
+        }
+        pantry.lock.writeLock().lock();
+        try {
+            pantry.remove(recipeId);
+        } finally {
+            pantry.lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        users.clear();
+    }
+    
+    public List<PantryMatch> findCookable(Long userId, List<String> pantryItems, boolean requireAll, int limit) {
+        UserPantry pantry = users.get(userId);
+        Set<String> items = new LinkedHashSet<>();
+        for (String item : pantryItems) {
+            String key = ingredientKey(item);
+            if (!key.isEmpty()) {
+                items.add(key);
+            }
+        }
+        if (pantry == null || items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        pantry.lock.readLock().lock();
+        try {
+            Set<String> matchedKeys = new HashSet<>();
+            BitSet required = null;
+            for (String item : items) {
+                Set<String> keys = pantry.resolve(item);
+                matchedKeys.addAll(keys);
+                if (requireAll) {
+                    BitSet itemRecipes = new BitSet();
+                    keys.forEach(key -> itemRecipes.or(pantry.recipesByIngredient.get(key)));
+                    if (required == null) {
+                        required = itemRecipes;
+                    } else {
+                        required.and(itemRecipes);
+                    }
+                }
+            }
+            
+            int[] matchedCounts = new int[pantry.entries.size()];
+            for (String key : matchedKeys) {
+                BitSet recipes = pantry.recipesByIngredient.get(key);
+                for (int slot = recipes.nextSetBit(0); slot >= 0; slot = recipes.nextSetBit(slot + 1)) {
+                    matchedCounts[slot]++;
+                }
+            }
+            
+            Comparator<Integer> ranking = Comparator
+                .comparingDouble((Integer slot) -> (double) matchedCounts[slot] / pantry.entries.get(slot).ingredients.size())
+                .thenComparingInt(slot -> matchedCounts[slot] - pantry.entries.get(slot).ingredients.size())
+                .thenComparing(slot -> pantry.entries.get(slot).recipeId, Comparator.reverseOrder());
+            PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, ranking);
+            for (int slot = 0; slot < matchedCounts.length; slot++) {
+                if (matchedCounts[slot] == 0 || (required != null && !required.get(slot))) {
+                    continue;
+                }
+                top.add(slot);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            
+            List<PantryMatch> matches = new ArrayList<>(top.size());
+            for (Integer slot : top) {
+                matches.add(pantry.entries.get(slot).toMatch(matchedCounts[slot], matchedKeys));
+            }
+            matches.sort(RANKING);
+            return matches;
+        } finally {
+            pantry.lock.readLock().unlock();
+        }
+    }
+    
+    private static class UserPantry {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final List<PantryEntry> entries = new ArrayList<>();
+        private final Map<Long, Integer> slotsByRecipeId = new HashMap<>();
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+        private final Map<String, BitSet> recipesByIngredient = new HashMap<>();
+        private final Map<String, Set<String>> ingredientsByToken = new HashMap<>();
+        
+        private void add(PantryEntry entry) {
+            int slot;
+            if (freeSlots.isEmpty()) {
+                slot = entries.size();
+                entries.add(entry);
+            } else {
+                slot = freeSlots.pop();
+                entries.set(slot, entry);
+            }
+            slotsByRecipeId.put(entry.recipeId, slot);
+            
+            for (String key : entry.ingredients.keySet()) {
+                recipesByIngredient.computeIfAbsent(key, k -> {
+                    TextNormalizer.tokenize(k).forEach(token ->
+                        ingredientsByToken.computeIfAbsent(token, t -> new HashSet<>()).add(k));
+                    return new BitSet();
+                }).set(slot);
+            }
+        }
+        
+        private void remove(Long recipeId) {
+            Integer slot = slotsByRecipeId.remove(recipeId);
+            if (slot == null) {
+                return;
+            }
+            PantryEntry entry = entries.set(slot, null);
+            freeSlots.push(slot);
+            
+            for (String key : entry.ingredients.keySet()) {
+                BitSet recipes = recipesByIngredient.get(key);
+                recipes.clear(slot);
+                if (recipes.isEmpty()) {
+                    recipesByIngredient.remove(key);
+                    for (String token : TextNormalizer.tokenize(key)) {
+                        Set<String> keys = ingredientsByToken.get(token);
+                        if (keys != null) {
+                            keys.remove(key);
+                            if (keys.isEmpty()) {
+                                ingredientsByToken.remove(token);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        
+        private Set<String> resolve(String item) {
+            Set<String> keys = new HashSet<>();
+            if (recipesByIngredient.containsKey(item)) {
+                keys.add(item);
+            }
+            List<String> tokens = TextNormalizer.tokenize(item);
+            if (tokens.isEmpty()) {
+                return keys;
+            }
+            Set<String> candidates = ingredientsByToken.get(tokens.get(0));
+            if (candidates == null) {
+                return keys;
+            }
+            for (String candidate : candidates) {
+                if (TextNormalizer.tokenize(candidate).containsAll(tokens)) {
+                    keys.add(candidate);
+                }
+            }
+            return keys;
+        }
+    }
+    
+    private static class PantryEntry {
+        private final Long recipeId;
+        private final String title;
+        private final Map<String, String> ingredients;
+        
+        private PantryEntry(Long recipeId, String title, Map<String, String> ingredients) {
+            this.recipeId = recipeId;
+            this.title = title;
+            this.ingredients = ingredients;
+        }
+        
+        private PantryMatch toMatch(int matched, Set<String> matchedKeys) {
+            List<String> missing = new ArrayList<>();
+            ingredients.forEach((key, name) -> {
+                if (!matchedKeys.contains(key)) {
+                    missing.add(name);
+                }
+            });
+            return new PantryMatch(recipeId, title, matched, ingredients.size(), missing);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.recipenotebook.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PantryMatch {
+    private Long recipeId;
+    private String title;
+    private int matchedIngredients;
+    private int totalIngredients;
+    private List<String> missingIngredients;
+    
+    public double getCoverage() {
+        return totalIngredients == 0 ? 0 : (double) matchedIngredients / totalIngredients;
+    }
+}
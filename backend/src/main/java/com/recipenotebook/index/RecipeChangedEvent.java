@@ -0,0 +1,27 @@
+package com.recipenotebook.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecipeChangedEvent {
+    
+    public enum Type {
+        UPSERTED,
+        DELETED
+    }
+    
+    private Type type;
+    private Long userId;
+    private Long recipeId;
+    private RecipeDocument document;
+    
+    public static RecipeChangedEvent upserted(RecipeDocument document) {
+        return new RecipeChangedEvent(Type.UPSERTED, document.getUserId(), document.getRecipeId(), document);
+    }
+    
+    public static RecipeChangedEvent deleted(Long userId, Long recipeId) {
+        return new RecipeChangedEvent(Type.DELETED, userId, recipeId, null);
+    }
+}
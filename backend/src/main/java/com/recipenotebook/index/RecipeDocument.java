@@ -0,0 +1,62 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.entity.Category;
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.entity.Ingredient;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.entity.Step;
+import com.recipenotebook.util.TextNormalizer;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+public class RecipeDocument {
+    private Long recipeId;
+    private Long userId;
+    private String title;
+    private String normalizedTitle;
+    private Difficulty difficulty;
+    private Integer cookingTimeMinutes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<Long> categoryIds;
+    private List<String> ingredientNames;
+    private List<String> ingredientUnits;
+    private List<String> stepInstructions;
+    
+    public RecipeDocument(Long recipeId, Long userId, String title, Difficulty difficulty, Integer cookingTimeMinutes,
+                          LocalDateTime createdAt, LocalDateTime updatedAt, List<Long> categoryIds,
+                          List<String> ingredientNames, List<String> ingredientUnits, List<String> stepInstructions) {
+        this.recipeId = recipeId;
+        this.userId = userId;
+        this.title = title;
+        this.normalizedTitle = TextNormalizer.normalize(title);
+        this.difficulty = difficulty;
+        this.cookingTimeMinutes = cookingTimeMinutes;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.categoryIds = categoryIds;
+        this.ingredientNames = ingredientNames;
+        this.ingredientUnits = ingredientUnits;
+        this.stepInstructions = stepInstructions;
+    }
+    
+    public static RecipeDocument from(Recipe recipe) {
+        return new RecipeDocument(
+            recipe.getId(),
+            recipe.getUserId(),
+            recipe.getTitle(),
+            recipe.getDifficulty(),
+            recipe.getCookingTimeMinutes(),
+            recipe.getCreatedAt(),
+            recipe.getUpdatedAt(),
+            recipe.getCategories().stream().map(Category::getId).collect(Collectors.toList()),
+            recipe.getIngredients().stream().map(Ingredient::getName).collect(Collectors.toList()),
+            recipe.getIngredients().stream().map(Ingredient::getUnit).collect(Collectors.toList()),
+            recipe.getSteps().stream().map(Step::getInstruction).collect(Collectors.toList())
+        );
+    }
+}
@@ -0,0 +1,76 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.repository.RecipeCategoryRow;
+import com.recipenotebook.repository.RecipeChildRow;
+import com.recipenotebook.repository.RecipeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class RecipeDocumentLoader {
+    
+    private final RecipeRepository recipeRepository;
+    
+    @Transactional(readOnly = true)
+    public List<RecipeDocument> loadBatchAfter(Long afterId, int batchSize) {
+        List<Recipe> recipes = recipeRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(batchSize));
+        if (recipes.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<Long> recipeIds = recipes.stream()
+            .map(Recipe::getId)
+            .collect(Collectors.toList());
+        
+        Map<Long, List<Long>> categoryIdsByRecipeId = recipeRepository.findCategoryRowsByRecipeIds(recipeIds)
+            .stream()
+            .collect(Collectors.groupingBy(
+                RecipeCategoryRow::getRecipeId,
+                Collectors.mapping(RecipeCategoryRow::getCategoryId, Collectors.toList())
+            ));
+        
+        Map<Long, List<RecipeChildRow>> childrenByRecipeId = recipeRepository.findChildRowsByRecipeIds(recipeIds)
+            .stream()
+            .collect(Collectors.groupingBy(RecipeChildRow::getRecipeId));
+        
+        return recipes.stream()
+            .map(recipe -> toDocument(
+                recipe,
+                categoryIdsByRecipeId.getOrDefault(recipe.getId(), new ArrayList<>()),
+                childrenByRecipeId.getOrDefault(recipe.getId(), new ArrayList<>())
+            ))
+            .collect(Collectors.toList());
+    }
+    
+    private RecipeDocument toDocument(Recipe recipe, List<Long> categoryIds, List<RecipeChildRow> children) {
+        List<RecipeChildRow> ingredients = children.stream()
+            .filter(RecipeChildRow::isIngredient)
+            .collect(Collectors.toList());
+        
+        return new RecipeDocument(
+            recipe.getId(),
+            recipe.getUserId(),
+            recipe.getTitle(),
+            recipe.getDifficulty(),
+            recipe.getCookingTimeMinutes(),
+            recipe.getCreatedAt(),
+            recipe.getUpdatedAt(),
+            categoryIds,
+            ingredients.stream().map(RecipeChildRow::getName).collect(Collectors.toList()),
+            ingredients.stream().map(RecipeChildRow::getUnit).collect(Collectors.toList()),
+            children.stream()
+                .filter(RecipeChildRow::isStep)
+                .map(RecipeChildRow::getInstruction)
+                .collect(Collectors.toList())
+        );
+    }
+}
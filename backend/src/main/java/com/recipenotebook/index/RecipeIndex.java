@@ -0,0 +1,10 @@
+package com.recipenotebook.index;
+
+public interface RecipeIndex {
+    
+    void upsert(RecipeDocument document);
+    
+    void remove(Long userId, Long recipeId);
+    
+    void clear();
+}
@@ -0,0 +1,131 @@
+package com.recipenotebook.index;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class RecipeIndexCoordinator {
+    
+    private final List<RecipeIndex> indexes;
+    private final RecipeDocumentLoader documentLoader;
+    private final int batchSize;
+    private final int rebuildThreads;
+    private final List<RecipeChangedEvent> pendingEvents = new ArrayList<>();
+    private volatile boolean ready;
+    private boolean rebuilding;
+    
+    public RecipeIndexCoordinator(List<RecipeIndex> indexes,
+                                  RecipeDocumentLoader documentLoader,
+                                  @Value("${recipe.index.rebuild-batch-size:500}") int batchSize,
+                                  @Value("${recipe.index.rebuild-threads:0}") int rebuildThreads) {
+        this.indexes = indexes;
+        this.documentLoader = documentLoader;
+        this.batchSize = batchSize;
+        this.rebuildThreads = rebuildThreads > 0 ? rebuildThreads : Runtime.getRuntime().availableProcessors();
+    }
+    
+    public boolean isReady() {
+        return ready;
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRebuild() {
+        synchronized (pendingEvents) {
+            rebuilding = true;
+            ready = false;
+        }
+        Thread thread = new Thread(this::rebuild, "recipe-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        synchronized (pendingEvents) {
+            if (rebuilding) {
+                pendingEvents.add(event);
+                return;
+            }
+        }
+        apply(event);
+    }
+    
+    void rebuild() {
+        long started = System.currentTimeMillis();
+        AtomicInteger indexed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads, runnable -> {
+            Thread worker = new Thread(runnable, "recipe-index-worker");
+            worker.setDaemon(true);
+            return worker;
+        });
+        
+        try {
+            indexes.forEach(RecipeIndex::clear);
+            
+            CompletableFuture<Void> inFlight = CompletableFuture.completedFuture(null);
+            List<RecipeDocument> batch = documentLoader.loadBatchAfter(0L, batchSize);
+            while (!batch.isEmpty()) {
+                Long lastId = batch.get(batch.size() - 1).getRecipeId();
+                inFlight.join();
+                inFlight = indexBatch(batch, executor, indexed);
+                batch = batch.size() < batchSize ? List.of() : documentLoader.loadBatchAfter(lastId, batchSize);
+            }
+            inFlight.join();
+            
+            synchronized (pendingEvents) {
+                pendingEvents.forEach(this::apply);
+                pendingEvents.clear();
+                rebuilding = false;
+                ready = true;
+            }
+            log.info("Recipe indexes rebuilt with {} recipes in {} ms", indexed.get(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("Recipe index rebuild failed, falling back to database search", e);
+            synchronized (pendingEvents) {
+                pendingEvents.clear();
+                rebuilding = false;
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    private CompletableFuture<Void> indexBatch(List<RecipeDocument> batch, ExecutorService executor, AtomicInteger indexed) {
+        Map<Long, List<RecipeDocument>> documentsByUser = batch.stream()
+            .collect(Collectors.groupingBy(RecipeDocument::getUserId));
+        
+        CompletableFuture<?>[] tasks = documentsByUser.values().stream()
+            .map(documents -> CompletableFuture.runAsync(() -> {
+                for (RecipeDocument document : documents) {
+                    indexes.forEach(index -> index.upsert(document));
+                }
+                indexed.addAndGet(documents.size());
+            }, executor))
+            .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(tasks);
+    }
+    
+    private void apply(RecipeChangedEvent event) {
+        for (RecipeIndex index : indexes) {
+            if (event.getType() == RecipeChangedEvent.Type.UPSERTED) {
+                index.upsert(event.getDocument());
+            } else {
+                index.remove(event.getUserId(), event.getRecipeId());
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.util.TextNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class RecipeSearchIndex implements RecipeIndex {
+    
+    private static final int TITLE_WEIGHT = 3;
+    private static final int INGREDIENT_WEIGHT = 2;
+    private static final int STEP_WEIGHT = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    private final Map<Long, UserIndex> users = new ConcurrentHashMap<>();
+    
+    @Override
+    public void upsert(RecipeDocument document) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addTerms(termFrequencies, document.getTitle(), TITLE_WEIGHT);
+        document.getIngredientNames().forEach(name -> addTerms(termFrequencies, name, INGREDIENT_WEIGHT));
+        document.getStepInstructions().forEach(instruction -> addTerms(termFrequencies, instruction, STEP_WEIGHT));
+        
+        UserIndex userIndex = users.computeIfAbsent(document.getUserId(), id -> new UserIndex());
+        userIndex.lock.writeLock().lock();
+        try {
+            userIndex.removeDocument(document.getRecipeId());
+            userIndex.addDocument(document, termFrequencies);
+        } finally {
+            userIndex.lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long userId, Long recipeId) {
+        UserIndex userIndex = users.get(userId);
+        if (userIndex == null) {
+            return;
+        }
+        userIndex.lock.writeLock().lock();
+        try {
+            userIndex.removeDocument(recipeId);
+        } finally {
+            userIndex.lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void clear() {
+        users.clear();
+    }
+    
+    public List<SearchHit> search(Long userId, String query, List<Long> categoryIds, Difficulty difficulty) {
+        UserIndex userIndex = users.get(userId);
+        Set<String> queryTerms = new LinkedHashSet<>(TextNormalizer.tokenize(query));
+        if (userIndex == null || queryTerms.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Map<Long, Double> scores = new HashMap<>();
+        userIndex.lock.readLock().lock();
+        try {
+            int documentCount = userIndex.documents.size();
+            if (documentCount == 0) {
+                return new ArrayList<>();
+            }
+            double averageLength = (double) userIndex.totalLength / documentCount;
+            
+            for (String term : queryTerms) {
+                Map<Long, Integer> postings = userIndex.postings.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - postings.size() + 0.5) / (postings.size() + 0.5));
+                for (Map.Entry<Long, Integer> posting : postings.entrySet()) {
+                    IndexedDocument document = userIndex.documents.get(posting.getKey());
+                    if (!document.matches(categoryIds, difficulty)) {
+                        continue;
+                    }
+                    double tf = posting.getValue();
+                    double norm = K1 * (1 - B + B * document.length / averageLength);
+                    scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+        } finally {
+            userIndex.lock.readLock().unlock();
+        }
+        
+        List<SearchHit> hits = new ArrayList<>(scores.size());
+        scores.forEach((recipeId, score) -> hits.add(new SearchHit(recipeId, score)));
+        hits.sort(Comparator.comparingDouble(SearchHit::getScore).reversed()
+            .thenComparing(SearchHit::getRecipeId));
+        return hits;
+    }
+    
+    private static void addTerms(Map<String, Integer> termFrequencies, String text, int weight) {
+        for (String token : TextNormalizer.tokenize(text)) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+    }
+    
+    private static class UserIndex {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, IndexedDocument> documents = new HashMap<>();
+        private long totalLength;
+        
+        private void addDocument(RecipeDocument document, Map<String, Integer> termFrequencies) {
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>())
+                    .put(document.getRecipeId(), entry.getValue());
+                length += entry.getValue();
+            }
+            documents.put(document.getRecipeId(), new IndexedDocument(
+                length,
+                termFrequencies.keySet(),
+                new HashSet<>(document.getCategoryIds()),
+                document.getDifficulty()
+            ));
+            totalLength += length;
+        }
+        
+        private void removeDocument(Long recipeId) {
+            IndexedDocument existing = documents.remove(recipeId);
+            if (existing == null) {
+                return;
+            }
+            for (String term : existing.terms) {
+                Map<Long, Integer> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(recipeId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            totalLength -= existing.length;
+        }
+    }
+    
+    private static class IndexedDocument {
+        private final int length;
+        private final Set<String> terms;
+        private final Set<Long> categoryIds;
+        private final Difficulty difficulty;
+        
+        private IndexedDocument(int length, Set<String> terms, Set<Long> categoryIds, Difficulty difficulty) {
+            this.length = length;
+            this.terms = terms;
+            this.categoryIds = categoryIds;
+            this.difficulty = difficulty;
+        }
+        
+        private boolean matches(List<Long> requiredCategoryIds, Difficulty requiredDifficulty) {
+            if (requiredDifficulty != null && requiredDifficulty != difficulty) {
+                return false;
+            }
+            if (requiredCategoryIds == null || requiredCategoryIds.isEmpty()) {
+                return true;
+            }
+            return requiredCategoryIds.stream().anyMatch(categoryIds::contains);
+        }
+    }
+}
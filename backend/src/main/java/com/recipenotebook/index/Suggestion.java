@@ -0,0 +1,11 @@
+package com.recipenotebook.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class Suggestion {
+    private String value;
+    private int weight;
+}
@@ -0,0 +1,271 @@
+package com.recipenotebook.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+class WeightedRadixTree {
+    
+    private static final Node[] NO_CHILDREN = new Node[0];
+    
+    private static final Comparator<Candidate> RANKING = Comparator
+        .comparingInt((Candidate candidate) -> candidate.weight).reversed()
+        .thenComparing(candidate -> candidate.key)
+        .thenComparing(candidate -> candidate.node == null)
+        .thenComparing(candidate -> candidate.value == null ? "" : candidate.value);
+    
+    private final Node root = new Node("");
+    private int keys;
+    
+    void add(String key, String value) {
+        List<Node> path = new ArrayList<>();
+        Node node = insert(key, path);
+        if (node.values == null) {
+            node.values = new HashMap<>(2);
+            keys++;
+        }
+        node.values.merge(value, 1, Integer::sum);
+        updateWeights(path);
+    }
+    
+    void remove(String key, String value) {
+        List<Node> path = new ArrayList<>();
+        Node node = find(key, path);
+        if (node == null || node.values == null) {
+            return;
+        }
+        Integer count = node.values.get(value);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            node.values.put(value, count - 1);
+        } else {
+            node.values.remove(value);
+            if (node.values.isEmpty()) {
+                node.values = null;
+                keys--;
+            }
+        }
+        prune(path);
+        updateWeights(path);
+    }
+    
+    boolean isEmpty() {
+        return keys == 0;
+    }
+    
+    List<Suggestion> top(String prefix, int limit) {
+        Candidate locus = locate(prefix);
+        List<Suggestion> suggestions = new ArrayList<>();
+        if (locus == null || limit <= 0) {
+            return suggestions;
+        }
+        
+        Set<String> emitted = new HashSet<>();
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(RANKING);
+        queue.add(locus);
+        while (!queue.isEmpty() && suggestions.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.node == null) {
+                if (emitted.add(candidate.value)) {
+                    suggestions.add(new Suggestion(candidate.value, candidate.weight));
+                }
+                continue;
+            }
+            Node node = candidate.node;
+            if (node.values != null) {
+                node.values.forEach((value, weight) -> queue.add(new Candidate(null, candidate.key, value, weight)));
+            }
+            for (Node child : node.children) {
+                queue.add(new Candidate(child, candidate.key + child.label, null, child.weight));
+            }
+        }
+        return suggestions;
+    }
+    
+    private Node insert(String key, List<Node> path) {
+        Node node = root;
+        path.add(node);
+        String rest = key;
+        while (!rest.isEmpty()) {
+            int index = childIndex(node, rest.charAt(0));
+            if (index < 0) {
+                Node leaf = new Node(rest);
+                addChild(node, leaf);
+                path.add(leaf);
+                return leaf;
+            }
+            
+            Node child = node.children[index];
+            int common = commonPrefixLength(child.label, rest);
+            if (common < child.label.length()) {
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children = new Node[] {child};
+                split.weight = child.weight;
+                node.children[index] = split;
+                child = split;
+            }
+            node = child;
+            path.add(node);
+            rest = rest.substring(common);
+        }
+        return node;
+    }
+    
+    private Node find(String key, List<Node> path) {
+        Node node = root;
+        path.add(node);
+        String rest = key;
+        while (!rest.isEmpty()) {
+            int index = childIndex(node, rest.charAt(0));
+            if (index < 0 || !rest.startsWith(node.children[index].label)) {
+                return null;
+            }
+            node = node.children[index];
+            path.add(node);
+            rest = rest.substring(node.label.length());
+        }
+        return node;
+    }
+    
+    private Candidate locate(String prefix) {
+        Node node = root;
+        String path = "";
+        String rest = prefix;
+        while (!rest.isEmpty()) {
+            int index = childIndex(node, rest.charAt(0));
+            if (index < 0) {
+                return null;
+            }
+            Node child = node.children[index];
+            if (rest.length() <= child.label.length()) {
+                return child.label.startsWith(rest) ? new Candidate(child, path + child.label, null, child.weight) : null;
+            }
+            if (!rest.startsWith(child.label)) {
+                return null;
+            }
+            node = child;
+            path = path + child.label;
+            rest = rest.substring(child.label.length());
+        }
+        return new Candidate(node, path, null, node.weight);
+    }
+    
+    private void prune(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            Node parent = path.get(i - 1);
+            if (node.values != null) {
+                return;
+            }
+            if (node.children.length == 0) {
+                removeChild(parent, node);
+                path.remove(i);
+            } else if (node.children.length == 1) {
+                Node child = node.children[0];
+                node.label = node.label + child.label;
+                node.children = child.children;
+                node.values = child.values;
+                node.weight = child.weight;
+                return;
+            } else {
+                return;
+            }
+        }
+    }
+    
+    private void updateWeights(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            int weight = 0;
+            if (node.values != null) {
+                for (int count : node.values.values()) {
+                    weight = Math.max(weight, count);
+                }
+            }
+            for (Node child : node.children) {
+                weight = Math.max(weight, child.weight);
+            }
+            node.weight = weight;
+        }
+    }
+    
+    private static int childIndex(Node node, char first) {
+        int low = 0;
+        int high = node.children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char candidate = node.children[mid].label.charAt(0);
+            if (candidate < first) {
+                low = mid + 1;
+            } else if (candidate > first) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+    
+    private static void addChild(Node node, Node child) {
+        int insertAt = -(childIndex(node, child.label.charAt(0)) + 1);
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.children, 0, children, 0, insertAt);
+        children[insertAt] = child;
+        System.arraycopy(node.children, insertAt, children, insertAt + 1, node.children.length - insertAt);
+        node.children = children;
+    }
+    
+    private static void removeChild(Node node, Node child) {
+        int index = childIndex(node, child.label.charAt(0));
+        if (node.children.length == 1) {
+            node.children = NO_CHILDREN;
+            return;
+        }
+        Node[] children = new Node[node.children.length - 1];
+        System.arraycopy(node.children, 0, children, 0, index);
+        System.arraycopy(node.children, index + 1, children, index, node.children.length - index - 1);
+        node.children = children;
+    }
+    
+    private static int commonPrefixLength(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+    
+    private static final class Node {
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private Map<String, Integer> values;
+        private int weight;
+        
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+    
+    private static final class Candidate {
+        private final Node node;
+        private final String key;
+        private final String value;
+        private final int weight;
+        
+        private Candidate(Node node, String key, String value, int weight) {
+            this.node = node;
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.recipenotebook.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecipeCategoryRow {
+    private Long recipeId;
+    private Long categoryId;
+    private String categoryName;
+    private Boolean isDefault;
+}
@@ -0,0 +1,29 @@
+package com.recipenotebook.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RecipeChildRow {
+    
+    public static final int INGREDIENT = 1;
+    public static final int STEP = 2;
+    
+    private Long recipeId;
+    private int kind;
+    private Long id;
+    private Integer position;
+    private String quantity;
+    private String unit;
+    private String name;
+    private String instruction;
+    
+    public boolean isIngredient() {
+        return kind == INGREDIENT;
+    }
+    
+    public boolean isStep() {
+        return kind == STEP;
+    }
+}
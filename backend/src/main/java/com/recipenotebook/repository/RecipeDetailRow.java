@@ -0,0 +1,21 @@
+package com.recipenotebook.repository;
+
+import com.recipenotebook.entity.Difficulty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class RecipeDetailRow {
+    private Long recipeId;
+    private String title;
+    private Difficulty difficulty;
+    private Integer cookingTimeMinutes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long categoryId;
+    private String categoryName;
+    private Boolean categoryIsDefault;
+}
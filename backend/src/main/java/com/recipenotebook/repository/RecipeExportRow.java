@@ -0,0 +1,31 @@
+package com.recipenotebook.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class RecipeExportRow {
+    
+    public static final int RECIPE = 0;
+    public static final int CATEGORY = 1;
+    public static final int INGREDIENT = 2;
+    public static final int STEP = 3;
+    
+    private Long recipeId;
+    private int kind;
+    private Integer position;
+    private Long childId;
+    private String title;
+    private String difficulty;
+    private Integer cookingTimeMinutes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String quantity;
+    private String unit;
+    private String name;
+    private String instruction;
+    private Boolean isDefault;
+}
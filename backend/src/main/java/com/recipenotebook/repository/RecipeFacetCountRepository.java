@@ -0,0 +1,13 @@
+package com.recipenotebook.repository;
+
+import com.recipenotebook.entity.RecipeFacetCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RecipeFacetCountRepository extends JpaRepository<RecipeFacetCount, RecipeFacetCount.Key>, RecipeFacetCountRepositoryCustom {
+    
+    List<RecipeFacetCount> findByUserIdAndRecipeCountGreaterThan(Long userId, Long recipeCount);
+}
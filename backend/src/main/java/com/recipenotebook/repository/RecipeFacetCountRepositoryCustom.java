@@ -0,0 +1,17 @@
+package com.recipenotebook.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface RecipeFacetCountRepositoryCustom {
+    
+    void addToCount(Long userId, String facet, String facetValue, long delta);
+    
+    void addRecipes(Collection<Long> recipeIds);
+    
+    void subtractRecipes(Collection<Long> recipeIds);
+    
+    Optional<Long> findUserRangeEnd(long afterUserId, int userCount);
+    
+    void rebuildUserRange(long afterUserId, long throughUserId);
+}
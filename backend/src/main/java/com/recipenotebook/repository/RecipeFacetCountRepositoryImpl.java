@@ -0,0 +1,115 @@
+package com.recipenotebook.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class RecipeFacetCountRepositoryImpl implements RecipeFacetCountRepositoryCustom {
+    
+    private static final String COOKING_TIME_BUCKET_SQL =
+        "CASE WHEN r.cooking_time_minutes <= 15 THEN '0-15' " +
+        "WHEN r.cooking_time_minutes <= 30 THEN '16-30' " +
+        "WHEN r.cooking_time_minutes <= 60 THEN '31-60' " +
+        "ELSE '61+' END";
+    
+    private static final String FACET_SOURCE_SQL =
+        "SELECT r.user_id, CAST('difficulty' AS VARCHAR(20)) AS facet, CAST(r.difficulty AS VARCHAR(50)) AS facet_value, " +
+        "COUNT(*) AS delta FROM recipes r WHERE %1$s GROUP BY r.user_id, r.difficulty " +
+        "UNION ALL " +
+        "SELECT r.user_id, 'cookingTime', " + COOKING_TIME_BUCKET_SQL + ", COUNT(*) " +
+        "FROM recipes r WHERE %1$s GROUP BY r.user_id, " + COOKING_TIME_BUCKET_SQL + " " +
+        "UNION ALL " +
+        "SELECT r.user_id, 'category', CAST(rc.category_id AS VARCHAR(50)), COUNT(*) " +
+        "FROM recipe_categories rc JOIN recipes r ON r.id = rc.recipe_id WHERE %1$s GROUP BY r.user_id, rc.category_id";
+    
+    private static final String ADD_TO_COUNT_SQL =
+        "MERGE INTO recipe_facet_counts t " +
+        "USING (SELECT CAST(:userId AS BIGINT) AS user_id, CAST(:facet AS VARCHAR(20)) AS facet, " +
+        "CAST(:facetValue AS VARCHAR(50)) AS facet_value, CAST(:delta AS BIGINT) AS delta) s " +
+        "ON t.user_id = s.user_id AND t.facet = s.facet AND t.facet_value = s.facet_value " +
+        "WHEN MATCHED THEN UPDATE SET recipe_count = t.recipe_count + s.delta " +
+        "WHEN NOT MATCHED THEN INSERT (user_id, facet, facet_value, recipe_count) " +
+        "VALUES (s.user_id, s.facet, s.facet_value, s.delta)";
+    
+    private static final String ADD_RECIPES_SQL =
+        "MERGE INTO recipe_facet_counts t " +
+        "USING (" + String.format(FACET_SOURCE_SQL, "r.id IN (:recipeIds)") + ") s " +
+        "ON t.user_id = s.user_id AND t.facet = s.facet AND t.facet_value = s.facet_value " +
+        "WHEN MATCHED THEN UPDATE SET recipe_count = t.recipe_count + s.delta " +
+        "WHEN NOT MATCHED THEN INSERT (user_id, facet, facet_value, recipe_count) " +
+        "VALUES (s.user_id, s.facet, s.facet_value, s.delta)";
+    
+    private static final String SUBTRACT_RECIPES_SQL =
+        "MERGE INTO recipe_facet_counts t " +
+        "USING (" + String.format(FACET_SOURCE_SQL, "r.id IN (:recipeIds)") + ") s " +
+        "ON t.user_id = s.user_id AND t.facet = s.facet AND t.facet_value = s.facet_value " +
+        "WHEN MATCHED THEN UPDATE SET recipe_count = t.recipe_count - s.delta";
+    
+    private static final String USER_RANGE_END_SQL =
+        "SELECT id FROM users WHERE id > :afterUserId ORDER BY id OFFSET :offset ROWS FETCH NEXT 1 ROW ONLY";
+    
+    private static final String DELETE_USER_RANGE_SQL =
+        "DELETE FROM recipe_facet_counts WHERE user_id > :afterUserId AND user_id <= :throughUserId";
+    
+    private static final String REBUILD_USER_RANGE_SQL =
+        "INSERT INTO recipe_facet_counts (user_id, facet, facet_value, recipe_count) " +
+        String.format(FACET_SOURCE_SQL, "r.user_id > :afterUserId AND r.user_id <= :throughUserId");
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public void addToCount(Long userId, String facet, String facetValue, long delta) {
+        entityManager.createNativeQuery(ADD_TO_COUNT_SQL)
+            .setParameter("userId", userId)
+            .setParameter("facet", facet)
+            .setParameter("facetValue", facetValue)
+            .setParameter("delta", delta)
+            .executeUpdate();
+    }
+    
+    @Override
+    public void addRecipes(Collection<Long> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return;
+        }
+        entityManager.createNativeQuery(ADD_RECIPES_SQL)
+            .setParameter("recipeIds", recipeIds)
+            .executeUpdate();
+    }
+    
+    @Override
+    public void subtractRecipes(Collection<Long> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return;
+        }
+        entityManager.createNativeQuery(SUBTRACT_RECIPES_SQL)
+            .setParameter("recipeIds", recipeIds)
+            .executeUpdate();
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Long> findUserRangeEnd(long afterUserId, int userCount) {
+        List<Number> ids = entityManager.createNativeQuery(USER_RANGE_END_SQL)
+            .setParameter("afterUserId", afterUserId)
+            .setParameter("offset", userCount - 1)
+            .getResultList();
+        return ids.stream().findFirst().map(Number::longValue);
+    }
+    
+    @Override
+    public void rebuildUserRange(long afterUserId, long throughUserId) {
+        entityManager.createNativeQuery(DELETE_USER_RANGE_SQL)
+            .setParameter("afterUserId", afterUserId)
+            .setParameter("throughUserId", throughUserId)
+            .executeUpdate();
+        entityManager.createNativeQuery(REBUILD_USER_RANGE_SQL)
+            .setParameter("afterUserId", afterUserId)
+            .setParameter("throughUserId", throughUserId)
+            .executeUpdate();
+    }
+}
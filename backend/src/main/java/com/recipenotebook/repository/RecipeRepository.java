@@ -1,17 +1,48 @@
 package com.recipenotebook.repository;
 
 import com.recipenotebook.entity.Recipe;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecificationExecutor<Recipe> {
+public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecificationExecutor<Recipe>, RecipeRepositoryCustom {
     
     @Query("SELECT r FROM Recipe r WHERE r.id = :recipeId AND r.userId = :userId")
     Optional<Recipe> findByIdAndUserId(@Param("recipeId") Long recipeId, @Param("userId") Long userId);
+    
+    @Query("SELECT new com.recipenotebook.repository.RecipeCategoryRow(r.id, c.id, c.name, c.isDefault) " +
+           "FROM Recipe r JOIN r.categories c WHERE r.id IN :recipeIds ORDER BY r.id, c.id")
+    List<RecipeCategoryRow> findCategoryRowsByRecipeIds(@Param("recipeIds") Collection<Long> recipeIds);
+    
+    @Query("SELECT new com.recipenotebook.repository.RecipeDetailRow(r.id, r.title, r.difficulty, r.cookingTimeMinutes, " +
+           "r.createdAt, r.updatedAt, c.id, c.name, c.isDefault) " +
+           "FROM Recipe r LEFT JOIN r.categories c WHERE r.id = :recipeId AND r.userId = :userId ORDER BY c.id")
+    List<RecipeDetailRow> findDetailRowsByIdAndUserId(@Param("recipeId") Long recipeId, @Param("userId") Long userId);
+    
+    @Query("SELECT new com.recipenotebook.repository.RecipeDetailRow(r.id, r.title, r.difficulty, r.cookingTimeMinutes, " +
+           "r.createdAt, r.updatedAt, c.id, c.name, c.isDefault) " +
+           "FROM Recipe r LEFT JOIN r.categories c WHERE r.id IN :recipeIds AND r.userId = :userId ORDER BY r.id, c.id")
+    List<RecipeDetailRow> findDetailRowsByIdsAndUserId(@Param("recipeIds") Collection<Long> recipeIds, @Param("userId") Long userId);
+    
+    @Query("SELECT r.id FROM Recipe r WHERE r.id IN :recipeIds AND r.userId = :userId")
+    List<Long> findIdsByIdInAndUserId(@Param("recipeIds") Collection<Long> recipeIds, @Param("userId") Long userId);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Recipe r WHERE r.id IN :recipeIds AND r.userId = :userId")
+    int deleteByIdInAndUserId(@Param("recipeIds") Collection<Long> recipeIds, @Param("userId") Long userId);
+    
+    List<Recipe> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
+    @Query("SELECT r.updatedAt FROM Recipe r WHERE r.id = :recipeId AND r.userId = :userId")
+    List<LocalDateTime> findUpdatedAtByIdAndUserId(@Param("recipeId") Long recipeId, @Param("userId") Long userId);
 }
@@ -0,0 +1,18 @@
+package com.recipenotebook.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface RecipeRepositoryCustom {
+    
+    List<RecipeChildRow> findChildRowsByRecipeId(Long recipeId);
+    
+    List<RecipeChildRow> findChildRowsByRecipeIds(Collection<Long> recipeIds);
+    
+    Stream<RecipeExportRow> streamExportRowsByUserId(Long userId, int fetchSize);
+    
+    Long insertFromTemplate(RecipeTemplate template, Long userId, Collection<Long> categoryIds,
+                            LocalDateTime createdAt);
+}
@@ -0,0 +1,181 @@
+package com.recipenotebook.repository;
+
+import com.recipenotebook.entity.IdBlocks;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.jpa.HibernateHints;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class RecipeRepositoryImpl implements RecipeRepositoryCustom {
+    
+    private static final String CHILD_ROWS_SQL =
+        "SELECT i.recipe_id, 1 AS child_kind, i.id, i.sort_order AS sort_key, i.quantity, i.unit, i.name, " +
+        "CAST(NULL AS VARCHAR(500)) AS instruction " +
+        "FROM ingredients i WHERE i.recipe_id IN (:recipeIds) " +
+        "UNION ALL " +
+        "SELECT s.recipe_id, 2, s.id, s.step_number, NULL, NULL, NULL, s.instruction " +
+        "FROM steps s WHERE s.recipe_id IN (:recipeIds) " +
+        "ORDER BY recipe_id, child_kind, sort_key";
+    
+    private static final String EXPORT_ROWS_SQL =
+        "SELECT r.id AS recipe_id, 0 AS row_kind, 0 AS sort_key, CAST(NULL AS BIGINT) AS child_id, " +
+        "r.title, r.difficulty, r.cooking_time_minutes, r.created_at, r.updated_at, " +
+        "CAST(NULL AS VARCHAR(20)) AS quantity, CAST(NULL AS VARCHAR(20)) AS unit, CAST(NULL AS VARCHAR(50)) AS name, " +
+        "CAST(NULL AS VARCHAR(500)) AS instruction, CAST(NULL AS BOOLEAN) AS is_default " +
+        "FROM recipes r WHERE r.user_id = :userId " +
+        "UNION ALL " +
+        "SELECT rc.recipe_id, 1, 0, c.id, NULL, NULL, NULL, NULL, NULL, NULL, NULL, c.name, NULL, c.is_default " +
+        "FROM recipe_categories rc JOIN recipes r ON r.id = rc.recipe_id JOIN categories c ON c.id = rc.category_id " +
+        "WHERE r.user_id = :userId " +
+        "UNION ALL " +
+        "SELECT i.recipe_id, 2, i.sort_order, i.id, NULL, NULL, NULL, NULL, NULL, i.quantity, i.unit, i.name, NULL, NULL " +
+        "FROM ingredients i JOIN recipes r ON r.id = i.recipe_id WHERE r.user_id = :userId " +
+        "UNION ALL " +
+        "SELECT s.recipe_id, 3, s.step_number, s.id, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, s.instruction, NULL " +
+        "FROM steps s JOIN recipes r ON r.id = s.recipe_id WHERE r.user_id = :userId " +
+        "ORDER BY recipe_id, row_kind, sort_key, child_id";
+    
+    private static final String INSERT_RECIPE_SQL =
+        "INSERT INTO recipes (id, user_id, title, normalized_title, difficulty, cooking_time_minutes, created_at, updated_at) " +
+        "VALUES (:recipeId, :userId, :title, :normalizedTitle, :difficulty, :cookingTimeMinutes, :createdAt, :createdAt)";
+    
+    private static final String INSERT_CATEGORIES_SQL =
+        "INSERT INTO recipe_categories (recipe_id, category_id) " +
+        "SELECT :recipeId, c.id FROM categories c WHERE c.id IN (:categoryIds)";
+    
+    private static final String NEXT_IDS_SQL =
+        "SELECT NEXT VALUE FOR recipes_seq, NEXT VALUE FOR ingredients_seq, NEXT VALUE FOR steps_seq";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<RecipeChildRow> findChildRowsByRecipeId(Long recipeId) {
+        return findChildRowsByRecipeIds(List.of(recipeId));
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<RecipeChildRow> findChildRowsByRecipeIds(Collection<Long> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<Object[]> rows = entityManager.createNativeQuery(CHILD_ROWS_SQL)
+            .setParameter("recipeIds", recipeIds)
+            .getResultList();
+        
+        return rows.stream()
+            .map(RecipeRepositoryImpl::toChildRow)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<RecipeExportRow> streamExportRowsByUserId(Long userId, int fetchSize) {
+        Stream<Object[]> rows = entityManager.createNativeQuery(EXPORT_ROWS_SQL)
+            .setParameter("userId", userId)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+        
+        return rows.map(RecipeRepositoryImpl::toExportRow);
+    }
+    
+    @Override
+    public Long insertFromTemplate(RecipeTemplate template, Long userId, Collection<Long> categoryIds,
+                                   LocalDateTime createdAt) {
+        Object[] sequenceValues = (Object[]) entityManager.createNativeQuery(NEXT_IDS_SQL).getSingleResult();
+        Long recipeId = ((Number) sequenceValues[0]).longValue();
+        long firstIngredientId = firstIdOfBlock("ingredients_seq", ((Number) sequenceValues[1]).longValue());
+        long firstStepId = firstIdOfBlock("steps_seq", ((Number) sequenceValues[2]).longValue());
+        
+        entityManager.createNativeQuery(INSERT_RECIPE_SQL)
+            .setParameter("recipeId", recipeId)
+            .setParameter("userId", userId)
+            .setParameter("title", template.getTitle())
+            .setParameter("normalizedTitle", template.getNormalizedTitle())
+            .setParameter("difficulty", template.getDifficulty().name())
+            .setParameter("cookingTimeMinutes", template.getCookingTimeMinutes())
+            .setParameter("createdAt", createdAt)
+            .executeUpdate();
+        insertChildRows(template.getInsertIngredientsSql(), template.getIngredientParameters(),
+            template.getIngredientCount(), firstIngredientId, recipeId);
+        insertChildRows(template.getInsertStepsSql(), template.getStepParameters(),
+            template.getStepCount(), firstStepId, recipeId);
+        if (!categoryIds.isEmpty()) {
+            entityManager.createNativeQuery(INSERT_CATEGORIES_SQL)
+                .setParameter("recipeId", recipeId)
+                .setParameter("categoryIds", categoryIds)
+                .executeUpdate();
+        }
+        return recipeId;
+    }
+    
+    private void insertChildRows(String sql, Map<String, Object> parameters, int rowCount, long firstId, Long recipeId) {
+        Query query = entityManager.createNativeQuery(sql).setParameter("recipeId", recipeId);
+        parameters.forEach(query::setParameter);
+        for (int i = 0; i < rowCount; i++) {
+            query.setParameter("id" + i, firstId + i);
+        }
+        query.executeUpdate();
+    }
+    
+    private long firstIdOfBlock(String sequenceName, long sequenceValue) {
+        long firstId = sequenceValue - (IdBlocks.SIZE - 1);
+        if (firstId < 1) {
+            Number next = (Number) entityManager.createNativeQuery("SELECT NEXT VALUE FOR " + sequenceName)
+                .getSingleResult();
+            firstId = next.longValue() - (IdBlocks.SIZE - 1);
+        }
+        return firstId;
+    }
+    
+    private static RecipeExportRow toExportRow(Object[] row) {
+        return new RecipeExportRow(
+            ((Number) row[0]).longValue(),
+            ((Number) row[1]).intValue(),
+            ((Number) row[2]).intValue(),
+            row[3] != null ? ((Number) row[3]).longValue() : null,
+            (String) row[4],
+            (String) row[5],
+            row[6] != null ? ((Number) row[6]).intValue() : null,
+            toLocalDateTime(row[7]),
+            toLocalDateTime(row[8]),
+            (String) row[9],
+            (String) row[10],
+            (String) row[11],
+            (String) row[12],
+            (Boolean) row[13]
+        );
+    }
+    
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+    
+    private static RecipeChildRow toChildRow(Object[] row) {
+        return new RecipeChildRow(
+            ((Number) row[0]).longValue(),
+            ((Number) row[1]).intValue(),
+            ((Number) row[2]).longValue(),
+            ((Number) row[3]).intValue(),
+            (String) row[4],
+            (String) row[5],
+            (String) row[6],
+            (String) row[7]
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.recipenotebook.repository;
+
+import com.recipenotebook.entity.RecipeSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RecipeSummaryRepository extends JpaRepository<RecipeSummary, Long>, RecipeSummaryRepositoryCustom {
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RecipeSummary s WHERE s.id IN :recipeIds")
+    int deleteByIdIn(@Param("recipeIds") Collection<Long> recipeIds);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM RecipeSummary s WHERE s.id > :afterId AND s.id <= :throughId")
+    int deleteInIdRange(@Param("afterId") Long afterId, @Param("throughId") Long throughId);
+    
+    @Query("SELECT s.id FROM RecipeSummary s WHERE NOT EXISTS (SELECT r.id FROM Recipe r WHERE r.id = s.id) ORDER BY s.id")
+    List<Long> findOrphanedIds();
+}
@@ -0,0 +1,24 @@
+package com.recipenotebook.repository;
+
+import com.recipenotebook.entity.RecipeSummary;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RecipeSummaryRepositoryCustom {
+    
+    Page<RecipeSummaryRow> findSummaries(Specification<RecipeSummary> spec, Pageable pageable, Collection<String> columns);
+    
+    Window<RecipeSummaryRow> scrollSummaries(Specification<RecipeSummary> spec, Sort sort, int limit,
+                                             KeysetScrollPosition position, Collection<String> columns);
+    
+    List<RecipeSummaryRow> findSummariesByIds(Long userId, Collection<Long> recipeIds, Collection<String> columns);
+    
+    void upsert(RecipeSummary summary);
+}
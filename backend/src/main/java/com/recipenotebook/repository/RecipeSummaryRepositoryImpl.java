@@ -0,0 +1,196 @@
+package com.recipenotebook.repository;
+
+import com.recipenotebook.entity.RecipeSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class RecipeSummaryRepositoryImpl implements RecipeSummaryRepositoryCustom {
+    
+    private static final String UPSERT_SQL =
+        "MERGE INTO recipe_summaries (recipe_id, user_id, title, normalized_title, difficulty, cooking_time_minutes, " +
+        "category_ids, categories, created_at, updated_at) KEY (recipe_id) " +
+        "VALUES (:id, :userId, :title, :normalizedTitle, :difficulty, :cookingTimeMinutes, " +
+        ":categoryIds, :categories, :createdAt, :updatedAt)";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Page<RecipeSummaryRow> findSummaries(Specification<RecipeSummary> spec, Pageable pageable, Collection<String> columns) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<RecipeSummary> root = query.from(RecipeSummary.class);
+        query.multiselect(summarySelections(root, columns, pageable.getSort()));
+        applySpecification(spec, root, query, cb);
+        query.orderBy(userScopedOrders(pageable.getSort(), root, cb));
+        
+        List<RecipeSummaryRow> rows = entityManager.createQuery(query)
+            .setFirstResult((int) pageable.getOffset())
+            .setMaxResults(pageable.getPageSize())
+            .getResultList()
+            .stream()
+            .map(RecipeSummaryRow::from)
+            .collect(Collectors.toList());
+        
+        return PageableExecutionUtils.getPage(rows, pageable, () -> countSummaries(spec));
+    }
+    
+    @Override
+    public Window<RecipeSummaryRow> scrollSummaries(Specification<RecipeSummary> spec, Sort sort, int limit,
+                                                    KeysetScrollPosition position, Collection<String> columns) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<RecipeSummary> root = query.from(RecipeSummary.class);
+        query.multiselect(summarySelections(root, columns, sort));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (!position.isInitial()) {
+            Predicate keyset = keysetPredicate(root, cb, sort, position.getKeys());
+            predicate = predicate == null ? keyset : cb.and(predicate, keyset);
+        }
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(userScopedOrders(sort, root, cb));
+        
+        List<RecipeSummaryRow> rows = entityManager.createQuery(query)
+            .setMaxResults(limit + 1)
+            .getResultList()
+            .stream()
+            .map(RecipeSummaryRow::from)
+            .collect(Collectors.toList());
+        
+        boolean hasNext = rows.size() > limit;
+        List<RecipeSummaryRow> content = hasNext ? rows.subList(0, limit) : rows;
+        
+        return Window.from(content, index -> positionOf(content.get(index), sort), hasNext);
+    }
+    
+    @Override
+    public List<RecipeSummaryRow> findSummariesByIds(Long userId, Collection<Long> recipeIds, Collection<String> columns) {
+        if (recipeIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<RecipeSummary> root = query.from(RecipeSummary.class);
+        query.multiselect(summarySelections(root, columns, Sort.unsorted()));
+        query.where(cb.equal(root.get("userId"), userId), root.get("id").in(recipeIds));
+        
+        return entityManager.createQuery(query)
+            .getResultList()
+            .stream()
+            .map(RecipeSummaryRow::from)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public void upsert(RecipeSummary summary) {
+        entityManager.createNativeQuery(UPSERT_SQL)
+            .setParameter("id", summary.getId())
+            .setParameter("userId", summary.getUserId())
+            .setParameter("title", summary.getTitle())
+            .setParameter("normalizedTitle", summary.getNormalizedTitle())
+            .setParameter("difficulty", summary.getDifficulty().name())
+            .setParameter("cookingTimeMinutes", summary.getCookingTimeMinutes())
+            .setParameter("categoryIds", summary.getCategoryIds())
+            .setParameter("categories", summary.getCategories())
+            .setParameter("createdAt", summary.getCreatedAt())
+            .setParameter("updatedAt", summary.getUpdatedAt())
+            .executeUpdate();
+    }
+    
+    private long countSummaries(Specification<RecipeSummary> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<RecipeSummary> root = query.from(RecipeSummary.class);
+        applySpecification(spec, root, query, cb);
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        query.distinct(false);
+        
+        return entityManager.createQuery(query).getSingleResult();
+    }
+    
+    private void applySpecification(Specification<RecipeSummary> spec, Root<RecipeSummary> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+    
+    private static List<Order> userScopedOrders(Sort sort, Root<RecipeSummary> root, CriteriaBuilder cb) {
+        List<Order> orders = new ArrayList<>();
+        if (sort.isSorted()) {
+            orders.add(cb.asc(root.get("userId")));
+            orders.addAll(QueryUtils.toOrders(sort, root, cb));
+        }
+        return orders;
+    }
+    
+    private List<Selection<?>> summarySelections(Root<RecipeSummary> root, Collection<String> columns, Sort sort) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        columns.stream()
+            .filter(RecipeSummaryRow.COLUMNS::contains)
+            .forEach(selected::add);
+        sort.forEach(order -> selected.add(order.getProperty()));
+        
+        List<Selection<?>> selections = new ArrayList<>(selected.size());
+        for (String column : selected) {
+            selections.add(root.get(column).alias(column));
+        }
+        return selections;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate keysetPredicate(Root<RecipeSummary> root, CriteriaBuilder cb, Sort sort, Map<String, Object> keys) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalities = new ArrayList<>();
+        for (Map.Entry<String, Object> key : keys.entrySet()) {
+            Expression<Comparable> path = root.get(key.getKey());
+            Comparable value = (Comparable) key.getValue();
+            Sort.Order order = sort.getOrderFor(key.getKey());
+            Predicate beyond = order != null && order.isDescending()
+                ? cb.lessThan(path, value)
+                : cb.greaterThan(path, value);
+            
+            List<Predicate> parts = new ArrayList<>(equalities);
+            parts.add(beyond);
+            alternatives.add(cb.and(parts.toArray(new Predicate[0])));
+            equalities.add(cb.equal(path, value));
+        }
+        return cb.or(alternatives.toArray(new Predicate[0]));
+    }
+    
+    private static ScrollPosition positionOf(RecipeSummaryRow row, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        sort.forEach(order -> keys.put(order.getProperty(), row.get(order.getProperty())));
+        return ScrollPosition.forward(keys);
+    }
+}
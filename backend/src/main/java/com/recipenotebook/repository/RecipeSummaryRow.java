@@ -0,0 +1,85 @@
+package com.recipenotebook.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipenotebook.dto.CategoryDTO;
+import com.recipenotebook.entity.Difficulty;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeSummaryRow {
+    
+    public static final List<String> COLUMNS =
+        List.of("id", "title", "difficulty", "cookingTimeMinutes", "createdAt", "updatedAt", "categories");
+    
+    private static final ObjectMapper CATEGORY_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<CategoryDTO>> CATEGORY_LIST = new TypeReference<>() {
+    };
+    
+    private Long id;
+    private String title;
+    private Difficulty difficulty;
+    private Integer cookingTimeMinutes;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<CategoryDTO> categories;
+    
+    public static RecipeSummaryRow from(Tuple tuple) {
+        RecipeSummaryRow row = new RecipeSummaryRow();
+        for (TupleElement<?> element : tuple.getElements()) {
+            Object value = tuple.get(element);
+            switch (element.getAlias()) {
+                case "id" -> row.setId((Long) value);
+                case "title" -> row.setTitle((String) value);
+                case "difficulty" -> row.setDifficulty((Difficulty) value);
+                case "cookingTimeMinutes" -> row.setCookingTimeMinutes((Integer) value);
+                case "createdAt" -> row.setCreatedAt((LocalDateTime) value);
+                case "updatedAt" -> row.setUpdatedAt((LocalDateTime) value);
+                case "categories" -> row.setCategories(decodeCategories((String) value));
+                default -> throw new IllegalArgumentException("Unsupported summary column: " + element.getAlias());
+            }
+        }
+        return row;
+    }
+    
+    public Object get(String column) {
+        return switch (column) {
+            case "id" -> id;
+            case "title" -> title;
+            case "difficulty" -> difficulty;
+            case "cookingTimeMinutes" -> cookingTimeMinutes;
+            case "createdAt" -> createdAt;
+            case "updatedAt" -> updatedAt;
+            case "categories" -> categories;
+            default -> throw new IllegalArgumentException("Unsupported summary column: " + column);
+        };
+    }
+    
+    public static String encodeCategories(List<CategoryDTO> categories) {
+        try {
+            return CATEGORY_MAPPER.writeValueAsString(categories);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize recipe summary categories", e);
+        }
+    }
+    
+    public static List<CategoryDTO> decodeCategories(String categories) {
+        try {
+            return CATEGORY_MAPPER.readValue(categories, CATEGORY_LIST);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read recipe summary categories", e);
+        }
+    }
+}
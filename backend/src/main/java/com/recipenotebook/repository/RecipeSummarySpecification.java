@@ -0,0 +1,63 @@
+package com.recipenotebook.repository;
+
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.entity.RecipeSummary;
+import com.recipenotebook.util.TextNormalizer;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public class RecipeSummarySpecification {
+    
+    public static Specification<RecipeSummary> hasUserId(Long userId) {
+        return (root, query, criteriaBuilder) -> 
+            criteriaBuilder.equal(root.get("userId"), userId);
+    }
+    
+    public static Specification<RecipeSummary> hasCategoryIds(List<Long> categoryIds) {
+        return (root, query, criteriaBuilder) -> {
+            if (categoryIds == null || categoryIds.isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+            
+            Predicate[] matches = categoryIds.stream()
+                .distinct()
+                .map(categoryId -> criteriaBuilder.like(root.get("categoryIds"), "%," + categoryId + ",%"))
+                .toArray(Predicate[]::new);
+            return criteriaBuilder.or(matches);
+        };
+    }
+    
+    public static Specification<RecipeSummary> hasDifficulty(Difficulty difficulty) {
+        return (root, query, criteriaBuilder) -> {
+            if (difficulty == null) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.equal(root.get("difficulty"), difficulty);
+        };
+    }
+    
+    public static Specification<RecipeSummary> titleContains(String search) {
+        return (root, query, criteriaBuilder) -> {
+            String normalized = TextNormalizer.normalize(search);
+            if (normalized.isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.like(root.get("normalizedTitle"), "%" + normalized + "%");
+        };
+    }
+    
+    public static Specification<RecipeSummary> titleStartsWith(String search) {
+        return (root, query, criteriaBuilder) -> {
+            String prefix = TextNormalizer.normalize(search);
+            if (prefix.isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+            return criteriaBuilder.and(
+                criteriaBuilder.greaterThanOrEqualTo(root.get("normalizedTitle"), prefix),
+                criteriaBuilder.lessThan(root.get("normalizedTitle"), prefix + Character.MAX_VALUE)
+            );
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.recipenotebook.repository;
+
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.entity.IdBlocks;
+import com.recipenotebook.entity.Ingredient;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.entity.Step;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Getter
+public class RecipeTemplate {
+    
+    private final String title;
+    private final String normalizedTitle;
+    private final Difficulty difficulty;
+    private final Integer cookingTimeMinutes;
+    private final int ingredientCount;
+    private final int stepCount;
+    private final String insertIngredientsSql;
+    private final String insertStepsSql;
+    private final Map<String, Object> ingredientParameters;
+    private final Map<String, Object> stepParameters;
+    
+    private RecipeTemplate(Recipe recipe) {
+        this.title = recipe.getTitle();
+        this.normalizedTitle = recipe.getNormalizedTitle();
+        this.difficulty = recipe.getDifficulty();
+        this.cookingTimeMinutes = recipe.getCookingTimeMinutes();
+        this.ingredientCount = recipe.getIngredients().size();
+        this.stepCount = recipe.getSteps().size();
+        this.insertIngredientsSql =
+            "INSERT INTO ingredients (id, recipe_id, quantity, unit, name, sort_order) VALUES " +
+            values(ingredientCount, i -> "(:id" + i + ", :recipeId, :quantity" + i + ", :unit" + i + ", :name" + i
+                + ", :sortOrder" + i + ")");
+        this.insertStepsSql =
+            "INSERT INTO steps (id, recipe_id, step_number, instruction) VALUES " +
+            values(stepCount, i -> "(:id" + i + ", :recipeId, :stepNumber" + i + ", :instruction" + i + ")");
+        
+        Map<String, Object> ingredients = new HashMap<>();
+        for (int i = 0; i < ingredientCount; i++) {
+            Ingredient ingredient = recipe.getIngredients().get(i);
+            ingredients.put("quantity" + i, ingredient.getQuantity());
+            ingredients.put("unit" + i, ingredient.getUnit());
+            ingredients.put("name" + i, ingredient.getName());
+            ingredients.put("sortOrder" + i, ingredient.getSortOrder());
+        }
+        this.ingredientParameters = Collections.unmodifiableMap(ingredients);
+        
+        Map<String, Object> steps = new HashMap<>();
+        for (int i = 0; i < stepCount; i++) {
+            Step step = recipe.getSteps().get(i);
+            steps.put("stepNumber" + i, step.getStepNumber());
+            steps.put("instruction" + i, step.getInstruction());
+        }
+        this.stepParameters = Collections.unmodifiableMap(steps);
+    }
+    
+    public static RecipeTemplate of(Recipe recipe) {
+        if (recipe.getIngredients().isEmpty() || recipe.getSteps().isEmpty()) {
+            throw new IllegalArgumentException("A recipe template needs at least one ingredient and one step");
+        }
+        if (recipe.getIngredients().size() > IdBlocks.SIZE || recipe.getSteps().size() > IdBlocks.SIZE) {
+            throw new IllegalArgumentException(
+                "A recipe template can have at most " + IdBlocks.SIZE + " ingredients and " + IdBlocks.SIZE + " steps");
+        }
+        return new RecipeTemplate(recipe);
+    }
+    
+    private static String values(int rows, IntFunction<String> row) {
+        return IntStream.range(0, rows)
+            .mapToObj(row)
+            .collect(Collectors.joining(", "));
+    }
+}
@@ -3,36 +3,56 @@ package com.recipenotebook.service;
 import com.recipenotebook.dto.LoginResponseDTO;
 import com.recipenotebook.dto.RegisterRequest;
 import com.recipenotebook.dto.RegisterResponse;
-import com.recipenotebook.entity.*;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.entity.User;
 import com.recipenotebook.exception.AuthenticationException;
+import com.recipenotebook.exception.PasswordHashingUnavailableException;
 import com.recipenotebook.exception.RegistrationException;
 import com.recipenotebook.exception.UsernameAlreadyExistsException;
-import com.recipenotebook.repository.CategoryRepository;
-import com.recipenotebook.repository.RecipeRepository;
+import com.recipenotebook.index.RecipeChangedEvent;
+import com.recipenotebook.index.RecipeDocument;
 import com.recipenotebook.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AuthService {
     
     private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
-    private final RecipeRepository recipeRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final SampleRecipeTemplate sampleRecipeTemplate;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecipeFacetService facetService;
+    private final RecipeSummaryService summaryService;
+    private final TransactionTemplate transactionTemplate;
+    
+    public AuthService(UserRepository userRepository,
+                       SampleRecipeTemplate sampleRecipeTemplate,
+                       PasswordHasher passwordHasher,
+                       JwtService jwtService,
+                       ApplicationEventPublisher eventPublisher,
+                       RecipeFacetService facetService,
+                       RecipeSummaryService summaryService,
+                       PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.sampleRecipeTemplate = sampleRecipeTemplate;
+        this.passwordHasher = passwordHasher;
+        this.jwtService = jwtService;
+        this.eventPublisher = eventPublisher;
+        this.facetService = facetService;
+        this.summaryService = summaryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
     
-    @Transactional
     public RegisterResponse registerUser(RegisterRequest request) {
         log.info("Registration attempt for username: {}", request.getUsername());
         
@@ -41,29 +61,15 @@ public class AuthService {
                 throw new UsernameAlreadyExistsException(request.getUsername());
             }
             
-            String passwordHash = passwordEncoder.encode(request.getPassword());
-            
-            User user = new User();
-            user.setUsername(request.getUsername());
-            user.setPasswordHash(passwordHash);
-            user = userRepository.save(user);
-            
-            log.info("User created successfully with ID: {}", user.getId());
-            
-            List<Category> defaultCategories = createDefaultCategories();
-            
-            Category dessertCategory = defaultCategories.stream()
-                    .filter(cat -> "Dessert".equals(cat.getName()))
-                    .findFirst()
-                    .orElseThrow(() -> new RegistrationException("Dessert category not found"));
+            String passwordHash = passwordHasher.encode(request.getPassword());
             
-            createSampleRecipe(user.getId(), dessertCategory);
+            User user = transactionTemplate.execute(status -> createUser(request.getUsername(), passwordHash));
             
             log.info("Registration completed successfully for user: {}", user.getUsername());
             
             return new RegisterResponse(user.getId(), user.getUsername());
-            
-        } catch (UsernameAlreadyExistsException e) {
+        
+        } catch (UsernameAlreadyExistsException | PasswordHashingUnavailableException e) {
             throw e;
         } catch (DataAccessException e) {
             log.error("Database error during registration for username: {}", request.getUsername(), e);
@@ -74,81 +80,20 @@ public class AuthService {
         }
     }
     
-    private List<Category> createDefaultCategories() {
-        String[] categoryNames = {"Breakfast", "Lunch", "Dinner", "Dessert", "Snacks", "Drinks"};
-        List<Category> categories = new ArrayList<>();
-        
-        for (String name : categoryNames) {
-            Category category = categoryRepository.findByName(name)
-                    .orElseGet(() -> {
-                        Category newCategory = new Category();
-                        newCategory.setName(name);
-                        newCategory.setIsDefault(true);
-                        return categoryRepository.save(newCategory);
-                    });
-            categories.add(category);
-        }
-        
-        log.info("Created {} default categories", categories.size());
-        
-        return categories;
-    }
-    
-    private void createSampleRecipe(Long userId, Category dessertCategory) {
-        Recipe recipe = new Recipe();
-        recipe.setUserId(userId);
-        recipe.setTitle("Classic Chocolate Chip Cookies");
-        recipe.setDifficulty(Difficulty.EASY);
-        recipe.setCookingTimeMinutes(25);
+    private User createUser(String username, String passwordHash) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPasswordHash(passwordHash);
+        user = userRepository.saveAndFlush(user);
         
-        addIngredients(recipe);
-        addSteps(recipe);
+        log.info("User created successfully with ID: {}", user.getId());
         
-        recipe.addCategory(dessertCategory);
-        
-        recipeRepository.save(recipe);
-        log.info("Created sample recipe for user ID: {}", userId);
-    }
-    
-    private void addIngredients(Recipe recipe) {
-        String[][] ingredientData = {
-            {"2¼", "cups", "all-purpose flour"},
-            {"1", "tsp", "baking soda"},
-            {"1", "tsp", "salt"},
-            {"1", "cup", "butter, softened"},
-            {"¾", "cup", "granulated sugar"},
-            {"¾", "cup", "packed brown sugar"},
-            {"2", "large", "eggs"},
-            {"2", "tsp", "vanilla extract"},
-            {"2", "cups", "chocolate chips"}
-        };
+        Recipe recipe = sampleRecipeTemplate.createFor(user.getId());
+        facetService.recordInserted(List.of(recipe.getId()));
+        summaryService.recordCreated(List.of(recipe));
+        eventPublisher.publishEvent(RecipeChangedEvent.upserted(RecipeDocument.from(recipe)));
         
-        for (int i = 0; i < ingredientData.length; i++) {
-            Ingredient ingredient = new Ingredient();
-            ingredient.setQuantity(ingredientData[i][0]);
-            ingredient.setUnit(ingredientData[i][1]);
-            ingredient.setName(ingredientData[i][2]);
-            ingredient.setSortOrder(i + 1);
-            recipe.addIngredient(ingredient);
-        }
-    }
-    
-    private void addSteps(Recipe recipe) {
-        String[] instructions = {
-            "Preheat oven to 375°F (190°C).",
-            "Combine flour, baking soda, and salt in a bowl.",
-            "Beat butter and sugars until creamy. Add eggs and vanilla.",
-            "Gradually blend in flour mixture. Stir in chocolate chips.",
-            "Drop rounded tablespoons onto ungreased baking sheets.",
-            "Bake for 9-11 minutes or until golden brown."
-        };
-        
-        for (int i = 0; i < instructions.length; i++) {
-            Step step = new Step();
-            step.setStepNumber(i + 1);
-            step.setInstruction(instructions[i]);
-            recipe.addStep(step);
-        }
+        return user;
     }
     
     public LoginResponseDTO login(String username, String password) {
@@ -160,7 +105,7 @@ public class AuthService {
                     return new AuthenticationException("Invalid credentials");
                 });
         
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+        if (!passwordHasher.matches(password, user.getPasswordHash())) {
             log.warn("Login attempt with invalid password for username: {}", username);
             throw new AuthenticationException("Invalid credentials");
         }
@@ -0,0 +1,38 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.AutocompleteResponseData;
+import com.recipenotebook.dto.SuggestionDTO;
+import com.recipenotebook.exception.IndexNotReadyException;
+import com.recipenotebook.index.AutocompleteIndex;
+import com.recipenotebook.index.RecipeIndexCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutocompleteService {
+    
+    private final AutocompleteIndex autocompleteIndex;
+    private final RecipeIndexCoordinator indexCoordinator;
+    
+    public AutocompleteResponseData suggest(Long userId, AutocompleteIndex.Field field, String prefix, int limit) {
+        if (!indexCoordinator.isReady()) {
+            throw new IndexNotReadyException("Recipe indexes are still being built");
+        }
+        
+        List<SuggestionDTO> suggestions = autocompleteIndex.suggest(userId, field, prefix, limit)
+            .stream()
+            .map(suggestion -> new SuggestionDTO(suggestion.getValue(), suggestion.getWeight()))
+            .collect(Collectors.toList());
+        
+        log.debug("Found {} {} suggestions for user {} and prefix '{}'", suggestions.size(), field, userId, prefix);
+        
+        return new AutocompleteResponseData(field.name().toLowerCase(Locale.ROOT), suggestions);
+    }
+}
@@ -0,0 +1,25 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.entity.Category;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CategoryChangeListener {
+    
+    private final ObjectProvider<CategoryRegistry> categoryRegistry;
+    
+    public CategoryChangeListener(ObjectProvider<CategoryRegistry> categoryRegistry) {
+        this.categoryRegistry = categoryRegistry;
+    }
+    
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCategoryChanged(Category category) {
+        categoryRegistry.ifAvailable(CategoryRegistry::invalidate);
+    }
+}
@@ -0,0 +1,119 @@
+package com.recipenotebook.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipenotebook.dto.ApiResponse;
+import com.recipenotebook.dto.CategoriesResponseData;
+import com.recipenotebook.dto.CategoryDTO;
+import com.recipenotebook.repository.CategoryRepository;
+import com.recipenotebook.util.ETags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class CategoryRegistry {
+    
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long missReloadIntervalNanos;
+    private final AtomicLong nextMissReloadAt;
+    
+    public CategoryRegistry(CategoryRepository categoryRepository, ObjectMapper objectMapper,
+                            @Value("${recipe.categories.miss-reload-interval-seconds:30}") long missReloadIntervalSeconds) {
+        this.categoryRepository = categoryRepository;
+        this.objectMapper = objectMapper;
+        this.missReloadIntervalNanos = TimeUnit.SECONDS.toNanos(missReloadIntervalSeconds);
+        this.nextMissReloadAt = new AtomicLong(System.nanoTime());
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        current();
+    }
+    
+    public CategorySnapshot current() {
+        CategorySnapshot current = snapshot.get();
+        return current != null ? current : reload();
+    }
+    
+    public List<Long> findMissingIds(Collection<Long> categoryIds) {
+        List<Long> missing = missingFrom(current(), categoryIds);
+        if (!missing.isEmpty() && claimMissReload()) {
+            missing = missingFrom(reload(), categoryIds);
+        }
+        return missing;
+    }
+    
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                    snapshot.set(null);
+                }
+            });
+        }
+    }
+    
+    private boolean claimMissReload() {
+        long now = System.nanoTime();
+        long allowedAt = nextMissReloadAt.get();
+        return now - allowedAt >= 0 && nextMissReloadAt.compareAndSet(allowedAt, now + missReloadIntervalNanos);
+    }
+    
+    private CategorySnapshot reload() {
+        long expectedGeneration = generation.get();
+        List<CategoryDTO> categories = categoryRepository.findAllByOrderByNameAsc()
+            .stream()
+            .map(category -> new CategoryDTO(category.getId(), category.getName(), category.getIsDefault()))
+            .collect(Collectors.toList());
+        
+        byte[] body = serialize(categories);
+        CategorySnapshot loaded = new CategorySnapshot(categories, body, ETags.forContent(body));
+        
+        if (generation.get() == expectedGeneration) {
+            snapshot.set(loaded);
+        }
+        log.info("Loaded category registry with {} categories", categories.size());
+        return loaded;
+    }
+    
+    private byte[] serialize(List<CategoryDTO> categories) {
+        try {
+            return objectMapper.writeValueAsBytes(
+                ApiResponse.success("Categories retrieved successfully", new CategoriesResponseData(categories)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize categories", e);
+        }
+    }
+    
+    private static List<Long> missingFrom(CategorySnapshot snapshot, Collection<Long> categoryIds) {
+        List<Long> missing = new ArrayList<>();
+        for (Long categoryId : new LinkedHashSet<>(categoryIds)) {
+            if (!snapshot.contains(categoryId)) {
+                missing.add(categoryId);
+            }
+        }
+        return missing;
+    }
+}
@@ -0,0 +1,51 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.CategoryDTO;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class CategorySnapshot {
+    
+    private final CategoryDTO[] byId;
+    private final Map<String, CategoryDTO> byName;
+    @Getter
+    private final List<CategoryDTO> categories;
+    @Getter
+    private final byte[] responseBody;
+    @Getter
+    private final String eTag;
+    
+    CategorySnapshot(List<CategoryDTO> sortedCategories, byte[] responseBody, String eTag) {
+        long maxId = sortedCategories.stream().mapToLong(CategoryDTO::getId).max().orElse(0);
+        this.byId = new CategoryDTO[(int) maxId + 1];
+        Map<String, CategoryDTO> names = new HashMap<>();
+        for (CategoryDTO category : sortedCategories) {
+            byId[category.getId().intValue()] = category;
+            names.put(category.getName(), category);
+        }
+        this.byName = Collections.unmodifiableMap(names);
+        this.categories = List.copyOf(sortedCategories);
+        this.responseBody = responseBody;
+        this.eTag = eTag;
+    }
+    
+    public boolean contains(Long categoryId) {
+        return get(categoryId).isPresent();
+    }
+    
+    public Optional<CategoryDTO> get(Long categoryId) {
+        if (categoryId == null || categoryId < 0 || categoryId >= byId.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(byId[categoryId.intValue()]);
+    }
+    
+    public Optional<CategoryDTO> findByName(String name) {
+        return Optional.ofNullable(byName.get(name));
+    }
+}
@@ -0,0 +1,14 @@
+package com.recipenotebook.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+    private Long userId;
+    private String username;
+    private Instant expiresAt;
+}
@@ -1,5 +1,9 @@
 package com.recipenotebook.service;
 
+import com.recipenotebook.exception.AuthenticationException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -20,10 +24,12 @@ import java.util.Map;
 public class JwtService {
     
     private final SecretKey secretKey;
+    private final JwtParser parser;
     private static final long EXPIRATION_HOURS = 24;
     
     public JwtService(@Value("${jwt.secret}") String secret) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
         log.info("JwtService initialized with HS256 algorithm");
     }
     
@@ -46,6 +52,21 @@ public class JwtService {
         return token;
     }
     
+    public JwtClaims verify(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthenticationException("Invalid or expired token");
+        }
+        
+        Number userId = claims.get("userId", Number.class);
+        if (userId == null || claims.getExpiration() == null) {
+            throw new AuthenticationException("Token is missing required claims");
+        }
+        return new JwtClaims(userId.longValue(), claims.getSubject(), claims.getExpiration().toInstant());
+    }
+    
     public Instant getExpirationTime() {
         return Instant.now().plus(EXPIRATION_HOURS, ChronoUnit.HOURS);
     }
@@ -0,0 +1,52 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.PantryMatchDTO;
+import com.recipenotebook.dto.PantryMatchesResponseData;
+import com.recipenotebook.exception.IndexNotReadyException;
+import com.recipenotebook.index.PantryIndex;
+import com.recipenotebook.index.PantryMatch;
+import com.recipenotebook.index.RecipeIndexCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PantryService {
+    
+    private final PantryIndex pantryIndex;
+    private final RecipeIndexCoordinator indexCoordinator;
+    
+    public PantryMatchesResponseData findCookableRecipes(Long userId, List<String> ingredients, boolean requireAll, int limit) {
+        log.info("Finding cookable recipes for user {} with {} pantry ingredients, requireAll: {}", 
+            userId, ingredients.size(), requireAll);
+        
+        if (!indexCoordinator.isReady()) {
+            throw new IndexNotReadyException("Recipe indexes are still being built");
+        }
+        
+        List<PantryMatchDTO> matches = pantryIndex.findCookable(userId, ingredients, requireAll, limit)
+            .stream()
+            .map(this::mapToDTO)
+            .collect(Collectors.toList());
+        
+        log.info("Found {} cookable recipes for user {}", matches.size(), userId);
+        
+        return new PantryMatchesResponseData(matches);
+    }
+    
+    private PantryMatchDTO mapToDTO(PantryMatch match) {
+        return new PantryMatchDTO(
+            match.getRecipeId(),
+            match.getTitle(),
+            match.getMatchedIngredients(),
+            match.getTotalIngredients(),
+            match.getCoverage(),
+            match.getMissingIngredients()
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.PasswordHashingStatsDTO;
+import com.recipenotebook.exception.PasswordHashingUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+@Service
+@Slf4j
+public class PasswordHasher {
+    
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    
+    public PasswordHasher(BCryptPasswordEncoder passwordEncoder,
+                          @Value("${auth.hashing.threads:0}") int threads,
+                          @Value("${auth.hashing.queue-capacity:32}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger workerCount = new AtomicInteger();
+        this.passwordEncoder = passwordEncoder;
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+                Thread worker = new Thread(runnable, "password-hasher-" + workerCount.incrementAndGet());
+                worker.setDaemon(true);
+                return worker;
+            }, new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password hashing pool started with {} threads and a queue of {}", poolSize, queueCapacity);
+    }
+    
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+    
+    public boolean matches(String rawPassword, String passwordHash) {
+        return run(() -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+    
+    public PasswordHashingStatsDTO getStats() {
+        long count = completed.sum();
+        return new PasswordHashingStatsDTO(
+            executor.getCorePoolSize(),
+            executor.getActiveCount(),
+            executor.getQueue().size(),
+            queueCapacity,
+            count,
+            rejected.sum(),
+            count == 0 ? 0.0 : hashNanos.sum() / NANOS_PER_MILLI / count,
+            maxHashNanos.get() / NANOS_PER_MILLI,
+            count == 0 ? 0.0 : waitNanos.sum() / NANOS_PER_MILLI / count
+        );
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    private <T> T run(Supplier<T> work) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return work.get();
+                } finally {
+                    record(startedAt - submittedAt, System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new PasswordHashingUnavailableException("Password hashing capacity exceeded");
+        }
+        
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException("Interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+    
+    private void record(long waitedNanos, long tookNanos) {
+        completed.increment();
+        waitNanos.add(waitedNanos);
+        hashNanos.add(tookNanos);
+        maxHashNanos.accumulateAndGet(tookNanos, Math::max);
+    }
+}
@@ -0,0 +1,74 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.repository.RecipeSummaryRow;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class RecipeCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    private final String sortField;
+    private final String sortDirection;
+    private final Long lastId;
+    private final Object lastValue;
+    
+    public static RecipeCursor after(RecipeSummaryRow row, String sortField, String sortDirection) {
+        return new RecipeCursor(sortField, sortDirection.toLowerCase(), row.getId(), row.get(sortField));
+    }
+    
+    public static RecipeCursor decode(String cursor) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor is not valid Base64", e);
+        }
+        
+        String[] parts = decoded.split("\\" + SEPARATOR, 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Cursor is malformed");
+        }
+        
+        try {
+            return new RecipeCursor(parts[0], parts[1], Long.parseLong(parts[2]), parseValue(parts[0], parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Cursor is malformed", e);
+        }
+    }
+    
+    public String encode() {
+        String raw = sortField + SEPARATOR + sortDirection + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public boolean matches(String sortField, String sortDirection) {
+        return this.sortField.equals(sortField) && this.sortDirection.equalsIgnoreCase(sortDirection);
+    }
+    
+    public KeysetScrollPosition toScrollPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortField, lastValue);
+        keys.put("id", lastId);
+        return ScrollPosition.forward(keys);
+    }
+    
+    private static Object parseValue(String sortField, String value) {
+        return switch (sortField) {
+            case "title" -> value;
+            case "cookingTimeMinutes" -> Integer.valueOf(value);
+            case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+            default -> throw new IllegalArgumentException("Unsupported sort field: " + sortField);
+        };
+    }
+}
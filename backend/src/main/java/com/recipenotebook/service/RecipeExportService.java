@@ -0,0 +1,105 @@
+package com.recipenotebook.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.recipenotebook.dto.CategoryDTO;
+import com.recipenotebook.dto.IngredientDTO;
+import com.recipenotebook.dto.RecipeDetailDTO;
+import com.recipenotebook.dto.StepDTO;
+import com.recipenotebook.repository.RecipeExportRow;
+import com.recipenotebook.repository.RecipeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class RecipeExportService {
+    
+    private final RecipeRepository recipeRepository;
+    private final ObjectWriter lineWriter;
+    private final int fetchSize;
+    
+    public RecipeExportService(RecipeRepository recipeRepository,
+                               ObjectMapper objectMapper,
+                               @Value("${recipe.export.fetch-size:500}") int fetchSize) {
+        this.recipeRepository = recipeRepository;
+        this.lineWriter = objectMapper.writerFor(RecipeDetailDTO.class)
+            .withRootValueSeparator("\n")
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.fetchSize = fetchSize;
+    }
+    
+    @Transactional(readOnly = true)
+    public int exportRecipes(Long userId, OutputStream out) throws IOException {
+        log.info("Exporting recipes for user {}", userId);
+        
+        int exported = 0;
+        try (Stream<RecipeExportRow> rows = recipeRepository.streamExportRowsByUserId(userId, fetchSize);
+             SequenceWriter writer = lineWriter.writeValues(out)) {
+            RecipeDetailDTO current = null;
+            Iterator<RecipeExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                RecipeExportRow row = iterator.next();
+                if (row.getKind() == RecipeExportRow.RECIPE) {
+                    if (current != null) {
+                        writer.write(current);
+                        exported++;
+                    }
+                    current = toRecipe(row);
+                } else if (current != null && current.getId().equals(row.getRecipeId())) {
+                    addChild(current, row);
+                }
+            }
+            if (current != null) {
+                writer.write(current);
+                exported++;
+            }
+        }
+        if (exported > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        
+        log.info("Exported {} recipes for user {}", exported, userId);
+        return exported;
+    }
+    
+    private RecipeDetailDTO toRecipe(RecipeExportRow row) {
+        return new RecipeDetailDTO(
+            row.getRecipeId(),
+            row.getTitle(),
+            row.getDifficulty(),
+            row.getCookingTimeMinutes(),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            new ArrayList<>(),
+            row.getCreatedAt(),
+            row.getUpdatedAt()
+        );
+    }
+    
+    private void addChild(RecipeDetailDTO recipe, RecipeExportRow row) {
+        switch (row.getKind()) {
+            case RecipeExportRow.CATEGORY ->
+                recipe.getCategories().add(new CategoryDTO(row.getChildId(), row.getName(), row.getIsDefault()));
+            case RecipeExportRow.INGREDIENT ->
+                recipe.getIngredients().add(new IngredientDTO(
+                    row.getChildId(), row.getQuantity(), row.getUnit(), row.getName(), row.getPosition()));
+            case RecipeExportRow.STEP ->
+                recipe.getSteps().add(new StepDTO(row.getChildId(), row.getPosition(), row.getInstruction()));
+            default -> throw new IllegalStateException("Unknown export row kind: " + row.getKind());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.CategoryDTO;
+import com.recipenotebook.dto.FacetCountDTO;
+import com.recipenotebook.dto.RecipeFacetsResponseData;
+import com.recipenotebook.entity.Category;
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.entity.RecipeFacetCount;
+import com.recipenotebook.repository.RecipeFacetCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class RecipeFacetService {
+    
+    public static final String CATEGORY = "category";
+    public static final String DIFFICULTY = "difficulty";
+    public static final String COOKING_TIME = "cookingTime";
+    public static final List<String> COOKING_TIME_BUCKETS = List.of("0-15", "16-30", "31-60", "61+");
+    
+    private static final Comparator<FacetKey> FACET_KEY_ORDER =
+        Comparator.comparing(FacetKey::facet).thenComparing(FacetKey::value);
+    
+    private final RecipeFacetCountRepository facetCountRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final TransactionTemplate writeTemplate;
+    private final int batchSize;
+    
+    public RecipeFacetService(RecipeFacetCountRepository facetCountRepository,
+                              CategoryRegistry categoryRegistry,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${recipe.facets.rebuild-batch-size:500}") int batchSize) {
+        this.facetCountRepository = facetCountRepository;
+        this.categoryRegistry = categoryRegistry;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+    
+    public record FacetKey(String facet, String value) {
+    }
+    
+    public static List<FacetKey> keysOf(Recipe recipe) {
+        List<FacetKey> keys = new ArrayList<>(recipe.getCategories().size() + 2);
+        keys.add(new FacetKey(DIFFICULTY, recipe.getDifficulty().name()));
+        keys.add(new FacetKey(COOKING_TIME, cookingTimeBucket(recipe.getCookingTimeMinutes())));
+        recipe.getCategories().stream()
+            .map(Category::getId)
+            .distinct()
+            .forEach(categoryId -> keys.add(new FacetKey(CATEGORY, categoryId.toString())));
+        return keys;
+    }
+    
+    public static String cookingTimeBucket(int minutes) {
+        if (minutes <= 15) {
+            return "0-15";
+        }
+        if (minutes <= 30) {
+            return "16-30";
+        }
+        if (minutes <= 60) {
+            return "31-60";
+        }
+        return "61+";
+    }
+    
+    @Transactional
+    public void recordAdded(Long userId, Collection<Recipe> recipes) {
+        Map<FacetKey, Long> deltas = new HashMap<>();
+        for (Recipe recipe : recipes) {
+            keysOf(recipe).forEach(key -> deltas.merge(key, 1L, Long::sum));
+        }
+        apply(userId, deltas);
+    }
+    
+    @Transactional
+    public void recordInserted(Collection<Long> recipeIds) {
+        facetCountRepository.addRecipes(recipeIds);
+    }
+    
+    @Transactional
+    public void recordChanged(Long userId, List<FacetKey> before, List<FacetKey> after) {
+        Map<FacetKey, Long> deltas = new HashMap<>();
+        before.forEach(key -> deltas.merge(key, -1L, Long::sum));
+        after.forEach(key -> deltas.merge(key, 1L, Long::sum));
+        apply(userId, deltas);
+    }
+    
+    @Transactional
+    public void recordRemoved(Collection<Long> recipeIds) {
+        facetCountRepository.subtractRecipes(recipeIds);
+    }
+    
+    @Transactional(readOnly = true)
+    public RecipeFacetsResponseData getFacets(Long userId) {
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        for (RecipeFacetCount count : facetCountRepository.findByUserIdAndRecipeCountGreaterThan(userId, 0L)) {
+            counts.computeIfAbsent(count.getFacet(), facet -> new HashMap<>())
+                .put(count.getFacetValue(), count.getRecipeCount());
+        }
+        
+        CategorySnapshot snapshot = categoryRegistry.current();
+        List<FacetCountDTO> categories = counts.getOrDefault(CATEGORY, Map.of()).entrySet().stream()
+            .map(entry -> new FacetCountDTO(
+                entry.getKey(),
+                snapshot.get(Long.valueOf(entry.getKey())).map(CategoryDTO::getName).orElse(null),
+                entry.getValue()))
+            .filter(facet -> facet.getLabel() != null)
+            .sorted(Comparator.comparing(FacetCountDTO::getLabel))
+            .collect(Collectors.toList());
+        
+        Map<String, Long> difficultyCounts = counts.getOrDefault(DIFFICULTY, Map.of());
+        List<FacetCountDTO> difficulties = new ArrayList<>();
+        for (Difficulty difficulty : Difficulty.values()) {
+            String value = difficulty.name();
+            difficulties.add(new FacetCountDTO(value, value, difficultyCounts.getOrDefault(value, 0L)));
+        }
+        
+        Map<String, Long> cookingTimeCounts = counts.getOrDefault(COOKING_TIME, Map.of());
+        List<FacetCountDTO> cookingTimes = COOKING_TIME_BUCKETS.stream()
+            .map(bucket -> new FacetCountDTO(bucket, bucket, cookingTimeCounts.getOrDefault(bucket, 0L)))
+            .collect(Collectors.toList());
+        
+        return new RecipeFacetsResponseData(categories, difficulties, cookingTimes);
+    }
+    
+    @Scheduled(cron = "${recipe.facets.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        log.info("Rebuilding recipe facet counts");
+        long started = System.currentTimeMillis();
+        int ranges = 0;
+        Optional<Long> afterUserId = Optional.of(0L);
+        while (afterUserId.isPresent()) {
+            long from = afterUserId.get();
+            afterUserId = writeTemplate.execute(status -> {
+                Optional<Long> throughUserId = facetCountRepository.findUserRangeEnd(from, batchSize);
+                facetCountRepository.rebuildUserRange(from, throughUserId.orElse(Long.MAX_VALUE));
+                return throughUserId;
+            });
+            ranges++;
+        }
+        log.info("Rebuilt recipe facet counts in {} user ranges in {} ms", ranges, System.currentTimeMillis() - started);
+    }
+    
+    private void apply(Long userId, Map<FacetKey, Long> deltas) {
+        deltas.entrySet().stream()
+            .filter(entry -> entry.getValue() != 0)
+            .sorted(Map.Entry.comparingByKey(FACET_KEY_ORDER))
+            .forEach(entry -> facetCountRepository.addToCount(
+                userId, entry.getKey().facet(), entry.getKey().value(), entry.getValue()));
+    }
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -21,4 +22,8 @@ public class RecipeFilterCriteria {
     private int size;
     private String sortField;
     private String sortDirection;
+    private String cursor;
+    private String searchMode;
+    private boolean fuzzy;
+    private Set<String> fields;
 }
@@ -0,0 +1,169 @@
+package com.recipenotebook.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.recipenotebook.dto.BulkImportItemResult;
+import com.recipenotebook.dto.BulkImportResponseData;
+import com.recipenotebook.dto.CreateRecipeRequest;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.index.RecipeChangedEvent;
+import com.recipenotebook.index.RecipeDocument;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class RecipeImportService {
+    
+    private final RecipeService recipeService;
+    private final CategoryRegistry categoryRegistry;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecipeFacetService facetService;
+    private final RecipeSummaryService summaryService;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    
+    public RecipeImportService(RecipeService recipeService,
+                               CategoryRegistry categoryRegistry,
+                               EntityManager entityManager,
+                               ApplicationEventPublisher eventPublisher,
+                               RecipeFacetService facetService,
+                               RecipeSummaryService summaryService,
+                               Validator validator,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${recipe.bulk-import.chunk-size:500}") int chunkSize) {
+        this.recipeService = recipeService;
+        this.categoryRegistry = categoryRegistry;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.facetService = facetService;
+        this.summaryService = summaryService;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(CreateRecipeRequest.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+    
+    public BulkImportResponseData importRecipes(InputStream body, Long userId) {
+        log.info("Starting bulk recipe import for user {}", userId);
+        
+        List<BulkImportItemResult> results = new ArrayList<>();
+        List<PendingRecipe> chunk = new ArrayList<>(chunkSize);
+        String error = null;
+        int index = 0;
+        
+        try (MappingIterator<CreateRecipeRequest> requests = requestReader.readValues(body)) {
+            while (requests.hasNextValue()) {
+                int itemIndex = index++;
+                CreateRecipeRequest request;
+                try {
+                    request = requests.nextValue();
+                } catch (JsonMappingException e) {
+                    results.add(BulkImportItemResult.failed(itemIndex, Map.of("request", "Recipe could not be read: " + e.getOriginalMessage())));
+                    continue;
+                }
+                
+                Map<String, String> errors = validate(request);
+                if (!errors.isEmpty()) {
+                    results.add(BulkImportItemResult.failed(itemIndex, errors));
+                    continue;
+                }
+                
+                chunk.add(new PendingRecipe(itemIndex, request));
+                if (chunk.size() >= chunkSize) {
+                    results.addAll(writeChunk(chunk, userId));
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Bulk import for user {} stopped at item {}: {}", userId, index, e.getMessage());
+            error = "Malformed JSON at item " + index + ": " + e.getMessage();
+        }
+        
+        if (!chunk.isEmpty()) {
+            results.addAll(writeChunk(chunk, userId));
+        }
+        
+        int created = (int) results.stream().filter(result -> result.getRecipeId() != null).count();
+        log.info("Bulk import for user {} finished: {} received, {} created", userId, results.size(), created);
+        
+        return new BulkImportResponseData(results.size(), created, results.size() - created, error, results);
+    }
+    
+    private Map<String, String> validate(CreateRecipeRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        if (request == null) {
+            errors.put("request", "Recipe must be a JSON object");
+            return errors;
+        }
+        
+        for (ConstraintViolation<CreateRecipeRequest> violation : validator.validate(request)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        if (errors.isEmpty()) {
+            List<Long> missingIds = categoryRegistry.findMissingIds(request.getCategoryIds());
+            if (!missingIds.isEmpty()) {
+                errors.put("categoryIds", "Category with ID " + missingIds.get(0) + " does not exist");
+            }
+        }
+        return errors;
+    }
+    
+    private List<BulkImportItemResult> writeChunk(List<PendingRecipe> chunk, Long userId) {
+        try {
+            List<Long> recipeIds = transactionTemplate.execute(status -> {
+                List<Recipe> recipes = new ArrayList<>(chunk.size());
+                for (PendingRecipe pending : chunk) {
+                    Recipe recipe = recipeService.buildRecipe(pending.request(), userId);
+                    entityManager.persist(recipe);
+                    recipes.add(recipe);
+                }
+                entityManager.flush();
+                facetService.recordAdded(userId, recipes);
+                summaryService.recordCreated(recipes);
+                
+                List<Long> ids = new ArrayList<>(recipes.size());
+                for (Recipe recipe : recipes) {
+                    eventPublisher.publishEvent(RecipeChangedEvent.upserted(RecipeDocument.from(recipe)));
+                    ids.add(recipe.getId());
+                }
+                entityManager.clear();
+                return ids;
+            });
+            
+            List<BulkImportItemResult> results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(BulkImportItemResult.created(chunk.get(i).index(), recipeIds.get(i)));
+            }
+            return results;
+        } catch (RuntimeException e) {
+            log.error("Bulk import chunk of {} recipes failed for user {}", chunk.size(), userId, e);
+            return chunk.stream()
+                .map(pending -> BulkImportItemResult.failed(pending.index(), Map.of("request", "Recipe could not be saved")))
+                .toList();
+        }
+    }
+    
+    private record PendingRecipe(int index, CreateRecipeRequest request) {
+    }
+}
@@ -4,23 +4,46 @@ import com.recipenotebook.dto.*;
 import com.recipenotebook.entity.*;
 import com.recipenotebook.exception.CategoryNotFoundException;
 import com.recipenotebook.exception.RecipeNotFoundException;
-import com.recipenotebook.repository.CategoryRepository;
+import com.recipenotebook.index.CategoryFilterIndex;
+import com.recipenotebook.index.FilteredRecipeIds;
+import com.recipenotebook.index.FuzzyHit;
+import com.recipenotebook.index.FuzzySearchIndex;
+import com.recipenotebook.index.RecipeChangedEvent;
+import com.recipenotebook.index.RecipeDocument;
+import com.recipenotebook.index.RecipeIndexCoordinator;
+import com.recipenotebook.index.RecipeSearchIndex;
+import com.recipenotebook.index.SearchHit;
+import com.recipenotebook.repository.RecipeChildRow;
+import com.recipenotebook.repository.RecipeDetailRow;
 import com.recipenotebook.repository.RecipeRepository;
-import com.recipenotebook.repository.RecipeSpecification;
+import com.recipenotebook.repository.RecipeSummaryRepository;
+import com.recipenotebook.repository.RecipeSummarySpecification;
+import com.recipenotebook.repository.RecipeSummaryRow;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,9 +51,20 @@ import java.util.stream.Collectors;
 @Slf4j
 public class RecipeService {
     
+    public static final Set<String> SUMMARY_FIELDS =
+        Set.of("id", "title", "difficulty", "cookingTimeMinutes", "categories", "createdAt", "updatedAt");
+    
     private final RecipeRepository recipeRepository;
     private final EntityManager entityManager;
-    private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecipeSearchIndex searchIndex;
+    private final FuzzySearchIndex fuzzySearchIndex;
+    private final CategoryFilterIndex categoryFilterIndex;
+    private final RecipeIndexCoordinator indexCoordinator;
+    private final RecipeFacetService facetService;
+    private final RecipeSummaryRepository summaryRepository;
+    private final RecipeSummaryService summaryService;
     
     @Transactional
     public Long createRecipe(CreateRecipeRequest request, Long userId) {
@@ -38,34 +72,10 @@ public class RecipeService {
         
         validateCategories(request.getCategoryIds());
         
-        Recipe recipe = new Recipe();
-        recipe.setUserId(userId);
-        recipe.setTitle(request.getTitle());
-        recipe.setDifficulty(Difficulty.valueOf(request.getDifficulty()));
-        recipe.setCookingTimeMinutes(request.getCookingTimeMinutes());
-        
-        int sortOrder = 1;
-        for (IngredientRequest ingReq : request.getIngredients()) {
-            Ingredient ingredient = new Ingredient();
-            ingredient.setQuantity(ingReq.getQuantity());
-            ingredient.setUnit(ingReq.getUnit());
-            ingredient.setName(ingReq.getName());
-            ingredient.setSortOrder(sortOrder++);
-            recipe.addIngredient(ingredient);
-        }
-        
-        int stepNumber = 1;
-        for (StepRequest stepReq : request.getSteps()) {
-            Step step = new Step();
-            step.setInstruction(stepReq.getInstruction());
-            step.setStepNumber(stepNumber++);
-            recipe.addStep(step);
-        }
-        
-        List<Category> categories = categoryRepository.findAllById(request.getCategoryIds());
-        categories.forEach(recipe::addCategory);
-        
-        Recipe savedRecipe = recipeRepository.save(recipe);
+        Recipe savedRecipe = recipeRepository.save(buildRecipe(request, userId));
+        facetService.recordAdded(userId, List.of(savedRecipe));
+        summaryService.recordCreated(List.of(savedRecipe));
+        eventPublisher.publishEvent(RecipeChangedEvent.upserted(RecipeDocument.from(savedRecipe)));
         log.info("Recipe created successfully with ID {}", savedRecipe.getId());
         
         return savedRecipe.getId();
@@ -84,106 +94,209 @@ public class RecipeService {
         
         validateCategories(request.getCategoryIds());
         
-        recipe.getIngredients().clear();
-        recipe.getSteps().clear();
-        recipe.getCategories().clear();
+        List<RecipeFacetService.FacetKey> facetsBefore = RecipeFacetService.keysOf(recipe);
+        boolean changed = false;
+        Difficulty difficulty = Difficulty.valueOf(request.getDifficulty());
+        if (!request.getTitle().equals(recipe.getTitle())
+                || difficulty != recipe.getDifficulty()
+                || !request.getCookingTimeMinutes().equals(recipe.getCookingTimeMinutes())) {
+            recipe.setTitle(request.getTitle());
+            recipe.setDifficulty(difficulty);
+            recipe.setCookingTimeMinutes(request.getCookingTimeMinutes());
+            changed = true;
+        }
         
+        changed |= mergeIngredients(recipe, request.getIngredients());
+        changed |= mergeSteps(recipe, request.getSteps());
+        changed |= mergeCategories(recipe, request.getCategoryIds());
+        
+        if (!changed) {
+            log.info("Recipe {} unchanged, skipping update", id);
+            return recipe.getId();
+        }
+        recipe.setUpdatedAt(LocalDateTime.now());
+        
+        Recipe updatedRecipe = recipeRepository.save(recipe);
         entityManager.flush();
+        facetService.recordChanged(userId, facetsBefore, RecipeFacetService.keysOf(updatedRecipe));
+        summaryService.recordUpdated(updatedRecipe);
+        eventPublisher.publishEvent(RecipeChangedEvent.upserted(RecipeDocument.from(updatedRecipe)));
+        log.info("Recipe {} updated successfully", updatedRecipe.getId());
         
-        recipe.setTitle(request.getTitle());
-        recipe.setDifficulty(Difficulty.valueOf(request.getDifficulty()));
-        recipe.setCookingTimeMinutes(request.getCookingTimeMinutes());
+        return updatedRecipe.getId();
+    }
+    
+    private boolean mergeIngredients(Recipe recipe, List<IngredientRequest> requests) {
+        List<Ingredient> existing = new ArrayList<>(recipe.getIngredients());
+        existing.sort(Comparator.comparing(Ingredient::getSortOrder));
+        boolean changed = false;
+        
+        for (int i = 0; i < requests.size(); i++) {
+            IngredientRequest ingReq = requests.get(i);
+            if (i < existing.size()) {
+                Ingredient ingredient = existing.get(i);
+                if (!ingReq.getQuantity().equals(ingredient.getQuantity())
+                        || !ingReq.getUnit().equals(ingredient.getUnit())
+                        || !ingReq.getName().equals(ingredient.getName())) {
+                    ingredient.setQuantity(ingReq.getQuantity());
+                    ingredient.setUnit(ingReq.getUnit());
+                    ingredient.setName(ingReq.getName());
+                    changed = true;
+                }
+            } else {
+                Ingredient ingredient = new Ingredient();
+                ingredient.setQuantity(ingReq.getQuantity());
+                ingredient.setUnit(ingReq.getUnit());
+                ingredient.setName(ingReq.getName());
+                ingredient.setSortOrder(i + 1);
+                recipe.addIngredient(ingredient);
+                changed = true;
+            }
+        }
         
-        int sortOrder = 1;
-        for (IngredientRequest ingReq : request.getIngredients()) {
-            Ingredient ingredient = new Ingredient();
-            ingredient.setQuantity(ingReq.getQuantity());
-            ingredient.setUnit(ingReq.getUnit());
-            ingredient.setName(ingReq.getName());
-            ingredient.setSortOrder(sortOrder++);
-            recipe.addIngredient(ingredient);
+        for (int i = requests.size(); i < existing.size(); i++) {
+            recipe.getIngredients().remove(existing.get(i));
+            changed = true;
         }
         
-        int stepNumber = 1;
-        for (StepRequest stepReq : request.getSteps()) {
-            Step step = new Step();
-            step.setInstruction(stepReq.getInstruction());
-            step.setStepNumber(stepNumber++);
-            recipe.addStep(step);
+        return changed;
+    }
+    
+    private boolean mergeSteps(Recipe recipe, List<StepRequest> requests) {
+        List<Step> existing = new ArrayList<>(recipe.getSteps());
+        existing.sort(Comparator.comparing(Step::getStepNumber));
+        boolean changed = false;
+        
+        for (int i = 0; i < requests.size(); i++) {
+            StepRequest stepReq = requests.get(i);
+            if (i < existing.size()) {
+                Step step = existing.get(i);
+                if (!stepReq.getInstruction().equals(step.getInstruction())) {
+                    step.setInstruction(stepReq.getInstruction());
+                    changed = true;
+                }
+            } else {
+                Step step = new Step();
+                step.setInstruction(stepReq.getInstruction());
+                step.setStepNumber(i + 1);
+                recipe.addStep(step);
+                changed = true;
+            }
         }
         
-        List<Category> categories = categoryRepository.findAllById(request.getCategoryIds());
-        categories.forEach(recipe::addCategory);
+        for (int i = requests.size(); i < existing.size(); i++) {
+            recipe.getSteps().remove(existing.get(i));
+            changed = true;
+        }
         
-        Recipe updatedRecipe = recipeRepository.save(recipe);
-        log.info("Recipe {} updated successfully", updatedRecipe.getId());
+        return changed;
+    }
+    
+    private boolean mergeCategories(Recipe recipe, List<Long> categoryIds) {
+        Set<Long> requested = new LinkedHashSet<>(categoryIds);
+        Set<Long> current = recipe.getCategories().stream()
+            .map(Category::getId)
+            .collect(Collectors.toSet());
+        if (current.equals(requested)) {
+            return false;
+        }
         
-        return updatedRecipe.getId();
+        recipe.getCategories().clear();
+        requested.stream()
+            .map(categoryId -> entityManager.getReference(Category.class, categoryId))
+            .forEach(recipe::addCategory);
+        return true;
     }
     
     @Transactional
     public void deleteRecipe(Long recipeId, Long userId) {
         log.debug("Attempting to delete recipe {} for user {}", recipeId, userId);
         
-        Recipe recipe = recipeRepository.findByIdAndUserId(recipeId, userId)
-                .orElseThrow(() -> {
-                    log.warn("Recipe {} not found or does not belong to user {}", recipeId, userId);
-                    return new RecipeNotFoundException("Recipe not found");
-                });
-        
-        recipeRepository.delete(recipe);
+        if (deleteOwnedRecipes(List.of(recipeId), userId).isEmpty()) {
+            log.warn("Recipe {} not found or does not belong to user {}", recipeId, userId);
+            throw new RecipeNotFoundException("Recipe not found");
+        }
         
         log.info("Successfully deleted recipe {} for user {}", recipeId, userId);
     }
     
+    @Transactional
+    public RecipeBatchDeleteResponseData deleteRecipes(List<Long> recipeIds, Long userId) {
+        log.debug("Attempting to delete {} recipes for user {}", recipeIds.size(), userId);
+        
+        Set<Long> requestedIds = new LinkedHashSet<>(recipeIds);
+        List<Long> deletedIds = deleteOwnedRecipes(requestedIds, userId);
+        Set<Long> deleted = new HashSet<>(deletedIds);
+        List<Long> notFoundIds = requestedIds.stream()
+            .filter(recipeId -> !deleted.contains(recipeId))
+            .collect(Collectors.toList());
+        
+        log.info("Deleted {} of {} requested recipes for user {}", deletedIds.size(), requestedIds.size(), userId);
+        
+        return new RecipeBatchDeleteResponseData(deletedIds, notFoundIds);
+    }
+    
+    private List<Long> deleteOwnedRecipes(Collection<Long> recipeIds, Long userId) {
+        List<Long> ownedIds = recipeRepository.findIdsByIdInAndUserId(recipeIds, userId);
+        if (ownedIds.isEmpty()) {
+            return ownedIds;
+        }
+        
+        facetService.recordRemoved(ownedIds);
+        recipeRepository.deleteByIdInAndUserId(ownedIds, userId);
+        summaryService.recordDeleted(ownedIds);
+        ownedIds.forEach(recipeId -> eventPublisher.publishEvent(RecipeChangedEvent.deleted(userId, recipeId)));
+        
+        return ownedIds;
+    }
+    
+    @Transactional(readOnly = true)
+    public LocalDateTime getRecipeUpdatedAt(Long recipeId, Long userId) {
+        List<LocalDateTime> updatedAt = recipeRepository.findUpdatedAtByIdAndUserId(recipeId, userId);
+        if (updatedAt.isEmpty()) {
+            throw new RecipeNotFoundException("Recipe not found");
+        }
+        return updatedAt.get(0);
+    }
+    
     @Transactional(readOnly = true)
     public RecipeDetailDTO getRecipeById(Long recipeId, Long userId) {
         log.info("Retrieving recipe {} for user {}", recipeId, userId);
         
-        Recipe recipe = recipeRepository.findByIdAndUserId(recipeId, userId)
-            .orElseThrow(() -> new RecipeNotFoundException("Recipe not found"));
+        List<RecipeDetailRow> rows = recipeRepository.findDetailRowsByIdAndUserId(recipeId, userId);
+        if (rows.isEmpty()) {
+            throw new RecipeNotFoundException("Recipe not found");
+        }
         
-        recipe.getIngredients().size();
-        recipe.getSteps().size();
-        recipe.getCategories().size();
+        RecipeDetailDTO dto = toDetailDTO(rows, recipeRepository.findChildRowsByRecipeId(recipeId));
         
-        RecipeDetailDTO dto = new RecipeDetailDTO();
-        dto.setId(recipe.getId());
-        dto.setTitle(recipe.getTitle());
-        dto.setDifficulty(recipe.getDifficulty().name());
-        dto.setCookingTimeMinutes(recipe.getCookingTimeMinutes());
-        dto.setCreatedAt(recipe.getCreatedAt());
-        dto.setUpdatedAt(recipe.getUpdatedAt());
-        
-        List<IngredientDTO> ingredientDTOs = recipe.getIngredients().stream()
-            .sorted(Comparator.comparing(Ingredient::getSortOrder))
-            .map(ing -> new IngredientDTO(
-                ing.getId(),
-                ing.getQuantity(),
-                ing.getUnit(),
-                ing.getName(),
-                ing.getSortOrder()
-            ))
-            .collect(Collectors.toList());
-        dto.setIngredients(ingredientDTOs);
+        log.info("Recipe {} retrieved successfully", recipeId);
+        return dto;
+    }
+    
+    @Transactional(readOnly = true)
+    public List<RecipeBatchItemDTO> getRecipesByIds(List<Long> recipeIds, Long userId) {
+        log.info("Retrieving {} recipes by id for user {}", recipeIds.size(), userId);
         
-        List<StepDTO> stepDTOs = recipe.getSteps().stream()
-            .sorted(Comparator.comparing(Step::getStepNumber))
-            .map(step -> new StepDTO(
-                step.getId(),
-                step.getStepNumber(),
-                step.getInstruction()
-            ))
-            .collect(Collectors.toList());
-        dto.setSteps(stepDTOs);
+        Set<Long> distinctIds = new LinkedHashSet<>(recipeIds);
+        Map<Long, List<RecipeDetailRow>> rowsByRecipe = recipeRepository.findDetailRowsByIdsAndUserId(distinctIds, userId)
+            .stream()
+            .collect(Collectors.groupingBy(RecipeDetailRow::getRecipeId));
+        Map<Long, List<RecipeChildRow>> childrenByRecipe = recipeRepository.findChildRowsByRecipeIds(rowsByRecipe.keySet())
+            .stream()
+            .collect(Collectors.groupingBy(RecipeChildRow::getRecipeId));
         
-        List<CategoryDTO> categoryDTOs = recipe.getCategories().stream()
-            .map(cat -> new CategoryDTO(cat.getId(), cat.getName(), cat.getIsDefault()))
-            .collect(Collectors.toList());
-        dto.setCategories(categoryDTOs);
+        Map<Long, RecipeDetailDTO> recipesById = new HashMap<>();
+        rowsByRecipe.forEach((recipeId, rows) -> recipesById.put(recipeId,
+            toDetailDTO(rows, childrenByRecipe.getOrDefault(recipeId, List.of()))));
         
-        log.info("Recipe {} retrieved successfully", recipeId);
-        return dto;
+        log.info("Found {} of {} requested recipes for user {}", recipesById.size(), distinctIds.size(), userId);
+        
+        return recipeIds.stream()
+            .map(recipeId -> recipesById.containsKey(recipeId)
+                ? RecipeBatchItemDTO.found(recipesById.get(recipeId))
+                : RecipeBatchItemDTO.notFound(recipeId))
+            .collect(Collectors.toList());
     }
     
     @Transactional(readOnly = true)
@@ -193,22 +306,38 @@ public class RecipeService {
             criteria.getSearchQuery(), criteria.getPage(), criteria.getSize(), 
             criteria.getSortField(), criteria.getSortDirection());
         
-        Specification<Recipe> spec = Specification.where(RecipeSpecification.hasUserId(criteria.getUserId()))
-            .and(RecipeSpecification.hasCategoryIds(criteria.getCategoryIds()))
-            .and(RecipeSpecification.hasDifficulty(criteria.getDifficulty()))
-            .and(RecipeSpecification.titleContains(criteria.getSearchQuery()));
+        if (isFullTextSearch(criteria)) {
+            return searchRecipes(criteria);
+        }
+        
+        if (isFuzzySearch(criteria)) {
+            return fuzzySearchRecipes(criteria);
+        }
+        
+        Specification<RecipeSummary> spec = Specification.where(RecipeSummarySpecification.hasUserId(criteria.getUserId()))
+            .and(RecipeSummarySpecification.hasCategoryIds(criteria.getCategoryIds()))
+            .and(RecipeSummarySpecification.hasDifficulty(criteria.getDifficulty()))
+            .and(titleMatch(criteria));
         
         Sort.Direction direction = "desc".equalsIgnoreCase(criteria.getSortDirection()) 
             ? Sort.Direction.DESC 
             : Sort.Direction.ASC;
-        Sort sort = Sort.by(direction, criteria.getSortField());
+        
+        if (criteria.getCursor() != null) {
+            return getRecipesByCursor(spec, criteria, direction);
+        }
+        
+        if (hasIndexedFilters(criteria) && !isPrefixSearch(criteria) && indexCoordinator.isReady()) {
+            return getRecipesByFilterIndex(criteria, direction);
+        }
+        
+        Sort sort = Sort.by(direction, criteria.getSortField()).and(Sort.by(direction, "id"));
         Pageable pageable = PageRequest.of(criteria.getPage(), criteria.getSize(), sort);
         
-        Page<Recipe> recipePage = recipeRepository.findAll(spec, pageable);
+        Set<String> fields = summaryFields(criteria);
+        Page<RecipeSummaryRow> recipePage = summaryRepository.findSummaries(spec, pageable, fields);
         
-        List<RecipeSummaryDTO> recipeDTOs = recipePage.getContent().stream()
-            .map(this::convertToSummaryDTO)
-            .collect(Collectors.toList());
+        List<RecipeSummaryDTO> recipeDTOs = convertToSummaryDTOs(recipePage.getContent(), fields);
         
         PaginationDTO paginationDTO = new PaginationDTO(
             recipePage.getNumber(),
@@ -216,7 +345,8 @@ public class RecipeService {
             recipePage.getTotalElements(),
             recipePage.getSize(),
             recipePage.hasNext(),
-            recipePage.hasPrevious()
+            recipePage.hasPrevious(),
+            null
         );
         
         log.info("Retrieved {} recipes out of {} total for user {}", 
@@ -225,33 +355,257 @@ public class RecipeService {
         return new RecipeListResponseData(recipeDTOs, paginationDTO);
     }
     
-    private RecipeSummaryDTO convertToSummaryDTO(Recipe recipe) {
-        recipe.getCategories().size();
+    private RecipeListResponseData getRecipesByCursor(Specification<RecipeSummary> spec, RecipeFilterCriteria criteria,
+                                                      Sort.Direction direction) {
+        Sort sort = Sort.by(direction, criteria.getSortField()).and(Sort.by(direction, "id"));
+        boolean firstPage = criteria.getCursor().isBlank();
+        KeysetScrollPosition position = firstPage
+            ? ScrollPosition.keyset()
+            : RecipeCursor.decode(criteria.getCursor()).toScrollPosition();
+        
+        Set<String> fields = summaryFields(criteria);
+        Window<RecipeSummaryRow> window = summaryRepository.scrollSummaries(spec, sort, criteria.getSize(), position, fields);
+        
+        List<RecipeSummaryRow> recipes = window.getContent();
+        List<RecipeSummaryDTO> recipeDTOs = convertToSummaryDTOs(recipes, fields);
+        
+        String nextCursor = window.hasNext() && !recipes.isEmpty()
+            ? RecipeCursor.after(recipes.get(recipes.size() - 1), criteria.getSortField(), criteria.getSortDirection()).encode()
+            : null;
+        
+        PaginationDTO paginationDTO = new PaginationDTO(
+            null,
+            null,
+            null,
+            criteria.getSize(),
+            window.hasNext(),
+            !firstPage,
+            nextCursor
+        );
+        
+        log.info("Retrieved {} recipes by cursor for user {}, hasNext: {}", 
+            recipeDTOs.size(), criteria.getUserId(), window.hasNext());
+        
+        return new RecipeListResponseData(recipeDTOs, paginationDTO);
+    }
+    
+    private boolean isFullTextSearch(RecipeFilterCriteria criteria) {
+        if (!"fulltext".equals(criteria.getSearchMode())
+                || criteria.getSearchQuery() == null || criteria.getSearchQuery().isBlank()) {
+            return false;
+        }
+        if (!indexCoordinator.isReady()) {
+            log.warn("Search index is not ready yet, falling back to title search for user {}", criteria.getUserId());
+            return false;
+        }
+        return true;
+    }
+    
+    private RecipeListResponseData searchRecipes(RecipeFilterCriteria criteria) {
+        List<SearchHit> hits = searchIndex.search(
+            criteria.getUserId(), criteria.getSearchQuery(), criteria.getCategoryIds(), criteria.getDifficulty());
+        
+        List<Long> rankedIds = hits.stream()
+            .map(SearchHit::getRecipeId)
+            .collect(Collectors.toList());
+        RecipeListResponseData data = hydratePage(rankedIds, criteria);
+        
+        log.info("Full-text search '{}' matched {} recipes for user {}", 
+            criteria.getSearchQuery(), hits.size(), criteria.getUserId());
+        
+        return data;
+    }
+    
+    private boolean isFuzzySearch(RecipeFilterCriteria criteria) {
+        if (!criteria.isFuzzy() || criteria.getSearchQuery() == null || criteria.getSearchQuery().isBlank()) {
+            return false;
+        }
+        if (!indexCoordinator.isReady()) {
+            log.warn("Fuzzy index is not ready yet, falling back to title search for user {}", criteria.getUserId());
+            return false;
+        }
+        return true;
+    }
+    
+    private RecipeListResponseData fuzzySearchRecipes(RecipeFilterCriteria criteria) {
+        List<FuzzyHit> hits = fuzzySearchIndex.search(
+            criteria.getUserId(), criteria.getSearchQuery(), criteria.getCategoryIds(), criteria.getDifficulty());
         
-        List<CategoryDTO> categoryDTOs = recipe.getCategories().stream()
-            .map(cat -> new CategoryDTO(cat.getId(), cat.getName(), cat.getIsDefault()))
+        List<Long> rankedIds = hits.stream()
+            .map(FuzzyHit::getRecipeId)
             .collect(Collectors.toList());
+        RecipeListResponseData data = hydratePage(rankedIds, criteria);
+        
+        log.info("Fuzzy search '{}' matched {} recipes for user {}", 
+            criteria.getSearchQuery(), hits.size(), criteria.getUserId());
+        
+        return data;
+    }
+    
+    private boolean isPrefixSearch(RecipeFilterCriteria criteria) {
+        return "prefix".equals(criteria.getSearchMode())
+            && criteria.getSearchQuery() != null && !criteria.getSearchQuery().isBlank();
+    }
+    
+    private Specification<RecipeSummary> titleMatch(RecipeFilterCriteria criteria) {
+        return isPrefixSearch(criteria)
+            ? RecipeSummarySpecification.titleStartsWith(criteria.getSearchQuery())
+            : RecipeSummarySpecification.titleContains(criteria.getSearchQuery());
+    }
+    
+    private boolean hasIndexedFilters(RecipeFilterCriteria criteria) {
+        return (criteria.getCategoryIds() != null && !criteria.getCategoryIds().isEmpty())
+            || criteria.getDifficulty() != null;
+    }
+    
+    private RecipeListResponseData getRecipesByFilterIndex(RecipeFilterCriteria criteria, Sort.Direction direction) {
+        int limit = (int) Math.min((long) (criteria.getPage() + 1) * criteria.getSize(), Integer.MAX_VALUE);
+        FilteredRecipeIds matching = categoryFilterIndex.filter(
+            criteria.getUserId(), criteria.getCategoryIds(), criteria.getDifficulty(), criteria.getSearchQuery(),
+            criteria.getSortField(), direction == Sort.Direction.DESC, limit);
+        
+        RecipeListResponseData data = hydratePage(matching.getRecipeIds(), matching.getTotalMatches(), criteria);
+        
+        log.info("Retrieved {} recipes out of {} total for user {} via filter index", 
+            data.getRecipes().size(), matching.getTotalMatches(), criteria.getUserId());
+        
+        return data;
+    }
+    
+    private RecipeListResponseData hydratePage(List<Long> orderedIds, RecipeFilterCriteria criteria) {
+        return hydratePage(orderedIds, orderedIds.size(), criteria);
+    }
+    
+    private RecipeListResponseData hydratePage(List<Long> orderedIds, int totalRecipes, RecipeFilterCriteria criteria) {
+        int size = criteria.getSize();
+        int from = (int) Math.min((long) criteria.getPage() * size, orderedIds.size());
+        int to = Math.min(from + size, orderedIds.size());
+        List<Long> pageIds = orderedIds.subList(from, to);
+        
+        Map<Long, Integer> position = new HashMap<>();
+        for (int i = 0; i < pageIds.size(); i++) {
+            position.put(pageIds.get(i), i);
+        }
+        Set<String> fields = summaryFields(criteria);
+        List<RecipeSummaryRow> recipes = summaryRepository.findSummariesByIds(criteria.getUserId(), pageIds, fields).stream()
+            .sorted(Comparator.comparing(recipe -> position.get(recipe.getId())))
+            .collect(Collectors.toList());
+        
+        List<RecipeSummaryDTO> recipeDTOs = convertToSummaryDTOs(recipes, fields);
+        
+        int totalPages = (int) (((long) totalRecipes + size - 1) / size);
+        PaginationDTO paginationDTO = new PaginationDTO(
+            criteria.getPage(),
+            totalPages,
+            (long) totalRecipes,
+            size,
+            criteria.getPage() + 1 < totalPages,
+            criteria.getPage() > 0,
+            null
+        );
         
+        return new RecipeListResponseData(recipeDTOs, paginationDTO);
+    }
+    
+    private Set<String> summaryFields(RecipeFilterCriteria criteria) {
+        return criteria.getFields() == null ? SUMMARY_FIELDS : criteria.getFields();
+    }
+    
+    private List<RecipeSummaryDTO> convertToSummaryDTOs(List<RecipeSummaryRow> recipes, Set<String> fields) {
+        return recipes.stream()
+            .map(recipe -> convertToSummaryDTO(recipe, fields))
+            .collect(Collectors.toList());
+    }
+    
+    private RecipeSummaryDTO convertToSummaryDTO(RecipeSummaryRow recipe, Set<String> fields) {
         return new RecipeSummaryDTO(
             recipe.getId(),
-            recipe.getTitle(),
-            recipe.getDifficulty().name(),
-            recipe.getCookingTimeMinutes(),
-            categoryDTOs,
-            recipe.getCreatedAt(),
-            recipe.getUpdatedAt()
+            fields.contains("title") ? recipe.getTitle() : null,
+            fields.contains("difficulty") ? recipe.getDifficulty().name() : null,
+            fields.contains("cookingTimeMinutes") ? recipe.getCookingTimeMinutes() : null,
+            fields.contains("categories") ? recipe.getCategories() : null,
+            fields.contains("createdAt") ? recipe.getCreatedAt() : null,
+            fields.contains("updatedAt") ? recipe.getUpdatedAt() : null
         );
     }
     
-    private void validateCategories(List<Long> categoryIds) {
-        List<Long> existingIds = categoryRepository.findAllById(categoryIds)
-            .stream()
-            .map(Category::getId)
+    private RecipeDetailDTO toDetailDTO(List<RecipeDetailRow> rows, List<RecipeChildRow> children) {
+        RecipeDetailRow header = rows.get(0);
+        
+        RecipeDetailDTO dto = new RecipeDetailDTO();
+        dto.setId(header.getRecipeId());
+        dto.setTitle(header.getTitle());
+        dto.setDifficulty(header.getDifficulty().name());
+        dto.setCookingTimeMinutes(header.getCookingTimeMinutes());
+        dto.setCreatedAt(header.getCreatedAt());
+        dto.setUpdatedAt(header.getUpdatedAt());
+        
+        List<CategoryDTO> categoryDTOs = rows.stream()
+            .filter(row -> row.getCategoryId() != null)
+            .map(row -> new CategoryDTO(row.getCategoryId(), row.getCategoryName(), row.getCategoryIsDefault()))
             .collect(Collectors.toList());
+        dto.setCategories(categoryDTOs);
         
-        List<Long> invalidIds = categoryIds.stream()
-            .filter(id -> !existingIds.contains(id))
+        List<IngredientDTO> ingredientDTOs = children.stream()
+            .filter(RecipeChildRow::isIngredient)
+            .map(row -> new IngredientDTO(
+                row.getId(),
+                row.getQuantity(),
+                row.getUnit(),
+                row.getName(),
+                row.getPosition()
+            ))
+            .collect(Collectors.toList());
+        dto.setIngredients(ingredientDTOs);
+        
+        List<StepDTO> stepDTOs = children.stream()
+            .filter(RecipeChildRow::isStep)
+            .map(row -> new StepDTO(
+                row.getId(),
+                row.getPosition(),
+                row.getInstruction()
+            ))
             .collect(Collectors.toList());
+        dto.setSteps(stepDTOs);
+        
+        return dto;
+    }
+    
+    Recipe buildRecipe(CreateRecipeRequest request, Long userId) {
+        Recipe recipe = new Recipe();
+        recipe.setUserId(userId);
+        recipe.setTitle(request.getTitle());
+        recipe.setDifficulty(Difficulty.valueOf(request.getDifficulty()));
+        recipe.setCookingTimeMinutes(request.getCookingTimeMinutes());
+        
+        int sortOrder = 1;
+        for (IngredientRequest ingReq : request.getIngredients()) {
+            Ingredient ingredient = new Ingredient();
+            ingredient.setQuantity(ingReq.getQuantity());
+            ingredient.setUnit(ingReq.getUnit());
+            ingredient.setName(ingReq.getName());
+            ingredient.setSortOrder(sortOrder++);
+            recipe.addIngredient(ingredient);
+        }
+        
+        int stepNumber = 1;
+        for (StepRequest stepReq : request.getSteps()) {
+            Step step = new Step();
+            step.setInstruction(stepReq.getInstruction());
+            step.setStepNumber(stepNumber++);
+            recipe.addStep(step);
+        }
+        
+        request.getCategoryIds().stream()
+            .distinct()
+            .map(categoryId -> entityManager.getReference(Category.class, categoryId))
+            .forEach(recipe::addCategory);
+        
+        return recipe;
+    }
+    
+    private void validateCategories(List<Long> categoryIds) {
+        List<Long> invalidIds = categoryRegistry.findMissingIds(categoryIds);
         
         if (!invalidIds.isEmpty()) {
             throw new CategoryNotFoundException(
@@ -0,0 +1,30 @@
+package com.recipenotebook.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RecipeSummaryCommands implements ApplicationRunner {
+    
+    static final String REBUILD_OPTION = "rebuild-recipe-summaries";
+    static final String CHECK_OPTION = "check-recipe-summaries";
+    
+    private final RecipeSummaryService summaryService;
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION)) {
+            log.info("Rebuilding recipe summaries (--{})", REBUILD_OPTION);
+            summaryService.rebuild();
+        }
+        if (args.containsOption(CHECK_OPTION)) {
+            log.info("Checking recipe summaries (--{})", CHECK_OPTION);
+            summaryService.check();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.CategoryDTO;
+import com.recipenotebook.dto.RecipeSummaryCheckResult;
+import com.recipenotebook.entity.Category;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.entity.RecipeSummary;
+import com.recipenotebook.repository.RecipeCategoryRow;
+import com.recipenotebook.repository.RecipeRepository;
+import com.recipenotebook.repository.RecipeSummaryRepository;
+import com.recipenotebook.repository.RecipeSummaryRow;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class RecipeSummaryService {
+    
+    private final RecipeSummaryRepository summaryRepository;
+    private final RecipeRepository recipeRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final EntityManager entityManager;
+    private final TransactionTemplate writeTemplate;
+    private final TransactionTemplate readTemplate;
+    private final int batchSize;
+    
+    public RecipeSummaryService(RecipeSummaryRepository summaryRepository,
+                                RecipeRepository recipeRepository,
+                                CategoryRegistry categoryRegistry,
+                                EntityManager entityManager,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${recipe.summaries.rebuild-batch-size:500}") int batchSize) {
+        this.summaryRepository = summaryRepository;
+        this.recipeRepository = recipeRepository;
+        this.categoryRegistry = categoryRegistry;
+        this.entityManager = entityManager;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.batchSize = batchSize;
+    }
+    
+    @Transactional
+    public void recordCreated(Collection<Recipe> recipes) {
+        recipes.forEach(recipe -> entityManager.persist(toSummary(recipe, categoriesOf(recipe))));
+    }
+    
+    @Transactional
+    public void recordUpdated(Recipe recipe) {
+        summaryRepository.upsert(toSummary(recipe, categoriesOf(recipe)));
+    }
+    
+    @Transactional
+    public void recordDeleted(Collection<Long> recipeIds) {
+        if (!recipeIds.isEmpty()) {
+            summaryRepository.deleteByIdIn(recipeIds);
+        }
+    }
+    
+    public long rebuild() {
+        long started = System.currentTimeMillis();
+        long rebuilt = 0;
+        long afterId = 0L;
+        List<RecipeSummary> batch;
+        do {
+            long from = afterId;
+            batch = writeTemplate.execute(status -> {
+                List<RecipeSummary> summaries = loadExpectedAfter(from);
+                long throughId = summaries.size() < batchSize ? Long.MAX_VALUE : summaries.get(summaries.size() - 1).getId();
+                summaryRepository.deleteInIdRange(from, throughId);
+                summaries.forEach(entityManager::persist);
+                entityManager.flush();
+                entityManager.clear();
+                return summaries;
+            });
+            rebuilt += batch.size();
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == batchSize);
+        
+        log.info("Rebuilt {} recipe summaries in {} ms", rebuilt, System.currentTimeMillis() - started);
+        return rebuilt;
+    }
+    
+    public RecipeSummaryCheckResult check() {
+        List<Long> missingIds = new ArrayList<>();
+        List<Long> staleIds = new ArrayList<>();
+        long checked = 0;
+        long afterId = 0L;
+        List<RecipeSummary> batch;
+        do {
+            long from = afterId;
+            batch = readTemplate.execute(status -> {
+                List<RecipeSummary> expected = loadExpectedAfter(from);
+                Map<Long, RecipeSummary> actual = summaryRepository.findAllById(
+                        expected.stream().map(RecipeSummary::getId).collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(RecipeSummary::getId, Function.identity()));
+                for (RecipeSummary summary : expected) {
+                    RecipeSummary stored = actual.get(summary.getId());
+                    if (stored == null) {
+                        missingIds.add(summary.getId());
+                    } else if (!matches(summary, stored)) {
+                        staleIds.add(summary.getId());
+                    }
+                }
+                entityManager.clear();
+                return expected;
+            });
+            checked += batch.size();
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == batchSize);
+        
+        List<Long> orphanedIds = readTemplate.execute(status -> summaryRepository.findOrphanedIds());
+        RecipeSummaryCheckResult result = new RecipeSummaryCheckResult(checked, missingIds, staleIds, orphanedIds);
+        if (result.isConsistent()) {
+            log.info("Recipe summaries are consistent with {} recipes", checked);
+        } else {
+            log.warn("Recipe summaries are inconsistent: {} missing, {} stale, {} orphaned (first ids: {}, {}, {})",
+                missingIds.size(), staleIds.size(), orphanedIds.size(),
+                firstIds(missingIds), firstIds(staleIds), firstIds(orphanedIds));
+        }
+        return result;
+    }
+    
+    private List<RecipeSummary> loadExpectedAfter(long afterId) {
+        List<Recipe> recipes = recipeRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(batchSize));
+        if (recipes.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<Long> recipeIds = recipes.stream()
+            .map(Recipe::getId)
+            .collect(Collectors.toList());
+        Map<Long, List<CategoryDTO>> categoriesByRecipeId = recipeRepository.findCategoryRowsByRecipeIds(recipeIds)
+            .stream()
+            .collect(Collectors.groupingBy(
+                RecipeCategoryRow::getRecipeId,
+                Collectors.mapping(
+                    row -> new CategoryDTO(row.getCategoryId(), row.getCategoryName(), row.getIsDefault()),
+                    Collectors.toList()
+                )
+            ));
+        
+        return recipes.stream()
+            .map(recipe -> toSummary(recipe, categoriesByRecipeId.getOrDefault(recipe.getId(), new ArrayList<>())))
+            .collect(Collectors.toList());
+    }
+    
+    private List<CategoryDTO> categoriesOf(Recipe recipe) {
+        CategorySnapshot snapshot = categoryRegistry.current();
+        return recipe.getCategories().stream()
+            .map(Category::getId)
+            .distinct()
+            .map(categoryId -> snapshot.get(categoryId).orElseGet(() -> loadCategory(categoryId)))
+            .collect(Collectors.toList());
+    }
+    
+    private CategoryDTO loadCategory(Long categoryId) {
+        Category category = entityManager.find(Category.class, categoryId);
+        return new CategoryDTO(category.getId(), category.getName(), category.getIsDefault());
+    }
+    
+    private static RecipeSummary toSummary(Recipe recipe, List<CategoryDTO> categories) {
+        List<CategoryDTO> sorted = categories.stream()
+            .sorted(Comparator.comparing(CategoryDTO::getId))
+            .collect(Collectors.toList());
+        String categoryIds = sorted.stream()
+            .map(category -> category.getId() + ",")
+            .collect(Collectors.joining("", ",", ""));
+        
+        return new RecipeSummary(
+            recipe.getId(),
+            recipe.getUserId(),
+            recipe.getTitle(),
+            recipe.getNormalizedTitle(),
+            recipe.getDifficulty(),
+            recipe.getCookingTimeMinutes(),
+            categoryIds,
+            RecipeSummaryRow.encodeCategories(sorted),
+            recipe.getCreatedAt(),
+            recipe.getUpdatedAt()
+        );
+    }
+    
+    private static boolean matches(RecipeSummary expected, RecipeSummary stored) {
+        return Objects.equals(expected.getUserId(), stored.getUserId())
+            && Objects.equals(expected.getTitle(), stored.getTitle())
+            && Objects.equals(expected.getNormalizedTitle(), stored.getNormalizedTitle())
+            && expected.getDifficulty() == stored.getDifficulty()
+            && Objects.equals(expected.getCookingTimeMinutes(), stored.getCookingTimeMinutes())
+            && Objects.equals(expected.getCategoryIds(), stored.getCategoryIds())
+            && Objects.equals(expected.getCategories(), stored.getCategories())
+            && Objects.equals(expected.getCreatedAt(), stored.getCreatedAt())
+            && Objects.equals(expected.getUpdatedAt(), stored.getUpdatedAt());
+    }
+    
+    private static List<Long> firstIds(List<Long> ids) {
+        return ids.subList(0, Math.min(ids.size(), 10));
+    }
+}
@@ -0,0 +1,103 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.entity.Category;
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.entity.Ingredient;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.entity.Step;
+import com.recipenotebook.repository.RecipeRepository;
+import com.recipenotebook.repository.RecipeTemplate;
+import com.recipenotebook.util.TextNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class SampleRecipeTemplate {
+    
+    private static final String TITLE = "Classic Chocolate Chip Cookies";
+    private static final String NORMALIZED_TITLE = TextNormalizer.normalize(TITLE);
+    private static final String CATEGORY_NAME = "Dessert";
+    
+    private static final String[][] INGREDIENTS = {
+        {"2¼", "cups", "all-purpose flour"},
+        {"1", "tsp", "baking soda"},
+        {"1", "tsp", "salt"},
+        {"1", "cup", "butter, softened"},
+        {"¾", "cup", "granulated sugar"},
+        {"¾", "cup", "packed brown sugar"},
+        {"2", "large", "eggs"},
+        {"2", "tsp", "vanilla extract"},
+        {"2", "cups", "chocolate chips"}
+    };
+    
+    private static final String[] STEPS = {
+        "Preheat oven to 375°F (190°C).",
+        "Combine flour, baking soda, and salt in a bowl.",
+        "Beat butter and sugars until creamy. Add eggs and vanilla.",
+        "Gradually blend in flour mixture. Stir in chocolate chips.",
+        "Drop rounded tablespoons onto ungreased baking sheets.",
+        "Bake for 9-11 minutes or until golden brown."
+    };
+    
+    private final RecipeRepository recipeRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final RecipeTemplate template;
+    
+    public SampleRecipeTemplate(RecipeRepository recipeRepository, CategoryRegistry categoryRegistry) {
+        this.recipeRepository = recipeRepository;
+        this.categoryRegistry = categoryRegistry;
+        this.template = RecipeTemplate.of(newRecipe());
+    }
+    
+    public Recipe createFor(Long userId) {
+        List<Category> categories = categoryRegistry.current().findByName(CATEGORY_NAME)
+            .map(category -> List.of(new Category(category.getId(), category.getName(), category.getIsDefault())))
+            .orElseGet(() -> {
+                log.warn("Category {} not found, creating sample recipe without a category", CATEGORY_NAME);
+                return List.of();
+            });
+        
+        LocalDateTime now = LocalDateTime.now();
+        Long recipeId = recipeRepository.insertFromTemplate(template, userId,
+            categories.stream().map(Category::getId).collect(Collectors.toList()), now);
+        
+        Recipe recipe = newRecipe();
+        recipe.setId(recipeId);
+        recipe.setUserId(userId);
+        recipe.setCreatedAt(now);
+        recipe.setUpdatedAt(now);
+        categories.forEach(recipe::addCategory);
+        log.info("Created sample recipe {} for user ID: {}", recipeId, userId);
+        return recipe;
+    }
+    
+    private static Recipe newRecipe() {
+        Recipe recipe = new Recipe();
+        recipe.setTitle(TITLE);
+        recipe.setNormalizedTitle(NORMALIZED_TITLE);
+        recipe.setDifficulty(Difficulty.EASY);
+        recipe.setCookingTimeMinutes(25);
+        
+        for (int i = 0; i < INGREDIENTS.length; i++) {
+            Ingredient ingredient = new Ingredient();
+            ingredient.setQuantity(INGREDIENTS[i][0]);
+            ingredient.setUnit(INGREDIENTS[i][1]);
+            ingredient.setName(INGREDIENTS[i][2]);
+            ingredient.setSortOrder(i + 1);
+            recipe.addIngredient(ingredient);
+        }
+        
+        for (int i = 0; i < STEPS.length; i++) {
+            Step step = new Step();
+            step.setStepNumber(i + 1);
+            step.setInstruction(STEPS[i]);
+            recipe.addStep(step);
+        }
+        return recipe;
+    }
+}
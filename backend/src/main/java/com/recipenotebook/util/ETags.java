@@ -0,0 +1,38 @@
+package com.recipenotebook.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public final class ETags {
+    
+    private ETags() {
+    }
+    
+    public static String forRecipe(Long recipeId, LocalDateTime updatedAt) {
+        long stamp = updatedAt == null ? 0 : updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + updatedAt.getNano();
+        return "\"r" + recipeId + "-" + Long.toHexString(stamp) + "\"";
+    }
+    
+    public static String forRecipeList(Long userId, long version) {
+        return "\"l" + userId + "-" + Long.toHexString(version) + "\"";
+    }
+    
+    public static String forContent(byte[] content) {
+        return "\"c" + DigestUtils.md5DigestAsHex(content) + "\"";
+    }
+    
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,110 @@
+package db.migration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class V5__Create_recipe_summaries extends BaseJavaMigration {
+    
+    private static final int BATCH_SIZE = 500;
+    private static final List<String> SORT_COLUMNS = List.of("title", "cooking_time", "created_at", "updated_at");
+    
+    private static final String CREATE_TABLE_SQL =
+        "CREATE TABLE recipe_summaries (" +
+        "recipe_id BIGINT PRIMARY KEY, " +
+        "user_id BIGINT NOT NULL, " +
+        "title VARCHAR(100) NOT NULL, " +
+        "title_lower VARCHAR(100) NOT NULL, " +
+        "difficulty VARCHAR(10) NOT NULL, " +
+        "cooking_time_minutes INT NOT NULL, " +
+        "category_ids VARCHAR(1000) NOT NULL, " +
+        "categories VARCHAR(4000) NOT NULL, " +
+        "created_at TIMESTAMP, " +
+        "updated_at TIMESTAMP)";
+    
+    private static final String SOURCE_SQL =
+        "SELECT r.id, r.user_id, r.title, r.difficulty, r.cooking_time_minutes, r.created_at, r.updated_at, " +
+        "c.id, c.name, c.is_default " +
+        "FROM recipes r " +
+        "LEFT JOIN recipe_categories rc ON rc.recipe_id = r.id " +
+        "LEFT JOIN categories c ON c.id = rc.category_id " +
+        "ORDER BY r.id, c.id";
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO recipe_summaries (recipe_id, user_id, title, title_lower, difficulty, cooking_time_minutes, " +
+        "category_ids, categories, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @Override
+    public void migrate(Context context) throws SQLException, JsonProcessingException {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE_SQL);
+            for (String column : SORT_COLUMNS) {
+                String sourceColumn = column.equals("cooking_time") ? "cooking_time_minutes" : column;
+                statement.execute("CREATE INDEX idx_recipe_summaries_user_" + column
+                        + " ON recipe_summaries(user_id, " + sourceColumn + ", recipe_id)");
+                statement.execute("CREATE INDEX idx_recipe_summaries_user_" + column + "_desc"
+                        + " ON recipe_summaries(user_id, " + sourceColumn + " DESC, recipe_id DESC)");
+                statement.execute("DROP INDEX IF EXISTS idx_recipes_user_" + column);
+                statement.execute("DROP INDEX IF EXISTS idx_recipes_user_" + column + "_desc");
+            }
+        }
+        
+        try (Statement select = connection.createStatement();
+             ResultSet rows = select.executeQuery(SOURCE_SQL);
+             PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            int pending = 0;
+            boolean hasRow = rows.next();
+            while (hasRow) {
+                long recipeId = rows.getLong(1);
+                insert.setLong(1, recipeId);
+                insert.setLong(2, rows.getLong(2));
+                insert.setString(3, rows.getString(3));
+                insert.setString(4, rows.getString(3).toLowerCase());
+                insert.setString(5, rows.getString(4));
+                insert.setInt(6, rows.getInt(5));
+                insert.setTimestamp(9, rows.getTimestamp(6));
+                insert.setTimestamp(10, rows.getTimestamp(7));
+                
+                StringBuilder categoryIds = new StringBuilder(",");
+                List<Map<String, Object>> categories = new ArrayList<>();
+                do {
+                    long categoryId = rows.getLong(8);
+                    if (!rows.wasNull()) {
+                        Map<String, Object> category = new LinkedHashMap<>();
+                        category.put("id", categoryId);
+                        category.put("name", rows.getString(9));
+                        category.put("isDefault", rows.getBoolean(10));
+                        categories.add(category);
+                        categoryIds.append(categoryId).append(',');
+                    }
+                    hasRow = rows.next();
+                } while (hasRow && rows.getLong(1) == recipeId);
+                
+                insert.setString(7, categoryIds.toString());
+                insert.setString(8, objectMapper.writeValueAsString(categories));
+                insert.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    insert.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                insert.executeBatch();
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class V6__Add_normalized_titles extends BaseJavaMigration {
+    
+    private static final int BATCH_SIZE = 500;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE recipes ADD COLUMN normalized_title VARCHAR(200)");
+        }
+        
+        try (Statement select = connection.createStatement();
+             ResultSet rows = select.executeQuery("SELECT id, title FROM recipes");
+             PreparedStatement update = connection.prepareStatement("UPDATE recipes SET normalized_title = ? WHERE id = ?")) {
+            int pending = 0;
+            while (rows.next()) {
+                update.setString(1, normalize(rows.getString(2)));
+                update.setLong(2, rows.getLong(1));
+                update.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    update.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+        
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE recipes ALTER COLUMN normalized_title SET NOT NULL");
+            statement.execute("ALTER TABLE recipe_summaries ADD COLUMN normalized_title VARCHAR(200)");
+            statement.execute("UPDATE recipe_summaries s SET normalized_title = "
+                    + "(SELECT r.normalized_title FROM recipes r WHERE r.id = s.recipe_id)");
+            statement.execute("UPDATE recipe_summaries SET normalized_title = title_lower WHERE normalized_title IS NULL");
+            statement.execute("ALTER TABLE recipe_summaries ALTER COLUMN normalized_title SET NOT NULL");
+            statement.execute("ALTER TABLE recipe_summaries DROP COLUMN title_lower");
+            statement.execute("CREATE INDEX idx_recipe_summaries_user_normalized_title "
+                    + "ON recipe_summaries(user_id, normalized_title, recipe_id)");
+        }
+    }
+    
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(stripped.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
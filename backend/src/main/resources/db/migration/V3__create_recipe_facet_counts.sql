@@ -0,0 +1,39 @@
+-- Flyway Migration V3: Per-user facet counters for category, difficulty and cooking-time filters
+
+-- ============================================
+-- 1. RECIPE FACET COUNTS TABLE
+-- ============================================
+-- One row per (user, facet, value); maintained incrementally by recipe writes
+CREATE TABLE recipe_facet_counts (
+    user_id BIGINT NOT NULL,
+    facet VARCHAR(20) NOT NULL,
+    facet_value VARCHAR(50) NOT NULL,
+    recipe_count BIGINT NOT NULL,
+    PRIMARY KEY (user_id, facet, facet_value)
+);
+
+-- ============================================
+-- 2. BACKFILL FROM EXISTING RECIPES
+-- ============================================
+INSERT INTO recipe_facet_counts (user_id, facet, facet_value, recipe_count)
+SELECT r.user_id, 'difficulty', r.difficulty, COUNT(*)
+FROM recipes r
+GROUP BY r.user_id, r.difficulty
+UNION ALL
+SELECT r.user_id, 'cookingTime',
+       CASE WHEN r.cooking_time_minutes <= 15 THEN '0-15'
+            WHEN r.cooking_time_minutes <= 30 THEN '16-30'
+            WHEN r.cooking_time_minutes <= 60 THEN '31-60'
+            ELSE '61+' END,
+       COUNT(*)
+FROM recipes r
+GROUP BY r.user_id,
+         CASE WHEN r.cooking_time_minutes <= 15 THEN '0-15'
+              WHEN r.cooking_time_minutes <= 30 THEN '16-30'
+              WHEN r.cooking_time_minutes <= 60 THEN '31-60'
+              ELSE '61+' END
+UNION ALL
+SELECT r.user_id, 'category', CAST(rc.category_id AS VARCHAR(50)), COUNT(*)
+FROM recipe_categories rc
+JOIN recipes r ON r.id = rc.recipe_id
+GROUP BY r.user_id, rc.category_id;
@@ -0,0 +1,16 @@
+-- Flyway Migration V4: Composite indexes for the per-user recipe list sorts
+
+-- ============================================
+-- 1. RECIPE SORT INDEXES
+-- ============================================
+-- One (user_id, <sort column>, id) index per sort field and direction, so a
+-- user's recipes can be read in list order straight from the index.
+-- H2 only walks an index forwards, so descending sorts need their own index.
+CREATE INDEX idx_recipes_user_title ON recipes(user_id, title, id);
+CREATE INDEX idx_recipes_user_title_desc ON recipes(user_id, title DESC, id DESC);
+CREATE INDEX idx_recipes_user_cooking_time ON recipes(user_id, cooking_time_minutes, id);
+CREATE INDEX idx_recipes_user_cooking_time_desc ON recipes(user_id, cooking_time_minutes DESC, id DESC);
+CREATE INDEX idx_recipes_user_created_at ON recipes(user_id, created_at, id);
+CREATE INDEX idx_recipes_user_created_at_desc ON recipes(user_id, created_at DESC, id DESC);
+CREATE INDEX idx_recipes_user_updated_at ON recipes(user_id, updated_at, id);
+CREATE INDEX idx_recipes_user_updated_at_desc ON recipes(user_id, updated_at DESC, id DESC);
@@ -0,0 +1,124 @@
+package com.recipenotebook.cache;
+
+import com.recipenotebook.dto.CacheStatsDTO;
+import com.recipenotebook.dto.RecipeListResponseData;
+import com.recipenotebook.index.RecipeChangedEvent;
+import com.recipenotebook.service.RecipeFilterCriteria;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeListCacheTest {
+    
+    private final UserChangeVersions versions = new UserChangeVersions();
+    
+    @Test
+    void get_ReturnsCachedPageForSameCriteria() {
+        RecipeListCache cache = new RecipeListCache(versions, 10, 60);
+        AtomicInteger loads = new AtomicInteger();
+        
+        RecipeListResponseData first = cache.get(criteria(1L, 0), () -> load(loads));
+        RecipeListResponseData second = cache.get(criteria(1L, 0), () -> load(loads));
+        
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        CacheStatsDTO stats = cache.getStats();
+        assertThat(stats.getHits()).isEqualTo(1L);
+        assertThat(stats.getMisses()).isEqualTo(1L);
+    }
+    
+    @Test
+    void get_KeysOnEveryCriteriaField() {
+        RecipeListCache cache = new RecipeListCache(versions, 10, 60);
+        AtomicInteger loads = new AtomicInteger();
+        
+        cache.get(criteria(1L, 0), () -> load(loads));
+        cache.get(criteria(1L, 1), () -> load(loads));
+        RecipeFilterCriteria sorted = criteria(1L, 0);
+        sorted.setSortDirection("desc");
+        cache.get(sorted, () -> load(loads));
+        RecipeFilterCriteria filtered = criteria(1L, 0);
+        filtered.setCategoryIds(List.of(3L));
+        cache.get(filtered, () -> load(loads));
+        
+        assertThat(loads.get()).isEqualTo(4);
+    }
+    
+    @Test
+    void get_EvictsLeastRecentlyUsedBeyondMaxEntries() {
+        RecipeListCache cache = new RecipeListCache(versions, 2, 60);
+        AtomicInteger loads = new AtomicInteger();
+        
+        cache.get(criteria(1L, 0), () -> load(loads));
+        cache.get(criteria(1L, 1), () -> load(loads));
+        cache.get(criteria(1L, 0), () -> load(loads));
+        cache.get(criteria(1L, 2), () -> load(loads));
+        cache.get(criteria(1L, 0), () -> load(loads));
+        cache.get(criteria(1L, 1), () -> load(loads));
+        
+        assertThat(loads.get()).isEqualTo(4);
+        assertThat(cache.getStats().getEvictions()).isEqualTo(2L);
+        assertThat(cache.getStats().getSize()).isEqualTo(2);
+    }
+    
+    @Test
+    void get_ReloadsExpiredEntries() {
+        RecipeListCache cache = new RecipeListCache(versions, 10, 0);
+        AtomicInteger loads = new AtomicInteger();
+        
+        cache.get(criteria(1L, 0), () -> load(loads));
+        cache.get(criteria(1L, 0), () -> load(loads));
+        
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.getStats().getExpirations()).isEqualTo(1L);
+    }
+    
+    @Test
+    void onRecipeChanged_InvalidatesOnlyThatUser() {
+        RecipeListCache cache = new RecipeListCache(versions, 10, 60);
+        AtomicInteger loads = new AtomicInteger();
+        
+        cache.get(criteria(1L, 0), () -> load(loads));
+        cache.get(criteria(2L, 0), () -> load(loads));
+        versions.onRecipeChanged(RecipeChangedEvent.deleted(1L, 99L));
+        cache.get(criteria(1L, 0), () -> load(loads));
+        cache.get(criteria(2L, 0), () -> load(loads));
+        
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(cache.getStats().getInvalidations()).isEqualTo(1L);
+    }
+    
+    @Test
+    void get_DoesNotStorePageLoadedAcrossAnInvalidation() {
+        RecipeListCache cache = new RecipeListCache(versions, 10, 60);
+        AtomicInteger loads = new AtomicInteger();
+        
+        cache.get(criteria(1L, 0), () -> {
+            versions.bump(1L);
+            return load(loads);
+        });
+        cache.get(criteria(1L, 0), () -> load(loads));
+        
+        assertThat(loads.get()).isEqualTo(2);
+    }
+    
+    private RecipeFilterCriteria criteria(Long userId, int page) {
+        RecipeFilterCriteria criteria = new RecipeFilterCriteria();
+        criteria.setUserId(userId);
+        criteria.setPage(page);
+        criteria.setSize(20);
+        criteria.setSortField("title");
+        criteria.setSortDirection("asc");
+        criteria.setSearchMode("contains");
+        return criteria;
+    }
+    
+    private RecipeListResponseData load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new RecipeListResponseData(new ArrayList<>(), null);
+    }
+}
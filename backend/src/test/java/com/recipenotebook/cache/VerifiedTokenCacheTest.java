@@ -0,0 +1,98 @@
+package com.recipenotebook.cache;
+
+import com.recipenotebook.exception.AuthenticationException;
+import com.recipenotebook.service.JwtClaims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+    
+    private VerifiedTokenCache cache;
+    
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+    
+    @Test
+    void get_VerifiesEachTokenOnlyOnce() {
+        cache = new VerifiedTokenCache(10);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, JwtClaims> verifier = verifier(verifications, Instant.now().plus(1, ChronoUnit.HOURS));
+        
+        JwtClaims first = cache.get("token-a", verifier);
+        JwtClaims second = cache.get("token-a", verifier);
+        cache.get("token-b", verifier);
+        
+        assertThat(second).isSameAs(first);
+        assertThat(verifications.get()).isEqualTo(2);
+        assertThat(cache.getStats().getHits()).isEqualTo(1L);
+        assertThat(cache.getStats().getSize()).isEqualTo(2);
+    }
+    
+    @Test
+    void get_DoesNotCacheRejectedTokens() {
+        cache = new VerifiedTokenCache(10);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, JwtClaims> verifier = token -> {
+            verifications.incrementAndGet();
+            throw new AuthenticationException("Invalid or expired token");
+        };
+        
+        assertThatThrownBy(() -> cache.get("forged", verifier)).isInstanceOf(AuthenticationException.class);
+        assertThatThrownBy(() -> cache.get("forged", verifier)).isInstanceOf(AuthenticationException.class);
+        
+        assertThat(verifications.get()).isEqualTo(2);
+        assertThat(cache.getStats().getSize()).isZero();
+    }
+    
+    @Test
+    void get_EvictsLeastRecentlyUsedBeyondMaxEntries() {
+        cache = new VerifiedTokenCache(2);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, JwtClaims> verifier = verifier(verifications, Instant.now().plus(1, ChronoUnit.HOURS));
+        
+        cache.get("token-a", verifier);
+        cache.get("token-b", verifier);
+        cache.get("token-a", verifier);
+        cache.get("token-c", verifier);
+        cache.get("token-a", verifier);
+        cache.get("token-b", verifier);
+        
+        assertThat(verifications.get()).isEqualTo(4);
+        assertThat(cache.getStats().getEvictions()).isEqualTo(2L);
+        assertThat(cache.getStats().getSize()).isEqualTo(2);
+    }
+    
+    @Test
+    void expiryTimer_RemovesEntriesWhenTokensExpire() throws InterruptedException {
+        cache = new VerifiedTokenCache(10);
+        AtomicInteger verifications = new AtomicInteger();
+        
+        cache.get("short-lived", verifier(verifications, Instant.now().plusMillis(100)));
+        cache.get("long-lived", verifier(verifications, Instant.now().plus(1, ChronoUnit.HOURS)));
+        
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (cache.getStats().getExpirations() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        
+        assertThat(cache.getStats().getExpirations()).isEqualTo(1L);
+        assertThat(cache.getStats().getSize()).isEqualTo(1);
+    }
+    
+    private Function<String, JwtClaims> verifier(AtomicInteger verifications, Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new JwtClaims(42L, "cook", expiresAt);
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.recipenotebook.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipenotebook.cache.VerifiedTokenCache;
+import com.recipenotebook.service.JwtClaims;
+import com.recipenotebook.service.JwtService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+    
+    @Mock
+    private JwtService jwtService;
+    
+    @Test
+    void doFilter_WithOnlyUserIdHeader_RejectsByDefault() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/recipes");
+        request.addHeader("X-User-Id", "1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        
+        filter(false).doFilter(request, response, chain);
+        
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+    }
+    
+    @Test
+    void doFilter_WithOnlyUserIdHeader_PassesWhenExplicitlyAllowed() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/recipes");
+        request.addHeader("X-User-Id", "1");
+        MockFilterChain chain = new MockFilterChain();
+        
+        filter(true).doFilter(request, new MockHttpServletResponse(), chain);
+        
+        assertThat(((HttpServletRequest) chain.getRequest()).getHeader("X-User-Id")).isEqualTo("1");
+    }
+    
+    @Test
+    void doFilter_WithBearerToken_OverridesUserIdHeader() throws Exception {
+        when(jwtService.verify("good-token")).thenReturn(new JwtClaims(42L, "cook", Instant.now().plusSeconds(60)));
+        MockHttpServletRequest request = request("/api/v1/recipes");
+        request.addHeader("Authorization", "Bearer good-token");
+        request.addHeader("X-User-Id", "1");
+        MockFilterChain chain = new MockFilterChain();
+        
+        filter(false).doFilter(request, new MockHttpServletResponse(), chain);
+        
+        assertThat(((HttpServletRequest) chain.getRequest()).getHeader("X-User-Id")).isEqualTo("42");
+    }
+    
+    @Test
+    void doFilter_MatchesOnNormalizedServletPathRatherThanRawUri() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/recipes");
+        request.setRequestURI("/api/v1/auth/..;/recipes");
+        request.addHeader("X-User-Id", "1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        
+        filter(false).doFilter(request, response, chain);
+        
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+    
+    @Test
+    void doFilter_RequiresBearerTokenForMetrics() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        
+        filter(false).doFilter(request("/api/v1/metrics"), response, chain);
+        
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+    }
+    
+    @Test
+    void doFilter_SkipsAuthEndpoints() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        
+        filter(false).doFilter(request("/api/v1/auth/login"), new MockHttpServletResponse(), chain);
+        
+        assertThat(chain.getRequest()).isNotNull();
+    }
+    
+    private JwtAuthenticationFilter filter(boolean allowUserIdHeader) {
+        return new JwtAuthenticationFilter(jwtService, new VerifiedTokenCache(0), new ObjectMapper(), allowUserIdHeader);
+    }
+    
+    private MockHttpServletRequest request(String servletPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", servletPath);
+        request.setServletPath(servletPath);
+        return request;
+    }
+}
@@ -1,13 +1,19 @@
 package com.recipenotebook.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.recipenotebook.dto.CreateRecipeRequest;
 import com.recipenotebook.dto.IngredientRequest;
 import com.recipenotebook.dto.StepRequest;
 import com.recipenotebook.entity.Category;
 import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.index.CategoryFilterIndex;
+import com.recipenotebook.index.RecipeDocument;
+import com.recipenotebook.index.RecipeIndexCoordinator;
 import com.recipenotebook.repository.CategoryRepository;
 import com.recipenotebook.repository.RecipeRepository;
+import com.recipenotebook.service.JwtService;
+import com.recipenotebook.service.RecipeCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +27,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -43,6 +50,15 @@ class RecipeControllerIntegrationTest {
     @Autowired
     private RecipeRepository recipeRepository;
     
+    @Autowired
+    private JwtService jwtService;
+    
+    @Autowired
+    private CategoryFilterIndex categoryFilterIndex;
+    
+    @Autowired
+    private RecipeIndexCoordinator indexCoordinator;
+    
     private Long categoryId1;
     private Long categoryId2;
     
@@ -234,7 +250,12 @@ class RecipeControllerIntegrationTest {
     }
     
     private Long createTestRecipe(Long userId) throws Exception {
+        return createTestRecipe(userId, createValidRequest().getTitle());
+    }
+    
+    private Long createTestRecipe(Long userId, String title) throws Exception {
         CreateRecipeRequest request = createValidRequest();
+        request.setTitle(title);
         
         String response = mockMvc.perform(post("/api/v1/recipes")
                 .header("X-User-Id", userId)
@@ -339,4 +360,519 @@ class RecipeControllerIntegrationTest {
                 .andExpect(jsonPath("$.status").value("error"))
                 .andExpect(jsonPath("$.message").value("Recipe not found"));
     }
+    
+    @Test
+    void getRecipes_WithCursor_WalksAllPagesInOrder() throws Exception {
+        createTestRecipe(1L);
+        createTestRecipe(1L);
+        createTestRecipe(1L);
+        
+        String firstPage = mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 1L)
+                .param("size", "2")
+                .param("sort", "createdAt")
+                .param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recipes.length()").value(2))
+                .andExpect(jsonPath("$.data.pagination.hasNext").value(true))
+                .andExpect(jsonPath("$.data.pagination.totalRecipes").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        
+        String nextCursor = objectMapper.readTree(firstPage).get("data").get("pagination").get("nextCursor").asText();
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 1L)
+                .param("size", "2")
+                .param("sort", "createdAt")
+                .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recipes.length()").value(1))
+                .andExpect(jsonPath("$.data.pagination.hasNext").value(false))
+                .andExpect(jsonPath("$.data.pagination.hasPrevious").value(true));
+    }
+    
+    @Test
+    void getRecipes_WithCursorForDifferentSort_ReturnsBadRequest() throws Exception {
+        String cursor = new RecipeCursor("title", "asc", 1L, "Cookies").encode();
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 1L)
+                .param("sort", "createdAt")
+                .param("cursor", cursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.errors.cursor").exists());
+    }
+    
+    @Test
+    void createRecipe_WithBearerToken_UsesUserIdFromToken() throws Exception {
+        String token = jwtService.generateToken(88L, "token-user");
+        
+        mockMvc.perform(post("/api/v1/recipes")
+                .header("Authorization", "Bearer " + token)
+                .header("X-User-Id", 8801L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createValidRequest())))
+                .andExpect(status().isCreated());
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recipes.length()").value(1));
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 8801L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recipes.length()").value(0));
+    }
+    
+    @Test
+    void getRecipes_WithInvalidBearerToken_ReturnsUnauthorized() throws Exception {
+        String token = jwtService.generateToken(88L, "token-user");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("Authorization", "Bearer " + tampered)
+                .header("X-User-Id", 88L))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.status").value("error"));
+    }
+    
+    @Test
+    void getRecipes_AccentInsensitiveSearch_MatchesWithAndWithoutIndexedFilters() throws Exception {
+        Long userId = 8803L;
+        CreateRecipeRequest request = createValidRequest();
+        request.setTitle("Crème Brûlée");
+        String response = mockMvc.perform(post("/api/v1/recipes")
+                .header("X-User-Id", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Long recipeId = objectMapper.readTree(response).path("data").path("recipeId").asLong();
+        
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!indexCoordinator.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(indexCoordinator.isReady()).isTrue();
+        categoryFilterIndex.upsert(RecipeDocument.from(recipeRepository.findById(recipeId).orElseThrow()));
+        
+        try {
+            mockMvc.perform(get("/api/v1/recipes")
+                    .header("X-User-Id", userId)
+                    .param("search", "creme"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.recipes.length()").value(1));
+            
+            mockMvc.perform(get("/api/v1/recipes")
+                    .header("X-User-Id", userId)
+                    .param("search", "creme")
+                    .param("difficulty", "EASY"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.recipes.length()").value(1))
+                    .andExpect(jsonPath("$.data.recipes[0].title").value("Crème Brûlée"));
+        } finally {
+            categoryFilterIndex.remove(userId, recipeId);
+        }
+    }
+    
+    @Test
+    void getRecipes_WithUnknownSearchMode_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 1L)
+                .param("search", "cookies")
+                .param("searchMode", "regex"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.errors.searchMode").exists());
+    }
+    
+    @Test
+    void getRecipes_WithFuzzyAndUnsupportedOptions_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 1L)
+                .param("search", "cookeis")
+                .param("searchMode", "prefix")
+                .param("fuzzy", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.errors.fuzzy").exists());
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 1L)
+                .param("search", "cookeis")
+                .param("fuzzy", "true")
+                .param("cursor", ""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.errors.cursor").exists());
+    }
+    
+    @Test
+    void getRecipes_WithPrefixSearch_MatchesStartOfNormalizedTitle() throws Exception {
+        Long userId = 41L;
+        createTestRecipe(userId, "Crème  Brûlée");
+        createTestRecipe(userId, "Creamy Tomato Soup");
+        createTestRecipe(userId, "Ice Cream");
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", userId)
+                .param("search", "CRE")
+                .param("searchMode", "prefix"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recipes.length()").value(2))
+                .andExpect(jsonPath("$.data.recipes[0].title").value("Creamy Tomato Soup"))
+                .andExpect(jsonPath("$.data.recipes[1].title").value("Crème  Brûlée"));
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", userId)
+                .param("search", "creme brulee")
+                .param("searchMode", "prefix"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recipes.length()").value(1));
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", userId)
+                .param("search", "cream"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recipes.length()").value(2))
+                .andExpect(jsonPath("$.data.recipes[1].title").value("Ice Cream"));
+    }
+    
+    @Test
+    void autocomplete_WithInvalidParameters_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/recipes/autocomplete")
+                .header("X-User-Id", 1L)
+                .param("type", "step")
+                .param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.errors.q").exists())
+                .andExpect(jsonPath("$.data.errors.type").exists())
+                .andExpect(jsonPath("$.data.errors.limit").exists());
+    }
+    
+    @Test
+    void getCookableRecipes_WithoutIngredients_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/recipes/cookable")
+                .header("X-User-Id", 1L)
+                .param("match", "some"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.errors.ingredients").exists())
+                .andExpect(jsonPath("$.data.errors.match").exists());
+    }
+    
+    @Test
+    void getRecipes_AfterCreate_DoesNotServeStaleCachedPage() throws Exception {
+        createTestRecipe(7L);
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 7L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pagination.totalRecipes").value(1));
+        
+        createTestRecipe(7L);
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 7L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pagination.totalRecipes").value(2));
+    }
+    
+    @Test
+    void metrics_ExposesRecipeListCacheCounters() throws Exception {
+        mockMvc.perform(get("/api/v1/metrics")
+                .header("X-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.caches.recipeList.hits").isNumber())
+                .andExpect(jsonPath("$.caches.recipeList.misses").isNumber())
+                .andExpect(jsonPath("$.caches.recipeList.evictions").isNumber());
+    }
+    
+    @Test
+    void getRecipeById_WithMatchingETag_ReturnsNotModified() throws Exception {
+        Long recipeId = createTestRecipe(1L);
+        
+        String etag = mockMvc.perform(get("/api/v1/recipes/" + recipeId)
+                .header("X-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+        
+        mockMvc.perform(get("/api/v1/recipes/" + recipeId)
+                .header("X-User-Id", 1L)
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+    
+    @Test
+    void getRecipeById_AfterUpdate_ReturnsNewETag() throws Exception {
+        Long recipeId = createTestRecipe(1L);
+        
+        String etag = mockMvc.perform(get("/api/v1/recipes/" + recipeId)
+                .header("X-User-Id", 1L))
+                .andReturn().getResponse().getHeader("ETag");
+        
+        CreateRecipeRequest update = createValidRequest();
+        update.setTitle("Chewy Chocolate Chip Cookies");
+        mockMvc.perform(put("/api/v1/recipes/" + recipeId)
+                .header("X-User-Id", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        
+        mockMvc.perform(get("/api/v1/recipes/" + recipeId)
+                .header("X-User-Id", 1L)
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("Chewy Chocolate Chip Cookies"));
+    }
+    
+    @Test
+    void getRecipeById_WithETagForOtherUsersRecipe_ReturnsNotFound() throws Exception {
+        Long recipeId = createTestRecipe(1L);
+        
+        mockMvc.perform(get("/api/v1/recipes/" + recipeId)
+                .header("X-User-Id", 2L)
+                .header("If-None-Match", "*"))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    void getRecipes_WithMatchingETag_ReturnsNotModifiedUntilUserChangesRecipes() throws Exception {
+        createTestRecipe(1L);
+        
+        String etag = mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 1L)
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        
+        createTestRecipe(2L);
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 1L)
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        
+        createTestRecipe(1L);
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 1L)
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pagination.totalRecipes").value(2));
+    }
+    
+    @Test
+    void bulkImport_WithNdjson_ReturnsPerItemResults() throws Exception {
+        CreateRecipeRequest invalid = createValidRequest();
+        invalid.setTitle("");
+        CreateRecipeRequest unknownCategory = createValidRequest();
+        unknownCategory.setCategoryIds(List.of(999999L));
+        String body = objectMapper.writeValueAsString(createValidRequest()) + "\n"
+            + objectMapper.writeValueAsString(invalid) + "\n"
+            + objectMapper.writeValueAsString(unknownCategory) + "\n"
+            + objectMapper.writeValueAsString(createValidRequest()) + "\n";
+        
+        mockMvc.perform(post("/api/v1/recipes:bulk")
+                .header("X-User-Id", 1L)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.received").value(4))
+                .andExpect(jsonPath("$.data.created").value(2))
+                .andExpect(jsonPath("$.data.failed").value(2))
+                .andExpect(jsonPath("$.data.results[0].status").value("created"))
+                .andExpect(jsonPath("$.data.results[0].recipeId").isNumber())
+                .andExpect(jsonPath("$.data.results[1].index").value(1))
+                .andExpect(jsonPath("$.data.results[1].errors.title").exists())
+                .andExpect(jsonPath("$.data.results[2].errors.categoryIds").exists())
+                .andExpect(jsonPath("$.data.results[3].status").value("created"));
+        
+        assertThat(recipeRepository.findAll()).hasSize(2);
+    }
+    
+    @Test
+    void bulkImport_WithJsonArray_CreatesRecipes() throws Exception {
+        List<CreateRecipeRequest> requests = List.of(createValidRequest(), createValidRequest(), createValidRequest());
+        
+        mockMvc.perform(post("/api/v1/recipes:bulk")
+                .header("X-User-Id", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.created").value(3))
+                .andExpect(jsonPath("$.data.error").doesNotExist());
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .header("X-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.pagination.totalRecipes").value(3));
+    }
+    
+    @Test
+    void bulkImport_WithMalformedTail_KeepsEarlierItemsAndReportsError() throws Exception {
+        String body = objectMapper.writeValueAsString(createValidRequest()) + "\n{\"title\": ";
+        
+        mockMvc.perform(post("/api/v1/recipes:bulk")
+                .header("X-User-Id", 1L)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.created").value(1))
+                .andExpect(jsonPath("$.data.error").isString());
+    }
+    
+    @Test
+    void exportRecipes_StreamsOneDocumentPerLineForUser() throws Exception {
+        Long firstId = createTestRecipe(1L);
+        Long secondId = createTestRecipe(1L);
+        createTestRecipe(2L);
+        
+        String body = mockMvc.perform(get("/api/v1/recipes/export")
+                .header("X-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"recipes.ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+        
+        String[] lines = body.trim().split("\n");
+        assertThat(lines).hasSize(2);
+        
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(firstId);
+        assertThat(first.get("title").asText()).isEqualTo("Classic Chocolate Chip Cookies");
+        assertThat(first.get("categories")).hasSize(2);
+        assertThat(first.get("ingredients")).hasSize(2);
+        assertThat(first.get("ingredients").get(0).get("name").asText()).isEqualTo("all-purpose flour");
+        assertThat(first.get("steps").get(0).get("stepNumber").asInt()).isEqualTo(1);
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(secondId);
+    }
+    
+    @Test
+    void exportRecipes_WithNoRecipes_ReturnsEmptyBody() throws Exception {
+        mockMvc.perform(get("/api/v1/recipes/export")
+                .header("X-User-Id", 77L))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+    
+    @Test
+    void getRecipesByIds_ReturnsRequestedOrderWithNotFoundMarkers() throws Exception {
+        Long firstId = createTestRecipe(1L);
+        Long secondId = createTestRecipe(1L);
+        Long otherUsersId = createTestRecipe(2L);
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .param("ids", secondId + "," + otherUsersId + "," + firstId)
+                .header("X-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recipes.length()").value(3))
+                .andExpect(jsonPath("$.data.recipes[0].id").value(secondId))
+                .andExpect(jsonPath("$.data.recipes[0].found").value(true))
+                .andExpect(jsonPath("$.data.recipes[0].recipe.ingredients.length()").value(2))
+                .andExpect(jsonPath("$.data.recipes[1].id").value(otherUsersId))
+                .andExpect(jsonPath("$.data.recipes[1].found").value(false))
+                .andExpect(jsonPath("$.data.recipes[2].recipe.id").value(firstId));
+    }
+    
+    @Test
+    void getRecipesByIds_WithInvalidIds_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/recipes")
+                .param("ids", "1,abc")
+                .header("X-User-Id", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.errors.ids").exists());
+    }
+    
+    @Test
+    void deleteRecipes_DeletesOwnedRecipesAndReportsOthers() throws Exception {
+        Long firstId = createTestRecipe(1L);
+        Long secondId = createTestRecipe(1L);
+        Long otherUsersId = createTestRecipe(2L);
+        
+        mockMvc.perform(delete("/api/v1/recipes")
+                .param("ids", firstId + "," + secondId + "," + otherUsersId)
+                .header("X-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.deletedIds.length()").value(2))
+                .andExpect(jsonPath("$.data.notFoundIds[0]").value(otherUsersId));
+        
+        mockMvc.perform(get("/api/v1/recipes/" + firstId)
+                .header("X-User-Id", 1L))
+                .andExpect(status().isNotFound());
+        
+        mockMvc.perform(get("/api/v1/recipes/" + otherUsersId)
+                .header("X-User-Id", 2L))
+                .andExpect(status().isOk());
+    }
+    
+    @Test
+    void getRecipes_WithFields_ReturnsOnlyRequestedFields() throws Exception {
+        createTestRecipe(1L);
+        
+        mockMvc.perform(get("/api/v1/recipes")
+                .param("fields", "title,cookingTimeMinutes")
+                .header("X-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.recipes[0].id").isNumber())
+                .andExpect(jsonPath("$.data.recipes[0].title").value("Classic Chocolate Chip Cookies"))
+                .andExpect(jsonPath("$.data.recipes[0].cookingTimeMinutes").value(25))
+                .andExpect(jsonPath("$.data.recipes[0].difficulty").doesNotExist())
+                .andExpect(jsonPath("$.data.recipes[0].categories").doesNotExist());
+    }
+    
+    @Test
+    void getRecipes_WithUnknownField_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/recipes")
+                .param("fields", "title,ingredients")
+                .header("X-User-Id", 1L))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.errors.fields").exists());
+    }
+    
+    @Test
+    void getFacets_TracksCountsAcrossCreateUpdateAndDelete() throws Exception {
+        Long userId = 31L;
+        Long firstId = createTestRecipe(userId);
+        Long secondId = createTestRecipe(userId);
+        
+        CreateRecipeRequest update = createValidRequest();
+        update.setDifficulty("HARD");
+        update.setCookingTimeMinutes(90);
+        update.setCategoryIds(List.of(categoryId1));
+        mockMvc.perform(put("/api/v1/recipes/" + firstId)
+                .header("X-User-Id", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        
+        mockMvc.perform(get("/api/v1/recipes/facets")
+                .header("X-User-Id", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.categories[?(@.value == '" + categoryId1 + "')].count").value(2))
+                .andExpect(jsonPath("$.data.categories[?(@.value == '" + categoryId2 + "')].count").value(1))
+                .andExpect(jsonPath("$.data.difficulties[0].value").value("EASY"))
+                .andExpect(jsonPath("$.data.difficulties[0].count").value(1))
+                .andExpect(jsonPath("$.data.difficulties[2].count").value(1))
+                .andExpect(jsonPath("$.data.cookingTimes[1].count").value(1))
+                .andExpect(jsonPath("$.data.cookingTimes[3].count").value(1));
+        
+        mockMvc.perform(delete("/api/v1/recipes/" + secondId)
+                .header("X-User-Id", userId))
+                .andExpect(status().isOk());
+        
+        mockMvc.perform(get("/api/v1/recipes/facets")
+                .header("X-User-Id", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.categories.length()").value(1))
+                .andExpect(jsonPath("$.data.categories[0].label").value("Dessert"))
+                .andExpect(jsonPath("$.data.difficulties[0].count").value(0))
+                .andExpect(jsonPath("$.data.cookingTimes[1].count").value(0));
+    }
 }
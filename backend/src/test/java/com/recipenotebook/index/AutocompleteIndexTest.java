@@ -0,0 +1,85 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.entity.Difficulty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteIndexTest {
+    
+    private AutocompleteIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new AutocompleteIndex();
+        index.upsert(document(1L, 100L, "Chocolate Chip Cookies", List.of("Chocolate chips", "flour", "butter"), List.of("cup", "cup", "g")));
+        index.upsert(document(2L, 100L, "Chocolate Cake", List.of("chocolate chips", "flour", "eggs"), List.of("cup", "g", "")));
+        index.upsert(document(3L, 100L, "Crème Brûlée", List.of("cream", "eggs"), List.of("ml", "")));
+        index.upsert(document(4L, 200L, "Chili", List.of("chili powder", "beans"), List.of("tsp", "can")));
+    }
+    
+    @Test
+    void suggestTitles_MatchesAnyWordStartAndIsScopedToUser() {
+        assertThat(values(index.suggest(100L, AutocompleteIndex.Field.TITLE, "Choc", 10)))
+            .containsExactly("Chocolate Cake", "Chocolate Chip Cookies");
+        assertThat(values(index.suggest(100L, AutocompleteIndex.Field.TITLE, "cook", 10)))
+            .containsExactly("Chocolate Chip Cookies");
+        assertThat(values(index.suggest(100L, AutocompleteIndex.Field.TITLE, "creme b", 10)))
+            .containsExactly("Crème Brûlée");
+        assertThat(index.suggest(100L, AutocompleteIndex.Field.TITLE, "chili", 10)).isEmpty();
+    }
+    
+    @Test
+    void suggestIngredients_RanksGlobalDictionaryByRecipeCount() {
+        List<Suggestion> suggestions = index.suggest(200L, AutocompleteIndex.Field.INGREDIENT, "ch", 10);
+        
+        assertThat(values(suggestions)).containsExactly("chocolate chips", "chili powder");
+        assertThat(suggestions.get(0).getWeight()).isEqualTo(2);
+        assertThat(values(index.suggest(100L, AutocompleteIndex.Field.UNIT, "c", 10))).containsExactly("cup", "can");
+    }
+    
+    @Test
+    void upsertAndRemove_UpdateWeightsIncrementally() {
+        index.upsert(document(2L, 100L, "Lava Cake", List.of("dark chocolate", "eggs"), List.of("g", "")));
+        index.remove(100L, 1L);
+        
+        assertThat(values(index.suggest(100L, AutocompleteIndex.Field.TITLE, "choc", 10))).isEmpty();
+        assertThat(values(index.suggest(100L, AutocompleteIndex.Field.TITLE, "cake", 10))).containsExactly("Lava Cake");
+        assertThat(values(index.suggest(100L, AutocompleteIndex.Field.INGREDIENT, "choc", 10))).containsExactly("dark chocolate");
+        assertThat(index.suggest(100L, AutocompleteIndex.Field.INGREDIENT, "eggs", 10).get(0).getWeight()).isEqualTo(2);
+        assertThat(index.suggest(100L, AutocompleteIndex.Field.INGREDIENT, "fl", 10)).isEmpty();
+    }
+    
+    @Test
+    void suggest_ReturnsTopWeightedEntriesFromLargeDictionary() {
+        AutocompleteIndex large = new AutocompleteIndex();
+        for (long id = 1; id <= 20_000; id++) {
+            List<String> ingredients = List.of("salt", "spice " + (id % 1000), "spice " + (id % 7));
+            large.upsert(document(id, id % 50, "Recipe " + id, ingredients, List.of("g", "g", "g")));
+        }
+        
+        List<Suggestion> suggestions = large.suggest(1L, AutocompleteIndex.Field.INGREDIENT, "spice", 5);
+        
+        assertThat(suggestions).hasSize(5);
+        assertThat(suggestions).allSatisfy(suggestion -> assertThat(suggestion.getWeight()).isGreaterThan(1000));
+        for (int i = 1; i < suggestions.size(); i++) {
+            assertThat(suggestions.get(i - 1).getWeight()).isGreaterThanOrEqualTo(suggestions.get(i).getWeight());
+        }
+        assertThat(large.suggest(7L, AutocompleteIndex.Field.TITLE, "recipe 1", 3)).hasSize(3);
+    }
+    
+    private List<String> values(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getValue).collect(Collectors.toList());
+    }
+    
+    private RecipeDocument document(Long recipeId, Long userId, String title, List<String> ingredients, List<String> units) {
+        LocalDateTime now = LocalDateTime.now();
+        return new RecipeDocument(recipeId, userId, title, Difficulty.EASY, 10, now, now, List.of(),
+            ingredients, units, List.of());
+    }
+}
@@ -0,0 +1,104 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.entity.Difficulty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryFilterIndexTest {
+    
+    private CategoryFilterIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new CategoryFilterIndex();
+        index.upsert(document(1L, 100L, "Pancakes", Difficulty.EASY, 15, List.of(1L)));
+        index.upsert(document(2L, 100L, "Chocolate Cake", Difficulty.MEDIUM, 60, List.of(1L, 2L)));
+        index.upsert(document(3L, 100L, "Brownies", Difficulty.EASY, 40, List.of(2L)));
+        index.upsert(document(4L, 100L, "Tomato Soup", Difficulty.EASY, 30, List.of(3L)));
+        index.upsert(document(5L, 200L, "Apple Pie", Difficulty.EASY, 90, List.of(2L)));
+    }
+    
+    @Test
+    void filter_ReturnsEachRecipeOnceAcrossSeveralCategories() {
+        assertThat(ids(100L, List.of(1L, 2L), null, null, "title", false))
+            .containsExactly(3L, 2L, 1L);
+    }
+    
+    @Test
+    void filter_AndsCategoryAndDifficulty() {
+        assertThat(ids(100L, List.of(2L), Difficulty.EASY, null, "title", false))
+            .containsExactly(3L);
+        assertThat(ids(100L, List.of(3L), Difficulty.HARD, null, "title", false))
+            .isEmpty();
+    }
+    
+    @Test
+    void filter_AppliesTitleSearchAndSortDirection() {
+        assertThat(ids(100L, null, Difficulty.EASY, null, "cookingTimeMinutes", true))
+            .containsExactly(3L, 4L, 1L);
+        assertThat(ids(100L, null, Difficulty.EASY, "SOUP", "title", false))
+            .containsExactly(4L);
+    }
+    
+    @Test
+    void filter_MatchesTitlesIgnoringAccentsLikeTheDatabaseSearch() {
+        index.upsert(document(6L, 100L, "Crème Brûlée", Difficulty.EASY, 45, List.of(1L)));
+        
+        assertThat(ids(100L, null, Difficulty.EASY, "creme", "title", false)).containsExactly(6L);
+        assertThat(ids(100L, List.of(1L), null, "BRÛLÉE", "title", false)).containsExactly(6L);
+        assertThat(ids(100L, null, Difficulty.EASY, "  ", "title", false)).containsExactly(3L, 6L, 1L, 4L);
+    }
+    
+    @Test
+    void filter_IsScopedToUser() {
+        assertThat(ids(200L, List.of(2L), null, null, "title", false)).containsExactly(5L);
+        assertThat(ids(300L, List.of(2L), null, null, "title", false)).isEmpty();
+    }
+    
+    @Test
+    void upsert_MovesRecipeBetweenCategories() {
+        index.upsert(document(2L, 100L, "Chocolate Cake", Difficulty.HARD, 60, List.of(3L)));
+        
+        assertThat(ids(100L, List.of(1L), null, null, "title", false)).containsExactly(1L);
+        assertThat(ids(100L, List.of(3L), Difficulty.HARD, null, "title", false)).containsExactly(2L);
+    }
+    
+    @Test
+    void remove_ClearsRecipeFromAllBitmaps() {
+        index.remove(100L, 3L);
+        
+        assertThat(ids(100L, List.of(2L), null, null, "title", false)).containsExactly(2L);
+        assertThat(ids(100L, null, Difficulty.EASY, null, "title", false)).containsExactly(1L, 4L);
+    }
+    
+    @Test
+    void filter_KeepsOnlyTheLeadingRecipesButCountsEveryMatch() {
+        FilteredRecipeIds firstPage = index.filter(100L, null, null, null, "title", false, 2);
+        assertThat(firstPage.getRecipeIds()).containsExactly(3L, 2L);
+        assertThat(firstPage.getTotalMatches()).isEqualTo(4);
+        
+        FilteredRecipeIds slowest = index.filter(100L, null, null, null, "cookingTimeMinutes", true, 1);
+        assertThat(slowest.getRecipeIds()).containsExactly(2L);
+        assertThat(slowest.getTotalMatches()).isEqualTo(4);
+        
+        assertThat(index.filter(100L, null, null, null, "title", false, 0).getRecipeIds()).isEmpty();
+    }
+    
+    private List<Long> ids(Long userId, List<Long> categoryIds, Difficulty difficulty, String titleQuery,
+                           String sortField, boolean descending) {
+        return index.filter(userId, categoryIds, difficulty, titleQuery, sortField, descending, Integer.MAX_VALUE)
+            .getRecipeIds();
+    }
+    
+    private RecipeDocument document(Long recipeId, Long userId, String title, Difficulty difficulty,
+                                    int cookingTime, List<Long> categoryIds) {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(recipeId);
+        return new RecipeDocument(recipeId, userId, title, difficulty, cookingTime, createdAt, createdAt,
+            categoryIds, List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,110 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.entity.Difficulty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FuzzySearchIndexTest {
+    
+    private FuzzySearchIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new FuzzySearchIndex();
+        index.upsert(document(1L, 100L, "Chocolate Chip Cookies", Difficulty.EASY, List.of(4L),
+            List.of("flour", "chocolate chips")));
+        index.upsert(document(2L, 100L, "Chocolate Cake", Difficulty.MEDIUM, List.of(1L),
+            List.of("cocoa", "flour", "eggs")));
+        index.upsert(document(3L, 100L, "Chip Butty", Difficulty.EASY, List.of(2L),
+            List.of("potatoes", "bread")));
+        index.upsert(document(4L, 200L, "Chocolate Mousse", Difficulty.HARD, List.of(4L),
+            List.of("dark chocolate", "cream")));
+    }
+    
+    @Test
+    void search_ToleratesTyposAndRanksByEditDistance() {
+        List<FuzzyHit> hits = index.search(100L, "choclate chip", null, null);
+        
+        assertThat(ids(hits)).containsExactly(1L, 2L, 3L);
+        assertThat(hits.get(0).getDistance()).isEqualTo(1);
+    }
+    
+    @Test
+    void search_PrefersTitleMatchesAtEqualDistance() {
+        index.upsert(document(5L, 100L, "Weeknight Stew", Difficulty.EASY, List.of(2L), List.of("potatos")));
+        
+        List<FuzzyHit> hits = index.search(100L, "potatoe", null, null);
+        
+        assertThat(ids(hits)).containsExactly(3L, 5L);
+        
+        index.upsert(document(6L, 100L, "Potatoes Gratin", Difficulty.HARD, List.of(2L), List.of("cream")));
+        
+        assertThat(ids(index.search(100L, "potatoe", null, null))).containsExactly(6L, 3L, 5L);
+    }
+    
+    @Test
+    void search_DoesNotAllowEditsInShortTermsOrBeyondTheLimit() {
+        assertThat(index.search(100L, "eg", null, null)).isEmpty();
+        assertThat(ids(index.search(100L, "egs", null, null))).containsExactly(2L);
+        assertThat(index.search(100L, "chcltae", null, null)).isEmpty();
+    }
+    
+    @Test
+    void search_IsScopedToUserAndAppliesFilters() {
+        assertThat(ids(index.search(200L, "mouse", null, null))).containsExactly(4L);
+        assertThat(ids(index.search(100L, "flur", List.of(1L), null))).containsExactly(2L);
+        assertThat(ids(index.search(100L, "flur", null, Difficulty.EASY))).containsExactly(1L);
+    }
+    
+    @Test
+    void upsertAndRemove_UpdateVocabulary() {
+        index.upsert(document(2L, 100L, "Lemon Tart", Difficulty.MEDIUM, List.of(1L), List.of("lemons")));
+        index.remove(100L, 1L);
+        
+        assertThat(index.search(100L, "chocolate", null, null)).isEmpty();
+        assertThat(ids(index.search(100L, "lemon tar", null, null))).containsExactly(2L);
+    }
+    
+    @Test
+    void search_FindsMisspellingsInLargeVocabularyAfterChurn() {
+        FuzzySearchIndex large = new FuzzySearchIndex();
+        for (long id = 1; id <= 5_000; id++) {
+            large.upsert(document(id, 1L, "Recipe " + Long.toString(id * 7919, 36), Difficulty.EASY, List.of(1L),
+                List.of("ingredient" + id)));
+        }
+        for (long id = 1; id <= 4_000; id++) {
+            large.remove(1L, id);
+        }
+        large.upsert(document(9_999L, 1L, "Shakshuka", Difficulty.EASY, List.of(1L), List.of("eggs")));
+        
+        assertThat(ids(large.search(1L, "shakshouka", null, null))).containsExactly(9_999L);
+        assertThat(ids(large.search(1L, "ingredient17", null, null))).doesNotContain(17L);
+        assertThat(ids(large.search(1L, "ingredient4001", null, null))).startsWith(4_001L);
+    }
+    
+    @Test
+    void distance_ComputesLevenshteinDistance() {
+        assertThat(BkTree.distance("kitten", "sitting")).isEqualTo(3);
+        assertThat(BkTree.distance("flour", "flour")).isZero();
+        assertThat(BkTree.distance("", "egg")).isEqualTo(3);
+        assertThat(BkTree.distance("chocolate", "choclate", 1)).isEqualTo(1);
+        assertThat(BkTree.distance("chocolate", "cake", 1)).isEqualTo(2);
+    }
+    
+    private List<Long> ids(List<FuzzyHit> hits) {
+        return hits.stream().map(FuzzyHit::getRecipeId).collect(Collectors.toList());
+    }
+    
+    private RecipeDocument document(Long recipeId, Long userId, String title, Difficulty difficulty,
+                                    List<Long> categoryIds, List<String> ingredients) {
+        LocalDateTime now = LocalDateTime.now();
+        return new RecipeDocument(recipeId, userId, title, difficulty, 30, now, now, categoryIds,
+            ingredients, ingredients.stream().map(name -> "cup").collect(Collectors.toList()), List.of());
+    }
+}
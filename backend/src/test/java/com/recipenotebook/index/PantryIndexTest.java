@@ -0,0 +1,88 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.entity.Difficulty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PantryIndexTest {
+    
+    private PantryIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new PantryIndex();
+        index.upsert(document(1L, 100L, "Pancakes", List.of("all-purpose flour", "Eggs", "milk", "butter, melted")));
+        index.upsert(document(2L, 100L, "Omelette", List.of("eggs", "butter")));
+        index.upsert(document(3L, 100L, "Tomato Soup", List.of("tomatoes", "onion", "basil")));
+        index.upsert(document(4L, 200L, "Scrambled Eggs", List.of("eggs")));
+    }
+    
+    @Test
+    void findCookable_RanksByCoverage() {
+        List<PantryMatch> matches = index.findCookable(100L, List.of("eggs", "butter", "flour"), false, 10);
+        
+        assertThat(ids(matches)).containsExactly(2L, 1L);
+        assertThat(matches.get(0).getCoverage()).isEqualTo(1.0);
+        assertThat(matches.get(1).getMatchedIngredients()).isEqualTo(3);
+        assertThat(matches.get(1).getMissingIngredients()).containsExactly("milk");
+    }
+    
+    @Test
+    void findCookable_WithRequireAll_IntersectsIngredients() {
+        assertThat(ids(index.findCookable(100L, List.of("eggs", "milk"), true, 10))).containsExactly(1L);
+        assertThat(index.findCookable(100L, List.of("eggs", "basil"), true, 10)).isEmpty();
+    }
+    
+    @Test
+    void findCookable_IsScopedToUserAndRespectsLimit() {
+        assertThat(ids(index.findCookable(200L, List.of("eggs"), false, 10))).containsExactly(4L);
+        assertThat(index.findCookable(100L, List.of("eggs"), false, 1)).hasSize(1);
+    }
+    
+    @Test
+    void upsertAndRemove_ReuseSlotsWithoutLeakingIngredients() {
+        index.remove(100L, 2L);
+        index.upsert(document(5L, 100L, "Bruschetta", List.of("tomatoes", "bread")));
+        
+        assertThat(ids(index.findCookable(100L, List.of("butter"), false, 10))).containsExactly(1L);
+        assertThat(ids(index.findCookable(100L, List.of("tomatoes"), false, 10))).containsExactly(5L, 3L);
+    }
+    
+    @Test
+    void findCookable_ScalesToTenThousandRecipes() {
+        PantryIndex large = new PantryIndex();
+        String[] pantry = {"flour", "eggs", "milk", "sugar", "butter", "salt", "yeast", "rice", "beans", "garlic"};
+        for (long id = 1; id <= 10_000; id++) {
+            List<String> ingredients = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                ingredients.add(pantry[(int) ((id * (i + 3)) % pantry.length)]);
+            }
+            ingredients.add("spice " + (id % 500));
+            large.upsert(document(id, 1L, "Recipe " + id, ingredients));
+        }
+        
+        List<PantryMatch> matches = large.findCookable(1L, List.of("flour", "eggs", "milk", "sugar", "butter", "salt"), false, 20);
+        
+        assertThat(matches).hasSize(20);
+        for (int i = 1; i < matches.size(); i++) {
+            assertThat(matches.get(i - 1).getCoverage()).isGreaterThanOrEqualTo(matches.get(i).getCoverage());
+        }
+    }
+    
+    private List<Long> ids(List<PantryMatch> matches) {
+        return matches.stream().map(PantryMatch::getRecipeId).collect(Collectors.toList());
+    }
+    
+    private RecipeDocument document(Long recipeId, Long userId, String title, List<String> ingredients) {
+        LocalDateTime now = LocalDateTime.now();
+        return new RecipeDocument(recipeId, userId, title, Difficulty.EASY, 10, now, now, List.of(),
+            ingredients, ingredients.stream().map(name -> "").collect(Collectors.toList()), List.of());
+    }
+}
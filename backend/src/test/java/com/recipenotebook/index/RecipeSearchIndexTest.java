@@ -0,0 +1,86 @@
+package com.recipenotebook.index;
+
+import com.recipenotebook.entity.Difficulty;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeSearchIndexTest {
+    
+    private RecipeSearchIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new RecipeSearchIndex();
+        index.upsert(document(1L, 100L, "Chocolate Chip Cookies", Difficulty.EASY, List.of(4L),
+            List.of("flour", "chocolate chips"), List.of("Bake until golden.")));
+        index.upsert(document(2L, 100L, "Banana Bread", Difficulty.MEDIUM, List.of(1L),
+            List.of("bananas", "flour"), List.of("Fold in chocolate if you like.")));
+        index.upsert(document(3L, 100L, "Tomato Soup", Difficulty.EASY, List.of(2L),
+            List.of("tomatoes", "basil"), List.of("Simmer for twenty minutes.")));
+        index.upsert(document(4L, 200L, "Chocolate Mousse", Difficulty.HARD, List.of(4L),
+            List.of("dark chocolate", "cream"), List.of("Whip the cream.")));
+    }
+    
+    @Test
+    void search_RanksTitleMatchesAboveStepMatches() {
+        List<SearchHit> hits = index.search(100L, "chocolate", null, null);
+        
+        assertThat(ids(hits)).containsExactly(1L, 2L);
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+    }
+    
+    @Test
+    void search_MatchesIngredientsAndIgnoresCaseAndAccents() {
+        assertThat(ids(index.search(100L, "BASÍL", null, null))).containsExactly(3L);
+    }
+    
+    @Test
+    void search_IsScopedToUser() {
+        assertThat(ids(index.search(200L, "chocolate", null, null))).containsExactly(4L);
+        assertThat(index.search(300L, "chocolate", null, null)).isEmpty();
+    }
+    
+    @Test
+    void search_AppliesCategoryAndDifficultyFilters() {
+        assertThat(ids(index.search(100L, "flour", List.of(1L), null))).containsExactly(2L);
+        assertThat(ids(index.search(100L, "flour", null, Difficulty.EASY))).containsExactly(1L);
+    }
+    
+    @Test
+    void upsert_ReplacesPreviousTerms() {
+        index.upsert(document(3L, 100L, "Gazpacho", Difficulty.EASY, List.of(2L),
+            List.of("cucumber"), List.of("Blend and chill.")));
+        
+        assertThat(index.search(100L, "tomato soup", null, null)).isEmpty();
+        assertThat(ids(index.search(100L, "gazpacho", null, null))).containsExactly(3L);
+    }
+    
+    @Test
+    void remove_DropsRecipeFromResults() {
+        index.remove(100L, 1L);
+        
+        assertThat(ids(index.search(100L, "chocolate", null, null))).containsExactly(2L);
+    }
+    
+    @Test
+    void search_WithOnlyStopWords_ReturnsNothing() {
+        assertThat(index.search(100L, "the and of", null, null)).isEmpty();
+    }
+    
+    private List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getRecipeId).collect(Collectors.toList());
+    }
+    
+    private RecipeDocument document(Long recipeId, Long userId, String title, Difficulty difficulty,
+                                    List<Long> categoryIds, List<String> ingredients, List<String> steps) {
+        LocalDateTime now = LocalDateTime.now();
+        return new RecipeDocument(recipeId, userId, title, difficulty, 30, now, now, categoryIds,
+            ingredients, ingredients.stream().map(name -> "cup").collect(Collectors.toList()), steps);
+    }
+}
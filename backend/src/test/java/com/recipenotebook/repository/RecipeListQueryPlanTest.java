@@ -0,0 +1,255 @@
+package com.recipenotebook.repository;
+
+import com.recipenotebook.entity.Category;
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.entity.RecipeSummary;
+import com.recipenotebook.entity.User;
+import com.recipenotebook.service.RecipeSummaryService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:queryplan",
+    "spring.jpa.hibernate.ddl-auto=validate"
+})
+@Transactional
+class RecipeListQueryPlanTest {
+    
+    private static final List<String> SORT_FIELDS = List.of("title", "cookingTimeMinutes", "createdAt", "updatedAt");
+    private static final List<Sort.Direction> DIRECTIONS = List.of(Sort.Direction.ASC, Sort.Direction.DESC);
+    private static final List<String> COLUMNS = RecipeSummaryRow.COLUMNS;
+    private static final int PAGE_SIZE = 10;
+    
+    @Autowired
+    private RecipeRepository recipeRepository;
+    
+    @Autowired
+    private RecipeSummaryRepository summaryRepository;
+    
+    @Autowired
+    private RecipeSummaryService summaryService;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private SqlCapture sqlCapture;
+    
+    private Map<String, Specification<RecipeSummary>> filters;
+    
+    @TestConfiguration
+    static class SqlCaptureConfiguration {
+        
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+        
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+    
+    static class SqlCapture implements StatementInspector {
+        
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+        
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+        
+        List<String> drain() {
+            List<String> captured = new ArrayList<>(statements);
+            statements.clear();
+            return captured;
+        }
+    }
+    
+    @BeforeEach
+    void setUp() {
+        Category breakfast = categoryRepository.save(new Category(null, "Plan Breakfast", false));
+        Category dinner = categoryRepository.save(new Category(null, "Plan Dinner", false));
+        
+        List<Long> userIds = new ArrayList<>();
+        for (int u = 0; u < 3; u++) {
+            User user = new User();
+            user.setUsername("planuser" + u);
+            user.setPasswordHash("$2a$10$planUserPasswordHash");
+            userIds.add(userRepository.save(user).getId());
+        }
+        
+        List<Recipe> recipes = new ArrayList<>();
+        for (Long userId : userIds) {
+            for (int i = 0; i < 40; i++) {
+                Recipe recipe = new Recipe();
+                recipe.setUserId(userId);
+                recipe.setTitle((i % 2 == 0 ? "Soup " : "Stew ") + i);
+                recipe.setDifficulty(Difficulty.values()[i % Difficulty.values().length]);
+                recipe.setCookingTimeMinutes(5 + i);
+                recipe.addCategory(i % 2 == 0 ? breakfast : dinner);
+                recipes.add(recipeRepository.save(recipe));
+            }
+        }
+        summaryService.recordCreated(recipes);
+        entityManager.flush();
+        entityManager.clear();
+        
+        List<Long> categoryIds = List.of(breakfast.getId(), dinner.getId());
+        Specification<RecipeSummary> owned = RecipeSummarySpecification.hasUserId(userIds.get(0));
+        filters = new LinkedHashMap<>();
+        filters.put("none", owned);
+        filters.put("difficulty", owned.and(RecipeSummarySpecification.hasDifficulty(Difficulty.MEDIUM)));
+        filters.put("categories", owned.and(RecipeSummarySpecification.hasCategoryIds(categoryIds)));
+        filters.put("search", owned.and(RecipeSummarySpecification.titleContains("soup")));
+        filters.put("all", owned
+            .and(RecipeSummarySpecification.hasDifficulty(Difficulty.MEDIUM))
+            .and(RecipeSummarySpecification.hasCategoryIds(categoryIds))
+            .and(RecipeSummarySpecification.titleContains("soup")));
+        
+        sqlCapture.drain();
+    }
+    
+    @Test
+    void migratedSchema_HasEveryIndexTheEntityDeclares() {
+        List<String> declared = Arrays.stream(RecipeSummary.class.getAnnotation(Table.class).indexes())
+            .map(index -> index.name().toUpperCase())
+            .collect(Collectors.toList());
+        
+        List<String> migrated = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            List<String> names = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'RECIPE_SUMMARIES'");
+                 ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    names.add(resultSet.getString(1));
+                }
+            }
+            return names;
+        });
+        
+        assertThat(migrated).containsAll(declared);
+    }
+    
+    @Test
+    void offsetPages_UseSortIndexForEveryFilterAndSort() {
+        List<String> problems = explainAll((spec, sort) -> summaryRepository.findSummaries(spec, PageRequest.of(1, PAGE_SIZE, sort), COLUMNS));
+        
+        assertThat(problems).isEmpty();
+    }
+    
+    @Test
+    void firstCursorPages_UseSortIndexForEveryFilterAndSort() {
+        List<String> problems = explainAll((spec, sort) -> summaryRepository.scrollSummaries(spec, sort, PAGE_SIZE, ScrollPosition.keyset(), COLUMNS));
+        
+        assertThat(problems).isEmpty();
+    }
+    
+    @Test
+    void nextCursorPages_UseSortIndexForEveryFilterAndSort() {
+        List<String> problems = explainAll((spec, sort) -> {
+            String field = sort.iterator().next().getProperty();
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(field, lastValue(field));
+            keys.put("id", 1L);
+            summaryRepository.scrollSummaries(spec, sort, PAGE_SIZE, ScrollPosition.forward(keys), COLUMNS);
+        });
+        
+        assertThat(problems).isEmpty();
+    }
+    
+    private List<String> explainAll(BiConsumer<Specification<RecipeSummary>, Sort> query) {
+        List<String> problems = new ArrayList<>();
+        for (Map.Entry<String, Specification<RecipeSummary>> filter : filters.entrySet()) {
+            for (String field : SORT_FIELDS) {
+                for (Sort.Direction direction : DIRECTIONS) {
+                    Sort sort = Sort.by(direction, field).and(Sort.by(direction, "id"));
+                    query.accept(filter.getValue(), sort);
+                    
+                    String combination = "filter=" + filter.getKey() + ", sort=" + field + " " + direction;
+                    List<String> statements = sqlCapture.drain();
+                    assertThat(statements).as(combination).isNotEmpty();
+                    for (String sql : statements) {
+                        problems.addAll(checkPlan(combination, sql));
+                    }
+                }
+            }
+        }
+        return problems;
+    }
+    
+    private List<String> checkPlan(String combination, String sql) {
+        List<String> problems = new ArrayList<>();
+        String plan = explain(sql);
+        if (plan.contains(".tableScan")) {
+            problems.add(combination + " falls back to a full scan:\n" + plan);
+        }
+        if (sql.toLowerCase().contains(" order by ") && !plan.contains("/* index sorted */")) {
+            problems.add(combination + " sorts rows instead of reading them in index order:\n" + plan);
+        }
+        return problems;
+    }
+    
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+    
+    private static Object lastValue(String field) {
+        return switch (field) {
+            case "title" -> "Soup 10";
+            case "cookingTimeMinutes" -> 20;
+            default -> LocalDateTime.now().minusDays(1);
+        };
+    }
+}
@@ -8,10 +8,10 @@ import com.recipenotebook.entity.Difficulty;
 import com.recipenotebook.entity.Recipe;
 import com.recipenotebook.entity.User;
 import com.recipenotebook.exception.AuthenticationException;
+import com.recipenotebook.exception.PasswordHashingUnavailableException;
 import com.recipenotebook.exception.RegistrationException;
 import com.recipenotebook.exception.UsernameAlreadyExistsException;
-import com.recipenotebook.repository.CategoryRepository;
-import com.recipenotebook.repository.RecipeRepository;
+import com.recipenotebook.index.RecipeChangedEvent;
 import com.recipenotebook.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,8 +19,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Instant;
 import java.util.List;
@@ -38,16 +39,25 @@ class AuthServiceTest {
     private UserRepository userRepository;
     
     @Mock
-    private CategoryRepository categoryRepository;
+    private SampleRecipeTemplate sampleRecipeTemplate;
     
     @Mock
-    private RecipeRepository recipeRepository;
+    private PasswordHasher passwordHasher;
     
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private JwtService jwtService;
     
     @Mock
-    private JwtService jwtService;
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private RecipeFacetService facetService;
+    
+    @Mock
+    private RecipeSummaryService summaryService;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
     
     @InjectMocks
     private AuthService authService;
@@ -64,25 +74,14 @@ class AuthServiceTest {
     @Test
     void registerUser_WithValidData_ShouldSucceed() {
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
-        when(passwordEncoder.encode("password123")).thenReturn("$2a$10$hashedPassword");
+        when(passwordHasher.encode("password123")).thenReturn("$2a$10$hashedPassword");
         
         User savedUser = new User();
         savedUser.setId(1L);
         savedUser.setUsername("testuser");
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
-        
-        when(categoryRepository.findByName(anyString())).thenReturn(java.util.Optional.empty());
-        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> {
-            Category cat = invocation.getArgument(0);
-            if (cat.getId() == null) {
-                cat.setId((long) (Math.random() * 1000));
-            }
-            return cat;
-        });
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
         
-        Recipe savedRecipe = new Recipe();
-        savedRecipe.setId(1L);
-        when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
+        when(sampleRecipeTemplate.createFor(1L)).thenReturn(sampleRecipe(1L));
         
         RegisterResponse response = authService.registerUser(validRequest);
         
@@ -91,9 +90,9 @@ class AuthServiceTest {
         assertThat(response.getUsername()).isEqualTo("testuser");
         
         verify(userRepository).existsByUsername("testuser");
-        verify(passwordEncoder).encode("password123");
-        verify(userRepository).save(any(User.class));
-        verify(recipeRepository).save(any(Recipe.class));
+        verify(passwordHasher).encode("password123");
+        verify(userRepository).saveAndFlush(any(User.class));
+        verify(sampleRecipeTemplate).createFor(1L);
     }
     
     @Test
@@ -105,113 +104,95 @@ class AuthServiceTest {
                 .hasMessageContaining("testuser");
         
         verify(userRepository).existsByUsername("testuser");
-        verify(userRepository, never()).save(any(User.class));
-        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+        verify(passwordHasher, never()).encode(anyString());
+    }
+    
+    @Test
+    void registerUser_WhenHashingPoolIsSaturated_ShouldRejectWithoutCreatingUser() {
+        when(userRepository.existsByUsername("testuser")).thenReturn(false);
+        when(passwordHasher.encode("password123"))
+                .thenThrow(new PasswordHashingUnavailableException("Password hashing capacity exceeded"));
+        
+        assertThatThrownBy(() -> authService.registerUser(validRequest))
+                .isInstanceOf(PasswordHashingUnavailableException.class);
+        
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+        verifyNoInteractions(transactionManager);
     }
     
     @Test
     void registerUser_WithDatabaseError_ShouldThrowRegistrationException() {
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
-        when(passwordEncoder.encode("password123")).thenReturn("$2a$10$hashedPassword");
-        when(userRepository.save(any(User.class))).thenThrow(new DataAccessException("DB error") {});
+        when(passwordHasher.encode("password123")).thenReturn("$2a$10$hashedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataAccessException("DB error") {});
         
         assertThatThrownBy(() -> authService.registerUser(validRequest))
                 .isInstanceOf(RegistrationException.class)
                 .hasMessageContaining("Database error");
         
         verify(userRepository).existsByUsername("testuser");
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
     }
     
     @Test
     void registerUser_ShouldHashPassword() {
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
-        when(passwordEncoder.encode("password123")).thenReturn("$2a$10$hashedPassword");
+        when(passwordHasher.encode("password123")).thenReturn("$2a$10$hashedPassword");
         
         User savedUser = new User();
         savedUser.setId(1L);
         savedUser.setUsername("testuser");
-        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
             User user = invocation.getArgument(0);
             assertThat(user.getPasswordHash()).isEqualTo("$2a$10$hashedPassword");
             return savedUser;
         });
         
-        when(categoryRepository.findByName(anyString())).thenReturn(java.util.Optional.empty());
-        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> {
-            Category cat = invocation.getArgument(0);
-            if (cat.getId() == null) {
-                cat.setId((long) (Math.random() * 1000));
-            }
-            return cat;
-        });
-        when(recipeRepository.save(any(Recipe.class))).thenReturn(new Recipe());
+        when(sampleRecipeTemplate.createFor(1L)).thenReturn(sampleRecipe(1L));
         
         authService.registerUser(validRequest);
         
-        verify(passwordEncoder).encode("password123");
+        verify(passwordHasher).encode("password123");
     }
     
     @Test
-    void registerUser_ShouldCreate6DefaultCategories() {
+    void registerUser_ShouldCloneSampleRecipeAndMaintainReadModels() {
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
-        when(passwordEncoder.encode("password123")).thenReturn("$2a$10$hashedPassword");
+        when(passwordHasher.encode("password123")).thenReturn("$2a$10$hashedPassword");
         
         User savedUser = new User();
         savedUser.setId(1L);
         savedUser.setUsername("testuser");
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
-        
-        when(categoryRepository.findByName(anyString())).thenReturn(java.util.Optional.empty());
-        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> {
-            Category cat = invocation.getArgument(0);
-            if (cat.getId() == null) {
-                cat.setId((long) (Math.random() * 1000));
-            }
-            return cat;
-        });
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
         
-        when(recipeRepository.save(any(Recipe.class))).thenReturn(new Recipe());
+        Recipe sampleRecipe = sampleRecipe(1L);
+        when(sampleRecipeTemplate.createFor(1L)).thenReturn(sampleRecipe);
         
         authService.registerUser(validRequest);
         
-        verify(categoryRepository, times(6)).save(any(Category.class));
+        verify(sampleRecipeTemplate).createFor(1L);
+        verify(facetService).recordInserted(List.of(50L));
+        verify(summaryService).recordCreated(List.of(sampleRecipe));
+        verify(eventPublisher).publishEvent(any(RecipeChangedEvent.class));
     }
     
     @Test
-    void registerUser_ShouldCreateSampleRecipe() {
+    void registerUser_WhenSampleRecipeFails_ShouldThrowRegistrationException() {
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
-        when(passwordEncoder.encode("password123")).thenReturn("$2a$10$hashedPassword");
+        when(passwordHasher.encode("password123")).thenReturn("$2a$10$hashedPassword");
         
         User savedUser = new User();
         savedUser.setId(1L);
         savedUser.setUsername("testuser");
-        when(userRepository.save(any(User.class))).thenReturn(savedUser);
-        
-        when(categoryRepository.findByName(anyString())).thenReturn(java.util.Optional.empty());
-        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> {
-            Category cat = invocation.getArgument(0);
-            if (cat.getId() == null) {
-                cat.setId((long) (Math.random() * 1000));
-            }
-            return cat;
-        });
-        
-        when(recipeRepository.save(any(Recipe.class))).thenAnswer(invocation -> {
-            Recipe recipe = invocation.getArgument(0);
-            assertThat(recipe.getUserId()).isEqualTo(1L);
-            assertThat(recipe.getTitle()).isEqualTo("Classic Chocolate Chip Cookies");
-            assertThat(recipe.getDifficulty()).isEqualTo(Difficulty.EASY);
-            assertThat(recipe.getCookingTimeMinutes()).isEqualTo(25);
-            assertThat(recipe.getIngredients()).hasSize(9);
-            assertThat(recipe.getSteps()).hasSize(6);
-            assertThat(recipe.getCategories()).hasSize(1);
-            return recipe;
-        });
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(savedUser);
+        when(sampleRecipeTemplate.createFor(1L)).thenThrow(new DataAccessException("DB error") {});
         
-        authService.registerUser(validRequest);
+        assertThatThrownBy(() -> authService.registerUser(validRequest))
+                .isInstanceOf(RegistrationException.class)
+                .hasMessageContaining("Database error");
         
-        verify(recipeRepository).save(any(Recipe.class));
+        verifyNoInteractions(facetService, summaryService, eventPublisher);
     }
     
     @Test
@@ -222,7 +203,7 @@ class AuthServiceTest {
         user.setPasswordHash("$2a$10$hashedPassword");
         
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("password123", "$2a$10$hashedPassword")).thenReturn(true);
+        when(passwordHasher.matches("password123", "$2a$10$hashedPassword")).thenReturn(true);
         when(jwtService.generateToken(1L, "testuser")).thenReturn("mock.jwt.token");
         when(jwtService.getExpirationTime()).thenReturn(Instant.parse("2025-12-18T15:30:00Z"));
         
@@ -234,7 +215,7 @@ class AuthServiceTest {
         assertThat(response.getExpiresAt()).isEqualTo("2025-12-18T15:30:00Z");
         
         verify(userRepository).findByUsername("testuser");
-        verify(passwordEncoder).matches("password123", "$2a$10$hashedPassword");
+        verify(passwordHasher).matches("password123", "$2a$10$hashedPassword");
         verify(jwtService).generateToken(1L, "testuser");
         verify(jwtService).getExpirationTime();
     }
@@ -248,7 +229,7 @@ class AuthServiceTest {
                 .hasMessageContaining("Invalid credentials");
         
         verify(userRepository).findByUsername("nonexistent");
-        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(passwordHasher, never()).matches(anyString(), anyString());
         verify(jwtService, never()).generateToken(any(), anyString());
     }
     
@@ -260,14 +241,14 @@ class AuthServiceTest {
         user.setPasswordHash("$2a$10$hashedPassword");
         
         when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("wrongpassword", "$2a$10$hashedPassword")).thenReturn(false);
+        when(passwordHasher.matches("wrongpassword", "$2a$10$hashedPassword")).thenReturn(false);
         
         assertThatThrownBy(() -> authService.login("testuser", "wrongpassword"))
                 .isInstanceOf(AuthenticationException.class)
                 .hasMessageContaining("Invalid credentials");
         
         verify(userRepository).findByUsername("testuser");
-        verify(passwordEncoder).matches("wrongpassword", "$2a$10$hashedPassword");
+        verify(passwordHasher).matches("wrongpassword", "$2a$10$hashedPassword");
         verify(jwtService, never()).generateToken(any(), anyString());
     }
     
@@ -279,7 +260,7 @@ class AuthServiceTest {
         user.setUsername("existinguser");
         user.setPasswordHash("$2a$10$hashedPassword");
         when(userRepository.findByUsername("existinguser")).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("wrongpassword", "$2a$10$hashedPassword")).thenReturn(false);
+        when(passwordHasher.matches("wrongpassword", "$2a$10$hashedPassword")).thenReturn(false);
         
         String messageForNonExistent = null;
         String messageForWrongPassword = null;
@@ -298,4 +279,15 @@ class AuthServiceTest {
         
         assertThat(messageForNonExistent).isEqualTo(messageForWrongPassword);
     }
+    
+    private Recipe sampleRecipe(Long userId) {
+        Recipe recipe = new Recipe();
+        recipe.setId(50L);
+        recipe.setUserId(userId);
+        recipe.setTitle("Classic Chocolate Chip Cookies");
+        recipe.setDifficulty(Difficulty.EASY);
+        recipe.setCookingTimeMinutes(25);
+        recipe.addCategory(new Category(4L, "Dessert", true));
+        return recipe;
+    }
 }
@@ -1,5 +1,6 @@
 package com.recipenotebook.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.recipenotebook.dto.CategoriesResponseData;
 import com.recipenotebook.dto.CategoryDTO;
 import com.recipenotebook.entity.Category;
@@ -7,7 +8,6 @@ import com.recipenotebook.repository.CategoryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -15,6 +15,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,13 +25,14 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
     
-    @InjectMocks
     private CategoryService categoryService;
     
     private List<Category> testCategories;
     
     @BeforeEach
     void setUp() {
+        categoryService = new CategoryService(new CategoryRegistry(categoryRepository, new ObjectMapper(), 60));
+        
         testCategories = Arrays.asList(
             createCategory(1L, "Breakfast", true),
             createCategory(2L, "Dessert", true),
@@ -90,6 +92,70 @@ class CategoryServiceTest {
         verify(categoryRepository).findAllByOrderByNameAsc();
     }
     
+    @Test
+    void getAllCategories_ServesRepeatedCallsFromRegistrySnapshot() {
+        when(categoryRepository.findAllByOrderByNameAsc()).thenReturn(testCategories);
+        
+        categoryService.getAllCategories();
+        categoryService.getAllCategories();
+        categoryService.getCategorySnapshot();
+        
+        verify(categoryRepository, times(1)).findAllByOrderByNameAsc();
+    }
+    
+    @Test
+    void getCategorySnapshot_ProvidesPreSerializedBodyAndETag() throws Exception {
+        when(categoryRepository.findAllByOrderByNameAsc()).thenReturn(testCategories);
+        
+        CategorySnapshot snapshot = categoryService.getCategorySnapshot();
+        
+        CategoriesResponseData data = new ObjectMapper().readTree(snapshot.getResponseBody())
+            .get("data")
+            .traverse(new ObjectMapper())
+            .readValueAs(CategoriesResponseData.class);
+        assertThat(data.getCategories()).extracting(CategoryDTO::getName).containsExactly(
+            "Breakfast", "Dessert", "Dinner", "Drinks", "Lunch", "Snacks");
+        assertThat(snapshot.getETag()).startsWith("\"").endsWith("\"");
+        assertThat(snapshot.get(3L)).map(CategoryDTO::getName).contains("Dinner");
+        assertThat(snapshot.findByName("Snacks")).map(CategoryDTO::getId).contains(6L);
+    }
+    
+    @Test
+    void findMissingIds_ReloadsOnceBeforeReportingUnknownIds() {
+        CategoryRegistry registry = new CategoryRegistry(categoryRepository, new ObjectMapper(), 60);
+        when(categoryRepository.findAllByOrderByNameAsc())
+            .thenReturn(testCategories.subList(0, 5))
+            .thenReturn(testCategories);
+        
+        assertThat(registry.findMissingIds(List.of(1L, 6L))).isEmpty();
+        
+        verify(categoryRepository, times(2)).findAllByOrderByNameAsc();
+    }
+    
+    @Test
+    void findMissingIds_RepeatedUnknownIds_ReloadAtMostOncePerInterval() {
+        CategoryRegistry registry = new CategoryRegistry(categoryRepository, new ObjectMapper(), 60);
+        when(categoryRepository.findAllByOrderByNameAsc()).thenReturn(testCategories);
+        
+        for (int i = 0; i < 5; i++) {
+            assertThat(registry.findMissingIds(List.of(2L, 999999L))).containsExactly(999999L);
+        }
+        
+        verify(categoryRepository, times(2)).findAllByOrderByNameAsc();
+    }
+    
+    @Test
+    void invalidate_ForcesReloadOnNextAccess() {
+        CategoryRegistry registry = new CategoryRegistry(categoryRepository, new ObjectMapper(), 60);
+        when(categoryRepository.findAllByOrderByNameAsc()).thenReturn(testCategories);
+        
+        registry.current();
+        registry.invalidate();
+        registry.current();
+        
+        verify(categoryRepository, times(2)).findAllByOrderByNameAsc();
+    }
+    
     private Category createCategory(Long id, String name, Boolean isDefault) {
         Category category = new Category();
         category.setId(id);
@@ -0,0 +1,84 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.PasswordHashingStatsDTO;
+import com.recipenotebook.exception.PasswordHashingUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+    
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher hasher;
+    
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hasher.shutdown();
+    }
+    
+    @Test
+    void encodeAndMatches_RunOnPoolAndRecordLatency() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), 1, 4);
+        
+        String hash = hasher.encode("password123");
+        
+        assertThat(hasher.matches("password123", hash)).isTrue();
+        assertThat(hasher.matches("wrongpassword", hash)).isFalse();
+        PasswordHashingStatsDTO stats = hasher.getStats();
+        assertThat(stats.getCompleted()).isEqualTo(3L);
+        assertThat(stats.getRejected()).isZero();
+        assertThat(stats.getMaxHashMillis()).isGreaterThan(0.0);
+        assertThat(stats.getQueueDepth()).isZero();
+    }
+    
+    @Test
+    void encode_RejectsImmediatelyWhenQueueIsFull() throws Exception {
+        hasher = new PasswordHasher(blockingEncoder(), 1, 1);
+        
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("first"));
+        awaitStats(stats -> stats.getActiveThreads() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("second"));
+        awaitStats(stats -> stats.getQueueDepth() == 1);
+        
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> hasher.encode("third")).isInstanceOf(PasswordHashingUnavailableException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1_000L);
+        assertThat(hasher.getStats().getRejected()).isEqualTo(1L);
+        
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).startsWith("$2a$");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).startsWith("$2a$");
+        assertThat(hasher.getStats().getCompleted()).isEqualTo(2L);
+    }
+    
+    private BCryptPasswordEncoder blockingEncoder() {
+        return new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+    }
+    
+    private void awaitStats(Predicate<PasswordHashingStatsDTO> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.test(hasher.getStats()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.test(hasher.getStats())).isTrue();
+    }
+}
@@ -0,0 +1,65 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.CreateRecipeRequest;
+import com.recipenotebook.dto.RecipeBatchDeleteResponseData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeDeleteStatementCountTest extends StatementCountTestSupport {
+    
+    private static final Long OTHER_USER_ID = USER_ID + 1;
+    private static final int RECIPE_COUNT = 50;
+    private static final int INGREDIENT_COUNT = 3;
+    
+    private final List<Long> recipeIds = new ArrayList<>();
+    private Long otherUsersRecipeId;
+    
+    @BeforeEach
+    void setUp() {
+        CreateRecipeRequest request = recipeRequest("Disposable Recipe", INGREDIENT_COUNT, 2,
+            List.of(saveCategory("Delete Breakfast")));
+        for (int i = 0; i < RECIPE_COUNT; i++) {
+            recipeIds.add(recipeService.createRecipe(request, USER_ID));
+        }
+        otherUsersRecipeId = recipeService.createRecipe(request, OTHER_USER_ID);
+        startCounting();
+    }
+    
+    @Test
+    void deleteRecipes_UsesConstantStatementsAndCascadesChildren() {
+        List<Long> requested = new ArrayList<>(recipeIds);
+        requested.add(otherUsersRecipeId);
+        
+        RecipeBatchDeleteResponseData result = recipeService.deleteRecipes(requested, USER_ID);
+        
+        assertThat(result.getDeletedIds()).hasSize(RECIPE_COUNT);
+        assertThat(result.getNotFoundIds()).containsExactly(otherUsersRecipeId);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        
+        assertThat(countChildRows("ingredients", recipeIds)).isZero();
+        assertThat(countChildRows("steps", recipeIds)).isZero();
+        assertThat(countChildRows("recipe_categories", recipeIds)).isZero();
+        assertThat(countChildRows("ingredients", List.of(otherUsersRecipeId))).isEqualTo(INGREDIENT_COUNT);
+    }
+    
+    @Test
+    void deleteRecipe_DoesNotLoadTheRecipeGraph() {
+        recipeService.deleteRecipe(recipeIds.get(0), USER_ID);
+        
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+    
+    private long countChildRows(String table, List<Long> ids) {
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + table + " WHERE recipe_id IN (:ids)")
+            .setParameter("ids", ids)
+            .getSingleResult()).longValue();
+    }
+}
@@ -0,0 +1,139 @@
+package com.recipenotebook.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipenotebook.dto.FacetCountDTO;
+import com.recipenotebook.dto.RecipeFacetsResponseData;
+import com.recipenotebook.entity.Category;
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.entity.RecipeFacetCount;
+import com.recipenotebook.repository.CategoryRepository;
+import com.recipenotebook.repository.RecipeFacetCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeFacetServiceTest {
+    
+    @Mock
+    private RecipeFacetCountRepository facetCountRepository;
+    
+    @Mock
+    private CategoryRepository categoryRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private RecipeFacetService facetService;
+    
+    @BeforeEach
+    void setUp() {
+        facetService = new RecipeFacetService(facetCountRepository,
+            new CategoryRegistry(categoryRepository, new ObjectMapper(), 60), transactionManager, 2);
+    }
+    
+    @Test
+    void cookingTimeBucket_UsesInclusiveUpperBounds() {
+        assertThat(RecipeFacetService.cookingTimeBucket(1)).isEqualTo("0-15");
+        assertThat(RecipeFacetService.cookingTimeBucket(15)).isEqualTo("0-15");
+        assertThat(RecipeFacetService.cookingTimeBucket(16)).isEqualTo("16-30");
+        assertThat(RecipeFacetService.cookingTimeBucket(60)).isEqualTo("31-60");
+        assertThat(RecipeFacetService.cookingTimeBucket(61)).isEqualTo("61+");
+    }
+    
+    @Test
+    void recordAdded_AggregatesDeltasPerFacetValue() {
+        Category dessert = new Category(2L, "Dessert", true);
+        Recipe first = recipe(Difficulty.EASY, 10, dessert);
+        Recipe second = recipe(Difficulty.EASY, 45, dessert);
+        
+        facetService.recordAdded(7L, List.of(first, second));
+        
+        InOrder inOrder = inOrder(facetCountRepository);
+        inOrder.verify(facetCountRepository).addToCount(7L, "category", "2", 2L);
+        inOrder.verify(facetCountRepository).addToCount(7L, "cookingTime", "0-15", 1L);
+        inOrder.verify(facetCountRepository).addToCount(7L, "cookingTime", "31-60", 1L);
+        inOrder.verify(facetCountRepository).addToCount(7L, "difficulty", "EASY", 2L);
+        verifyNoMoreInteractions(facetCountRepository);
+    }
+    
+    @Test
+    void recordChanged_WritesOnlyFacetValuesThatMoved() {
+        Category dessert = new Category(2L, "Dessert", true);
+        Category dinner = new Category(3L, "Dinner", true);
+        Recipe before = recipe(Difficulty.EASY, 20, dessert);
+        Recipe after = recipe(Difficulty.HARD, 25, dessert, dinner);
+        
+        facetService.recordChanged(7L, RecipeFacetService.keysOf(before), RecipeFacetService.keysOf(after));
+        
+        verify(facetCountRepository).addToCount(7L, "category", "3", 1L);
+        verify(facetCountRepository).addToCount(7L, "difficulty", "EASY", -1L);
+        verify(facetCountRepository).addToCount(7L, "difficulty", "HARD", 1L);
+        verifyNoMoreInteractions(facetCountRepository);
+    }
+    
+    @Test
+    void rebuild_ReplacesCountsOneUserRangePerTransaction() {
+        when(facetCountRepository.findUserRangeEnd(0L, 2)).thenReturn(Optional.of(12L));
+        when(facetCountRepository.findUserRangeEnd(12L, 2)).thenReturn(Optional.empty());
+        
+        facetService.rebuild();
+        
+        InOrder order = inOrder(facetCountRepository, transactionManager);
+        order.verify(facetCountRepository).rebuildUserRange(0L, 12L);
+        order.verify(transactionManager).commit(any());
+        order.verify(facetCountRepository).rebuildUserRange(12L, Long.MAX_VALUE);
+        order.verify(transactionManager).commit(any());
+    }
+    
+    @Test
+    void getFacets_ResolvesCategoryNamesAndFillsFixedFacetsWithZeros() {
+        when(categoryRepository.findAllByOrderByNameAsc()).thenReturn(List.of(
+            new Category(2L, "Dessert", true),
+            new Category(3L, "Dinner", true)));
+        when(facetCountRepository.findByUserIdAndRecipeCountGreaterThan(7L, 0L)).thenReturn(List.of(
+            new RecipeFacetCount(7L, "category", "3", 1L),
+            new RecipeFacetCount(7L, "category", "2", 4L),
+            new RecipeFacetCount(7L, "category", "99", 2L),
+            new RecipeFacetCount(7L, "difficulty", "MEDIUM", 5L),
+            new RecipeFacetCount(7L, "cookingTime", "61+", 5L)));
+        
+        RecipeFacetsResponseData facets = facetService.getFacets(7L);
+        
+        assertThat(facets.getCategories())
+            .extracting(FacetCountDTO::getValue, FacetCountDTO::getLabel, FacetCountDTO::getCount)
+            .containsExactly(tuple("2", "Dessert", 4L), tuple("3", "Dinner", 1L));
+        assertThat(facets.getDifficulties())
+            .extracting(FacetCountDTO::getValue, FacetCountDTO::getCount)
+            .containsExactly(tuple("EASY", 0L), tuple("MEDIUM", 5L), tuple("HARD", 0L));
+        assertThat(facets.getCookingTimes())
+            .extracting(FacetCountDTO::getValue, FacetCountDTO::getCount)
+            .containsExactly(tuple("0-15", 0L), tuple("16-30", 0L), tuple("31-60", 0L), tuple("61+", 5L));
+    }
+    
+    private Recipe recipe(Difficulty difficulty, int cookingTimeMinutes, Category... categories) {
+        Recipe recipe = new Recipe();
+        recipe.setDifficulty(difficulty);
+        recipe.setCookingTimeMinutes(cookingTimeMinutes);
+        for (Category category : categories) {
+            recipe.addCategory(category);
+        }
+        return recipe;
+    }
+}
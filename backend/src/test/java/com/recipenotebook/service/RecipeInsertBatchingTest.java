@@ -0,0 +1,59 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.CreateRecipeRequest;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeInsertBatchingTest extends StatementCountTestSupport {
+    
+    private static final int INGREDIENT_COUNT = 15;
+    private static final int STEP_COUNT = 8;
+    private static final int RECIPE_COUNT = 10;
+    private static final int BATCH_SIZE = 20;
+    
+    private CreateRecipeRequest request;
+    
+    @BeforeEach
+    void setUp() {
+        request = recipeRequest("Batched Recipe", INGREDIENT_COUNT, STEP_COUNT,
+            List.of(saveCategory("Batch Breakfast"), saveCategory("Batch Dessert")));
+        recipeService.createRecipe(request, USER_ID);
+        startCounting();
+    }
+    
+    @Test
+    void createRecipe_BatchingCutsRoundTripsFromOnePerRowToAHandful() {
+        long unbatched = statementsPerRecipe(1);
+        long batched = statementsPerRecipe(BATCH_SIZE);
+        
+        assertThat(unbatched).isGreaterThanOrEqualTo(INGREDIENT_COUNT + STEP_COUNT + 2);
+        assertThat(batched).isLessThanOrEqualTo(10);
+        assertThat(unbatched - batched).isGreaterThanOrEqualTo(INGREDIENT_COUNT + STEP_COUNT - 2);
+    }
+    
+    @Test
+    void createRecipe_AssignsIdsFromPooledSequence() {
+        Long firstId = recipeService.createRecipe(request, USER_ID);
+        Long secondId = recipeService.createRecipe(request, USER_ID);
+        
+        assertThat(secondId).isEqualTo(firstId + 1);
+    }
+    
+    private long statementsPerRecipe(int jdbcBatchSize) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+        statistics.clear();
+        for (int i = 0; i < RECIPE_COUNT; i++) {
+            recipeService.createRecipe(request, USER_ID);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        
+        assertThat(statistics.getEntityInsertCount()).isEqualTo((long) RECIPE_COUNT * (2 + INGREDIENT_COUNT + STEP_COUNT));
+        return statistics.getPrepareStatementCount() / RECIPE_COUNT;
+    }
+}
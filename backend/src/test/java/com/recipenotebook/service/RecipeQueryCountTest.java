@@ -0,0 +1,101 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.CreateRecipeRequest;
+import com.recipenotebook.dto.IngredientDTO;
+import com.recipenotebook.dto.RecipeDetailDTO;
+import com.recipenotebook.dto.RecipeListResponseData;
+import com.recipenotebook.dto.StepDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeQueryCountTest extends StatementCountTestSupport {
+    
+    private static final int RECIPE_COUNT = 30;
+    private static final int PAGE_SIZE = 20;
+    
+    private Long firstRecipeId;
+    
+    @BeforeEach
+    void setUp() {
+        List<Long> categoryIds = List.of(saveCategory("Count Breakfast"), saveCategory("Count Dessert"));
+        for (int i = 0; i < RECIPE_COUNT; i++) {
+            CreateRecipeRequest request = recipeRequest("Recipe " + i, 2, 2, categoryIds);
+            request.setCookingTimeMinutes(10 + i);
+            Long recipeId = recipeService.createRecipe(request, USER_ID);
+            if (firstRecipeId == null) {
+                firstRecipeId = recipeId;
+            }
+        }
+        startCounting();
+    }
+    
+    @Test
+    void offsetPage_RunsPageAndCountQueriesOnly() {
+        RecipeListResponseData result = recipeService.getRecipes(criteria(null));
+        
+        assertThat(result.getRecipes()).hasSize(PAGE_SIZE);
+        assertThat(result.getRecipes()).allSatisfy(recipe -> assertThat(recipe.getCategories()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+    
+    @Test
+    void cursorPage_RunsSingleQuery() {
+        RecipeListResponseData result = recipeService.getRecipes(criteria(""));
+        
+        assertThat(result.getRecipes()).hasSize(PAGE_SIZE);
+        assertThat(result.getRecipes()).allSatisfy(recipe -> assertThat(recipe.getCategories()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+    
+    @Test
+    void listPages_DoNotLoadManagedEntities() {
+        recipeService.getRecipes(criteria(null));
+        recipeService.getRecipes(criteria(""));
+        
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+    
+    @Test
+    void sparseFieldset_SkipsUnrequestedColumns() {
+        RecipeFilterCriteria criteria = criteria(null);
+        criteria.setFields(Set.of("id", "title"));
+        
+        RecipeListResponseData result = recipeService.getRecipes(criteria);
+        
+        assertThat(result.getRecipes()).hasSize(PAGE_SIZE);
+        assertThat(result.getRecipes()).allSatisfy(recipe -> {
+            assertThat(recipe.getTitle()).startsWith("Recipe ");
+            assertThat(recipe.getDifficulty()).isNull();
+            assertThat(recipe.getCategories()).isNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+    
+    @Test
+    void detail_LoadsRecipeWithChildrenInTwoStatements() {
+        RecipeDetailDTO detail = recipeService.getRecipeById(firstRecipeId, USER_ID);
+        
+        assertThat(detail.getCategories()).hasSize(2);
+        assertThat(detail.getIngredients()).extracting(IngredientDTO::getName).containsExactly("ingredient 0", "ingredient 1");
+        assertThat(detail.getIngredients()).extracting(IngredientDTO::getSortOrder).containsExactly(1, 2);
+        assertThat(detail.getSteps()).extracting(StepDTO::getInstruction).containsExactly("Step 0", "Step 1");
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+    
+    private RecipeFilterCriteria criteria(String cursor) {
+        RecipeFilterCriteria criteria = new RecipeFilterCriteria();
+        criteria.setUserId(USER_ID);
+        criteria.setPage(0);
+        criteria.setSize(PAGE_SIZE);
+        criteria.setSortField("title");
+        criteria.setSortDirection("asc");
+        criteria.setCursor(cursor);
+        return criteria;
+    }
+}
@@ -1,22 +1,33 @@
 package com.recipenotebook.service;
 
+import com.recipenotebook.dto.CategoryDTO;
 import com.recipenotebook.dto.PaginationDTO;
 import com.recipenotebook.dto.RecipeListResponseData;
 import com.recipenotebook.dto.RecipeSummaryDTO;
-import com.recipenotebook.entity.Category;
 import com.recipenotebook.entity.Difficulty;
-import com.recipenotebook.entity.Recipe;
-import com.recipenotebook.repository.RecipeRepository;
+import com.recipenotebook.index.CategoryFilterIndex;
+import com.recipenotebook.index.FilteredRecipeIds;
+import com.recipenotebook.index.FuzzyHit;
+import com.recipenotebook.index.FuzzySearchIndex;
+import com.recipenotebook.index.RecipeIndexCoordinator;
+import com.recipenotebook.index.RecipeSearchIndex;
+import com.recipenotebook.index.SearchHit;
+import com.recipenotebook.repository.RecipeSummaryRepository;
+import com.recipenotebook.repository.RecipeSummaryRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
@@ -26,6 +37,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -33,47 +45,33 @@ import static org.mockito.Mockito.*;
 class RecipeServiceGetRecipesTest {
     
     @Mock
-    private RecipeRepository recipeRepository;
+    private RecipeSummaryRepository summaryRepository;
+    
+    @Mock
+    private RecipeSearchIndex searchIndex;
+    
+    @Mock
+    private FuzzySearchIndex fuzzySearchIndex;
+    
+    @Mock
+    private CategoryFilterIndex categoryFilterIndex;
+    
+    @Mock
+    private RecipeIndexCoordinator indexCoordinator;
     
     @InjectMocks
     private RecipeService recipeService;
     
-    private Recipe recipe1;
-    private Recipe recipe2;
-    private Category category1;
-    private Category category2;
+    private RecipeSummaryRow recipe1;
+    private RecipeSummaryRow recipe2;
     
     @BeforeEach
     void setUp() {
-        category1 = new Category();
-        category1.setId(1L);
-        category1.setName("Breakfast");
-        category1.setIsDefault(true);
-        
-        category2 = new Category();
-        category2.setId(2L);
-        category2.setName("Dessert");
-        category2.setIsDefault(true);
-        
-        recipe1 = new Recipe();
-        recipe1.setId(1L);
-        recipe1.setUserId(100L);
-        recipe1.setTitle("Pancakes");
-        recipe1.setDifficulty(Difficulty.EASY);
-        recipe1.setCookingTimeMinutes(15);
-        recipe1.setCategories(Arrays.asList(category1));
-        recipe1.setCreatedAt(LocalDateTime.now().minusDays(2));
-        recipe1.setUpdatedAt(LocalDateTime.now().minusDays(2));
-        
-        recipe2 = new Recipe();
-        recipe2.setId(2L);
-        recipe2.setUserId(100L);
-        recipe2.setTitle("Chocolate Cake");
-        recipe2.setDifficulty(Difficulty.MEDIUM);
-        recipe2.setCookingTimeMinutes(60);
-        recipe2.setCategories(Arrays.asList(category2));
-        recipe2.setCreatedAt(LocalDateTime.now().minusDays(1));
-        recipe2.setUpdatedAt(LocalDateTime.now().minusDays(1));
+        recipe1 = new RecipeSummaryRow(1L, "Pancakes", Difficulty.EASY, 15,
+            LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(2), new ArrayList<>());
+        
+        recipe2 = new RecipeSummaryRow(2L, "Chocolate Cake", Difficulty.MEDIUM, 60,
+            LocalDateTime.now().minusDays(1), LocalDateTime.now().minusDays(1), new ArrayList<>());
     }
     
     @Test
@@ -85,11 +83,11 @@ class RecipeServiceGetRecipesTest {
         criteria.setSortField("title");
         criteria.setSortDirection("asc");
         
-        List<Recipe> recipes = Arrays.asList(recipe1, recipe2);
-        Page<Recipe> recipePage = new PageImpl<>(recipes, 
+        List<RecipeSummaryRow> recipes = Arrays.asList(recipe1, recipe2);
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(recipes, 
             PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")), 2);
         
-        when(recipeRepository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
             .thenReturn(recipePage);
         
         RecipeListResponseData result = recipeService.getRecipes(criteria);
@@ -107,7 +105,7 @@ class RecipeServiceGetRecipesTest {
         assertFalse(pagination.getHasNext());
         assertFalse(pagination.getHasPrevious());
         
-        verify(recipeRepository, times(1)).findAll(any(Specification.class), any(PageRequest.class));
+        verify(summaryRepository, times(1)).findSummaries(any(Specification.class), any(PageRequest.class), any());
     }
     
     @Test
@@ -120,11 +118,12 @@ class RecipeServiceGetRecipesTest {
         criteria.setSortField("title");
         criteria.setSortDirection("asc");
         
-        List<Recipe> recipes = Arrays.asList(recipe1);
-        Page<Recipe> recipePage = new PageImpl<>(recipes, 
+        List<RecipeSummaryRow> recipes = Arrays.asList(recipe1);
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(recipes, 
             PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")), 1);
         
-        when(recipeRepository.findAll(any(Specification.class), any(PageRequest.class)))
+        recipe1.setCategories(Arrays.asList(new CategoryDTO(1L, "Breakfast", true)));
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
             .thenReturn(recipePage);
         
         RecipeListResponseData result = recipeService.getRecipes(criteria);
@@ -146,11 +145,11 @@ class RecipeServiceGetRecipesTest {
         criteria.setSortField("title");
         criteria.setSortDirection("asc");
         
-        List<Recipe> recipes = Arrays.asList(recipe1);
-        Page<Recipe> recipePage = new PageImpl<>(recipes, 
+        List<RecipeSummaryRow> recipes = Arrays.asList(recipe1);
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(recipes, 
             PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")), 1);
         
-        when(recipeRepository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
             .thenReturn(recipePage);
         
         RecipeListResponseData result = recipeService.getRecipes(criteria);
@@ -170,11 +169,11 @@ class RecipeServiceGetRecipesTest {
         criteria.setSortField("title");
         criteria.setSortDirection("asc");
         
-        List<Recipe> recipes = Arrays.asList(recipe2);
-        Page<Recipe> recipePage = new PageImpl<>(recipes, 
+        List<RecipeSummaryRow> recipes = Arrays.asList(recipe2);
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(recipes, 
             PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")), 1);
         
-        when(recipeRepository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
             .thenReturn(recipePage);
         
         RecipeListResponseData result = recipeService.getRecipes(criteria);
@@ -196,11 +195,11 @@ class RecipeServiceGetRecipesTest {
         criteria.setSortField("cookingTimeMinutes");
         criteria.setSortDirection("desc");
         
-        List<Recipe> recipes = Arrays.asList(recipe2);
-        Page<Recipe> recipePage = new PageImpl<>(recipes, 
+        List<RecipeSummaryRow> recipes = Arrays.asList(recipe2);
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(recipes, 
             PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "cookingTimeMinutes")), 1);
         
-        when(recipeRepository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
             .thenReturn(recipePage);
         
         RecipeListResponseData result = recipeService.getRecipes(criteria);
@@ -219,11 +218,11 @@ class RecipeServiceGetRecipesTest {
         criteria.setSortField("createdAt");
         criteria.setSortDirection("desc");
         
-        List<Recipe> recipes = Arrays.asList(recipe2, recipe1);
-        Page<Recipe> recipePage = new PageImpl<>(recipes, 
+        List<RecipeSummaryRow> recipes = Arrays.asList(recipe2, recipe1);
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(recipes, 
             PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")), 2);
         
-        when(recipeRepository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
             .thenReturn(recipePage);
         
         RecipeListResponseData result = recipeService.getRecipes(criteria);
@@ -244,10 +243,10 @@ class RecipeServiceGetRecipesTest {
         criteria.setSortField("title");
         criteria.setSortDirection("asc");
         
-        Page<Recipe> recipePage = new PageImpl<>(new ArrayList<>(), 
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(new ArrayList<>(), 
             PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")), 0);
         
-        when(recipeRepository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
             .thenReturn(recipePage);
         
         RecipeListResponseData result = recipeService.getRecipes(criteria);
@@ -269,11 +268,11 @@ class RecipeServiceGetRecipesTest {
         criteria.setSortField("title");
         criteria.setSortDirection("asc");
         
-        List<Recipe> recipes = Arrays.asList(recipe2);
-        Page<Recipe> recipePage = new PageImpl<>(recipes, 
+        List<RecipeSummaryRow> recipes = Arrays.asList(recipe2);
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(recipes, 
             PageRequest.of(1, 1, Sort.by(Sort.Direction.ASC, "title")), 2);
         
-        when(recipeRepository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
             .thenReturn(recipePage);
         
         RecipeListResponseData result = recipeService.getRecipes(criteria);
@@ -297,16 +296,269 @@ class RecipeServiceGetRecipesTest {
         criteria.setSortField("title");
         criteria.setSortDirection("asc");
         
-        Page<Recipe> recipePage = new PageImpl<>(new ArrayList<>(), 
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(new ArrayList<>(), 
             PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")), 0);
         
-        when(recipeRepository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
             .thenReturn(recipePage);
         
         RecipeListResponseData result = recipeService.getRecipes(criteria);
         
         assertNotNull(result);
         assertEquals(0, result.getRecipes().size());
-        verify(recipeRepository, times(1)).findAll(any(Specification.class), any(PageRequest.class));
+        verify(summaryRepository, times(1)).findSummaries(any(Specification.class), any(PageRequest.class), any());
+    }
+    
+    @Test
+    void testGetRecipes_FirstCursorPage_ReturnsNextCursorWithoutCount() {
+        RecipeFilterCriteria criteria = new RecipeFilterCriteria();
+        criteria.setUserId(100L);
+        criteria.setPage(0);
+        criteria.setSize(1);
+        criteria.setSortField("title");
+        criteria.setSortDirection("asc");
+        criteria.setCursor("");
+        
+        Window<RecipeSummaryRow> window = Window.from(Arrays.asList(recipe2), index -> ScrollPosition.keyset(), true);
+        
+        when(summaryRepository.scrollSummaries(any(Specification.class), any(Sort.class), anyInt(), any(KeysetScrollPosition.class), any()))
+            .thenReturn(window);
+        
+        RecipeListResponseData result = recipeService.getRecipes(criteria);
+        
+        assertEquals(1, result.getRecipes().size());
+        assertEquals("Chocolate Cake", result.getRecipes().get(0).getTitle());
+        
+        PaginationDTO pagination = result.getPagination();
+        assertTrue(pagination.getHasNext());
+        assertFalse(pagination.getHasPrevious());
+        assertNull(pagination.getTotalRecipes());
+        assertNull(pagination.getTotalPages());
+        assertEquals(1, pagination.getPageSize());
+        
+        RecipeCursor nextCursor = RecipeCursor.decode(pagination.getNextCursor());
+        assertEquals("title", nextCursor.getSortField());
+        assertEquals(2L, nextCursor.getLastId());
+        assertEquals("Chocolate Cake", nextCursor.getLastValue());
+        
+        verify(summaryRepository, never()).findSummaries(any(Specification.class), any(Pageable.class), any());
+    }
+    
+    @Test
+    void testGetRecipes_LastCursorPage_HasNoNextCursor() {
+        RecipeFilterCriteria criteria = new RecipeFilterCriteria();
+        criteria.setUserId(100L);
+        criteria.setPage(0);
+        criteria.setSize(1);
+        criteria.setSortField("cookingTimeMinutes");
+        criteria.setSortDirection("desc");
+        criteria.setCursor(new RecipeCursor("cookingTimeMinutes", "desc", 2L, 60).encode());
+        
+        Window<RecipeSummaryRow> window = Window.from(Arrays.asList(recipe1), index -> ScrollPosition.keyset(), false);
+        
+        when(summaryRepository.scrollSummaries(any(Specification.class), any(Sort.class), anyInt(), any(KeysetScrollPosition.class), any()))
+            .thenReturn(window);
+        
+        RecipeListResponseData result = recipeService.getRecipes(criteria);
+        
+        assertEquals(1, result.getRecipes().size());
+        assertEquals("Pancakes", result.getRecipes().get(0).getTitle());
+        assertFalse(result.getPagination().getHasNext());
+        assertTrue(result.getPagination().getHasPrevious());
+        assertNull(result.getPagination().getNextCursor());
+    }
+    
+    @Test
+    void testRecipeCursor_RoundTripsEverySortField() {
+        LocalDateTime timestamp = LocalDateTime.of(2025, 12, 17, 10, 15, 30);
+        
+        assertEquals("Soup | Salad", RecipeCursor.decode(new RecipeCursor("title", "asc", 7L, "Soup | Salad").encode()).getLastValue());
+        assertEquals(45, RecipeCursor.decode(new RecipeCursor("cookingTimeMinutes", "asc", 7L, 45).encode()).getLastValue());
+        assertEquals(timestamp, RecipeCursor.decode(new RecipeCursor("createdAt", "desc", 7L, timestamp).encode()).getLastValue());
+        assertEquals(timestamp, RecipeCursor.decode(new RecipeCursor("updatedAt", "desc", 7L, timestamp).encode()).getLastValue());
+        
+        assertThrows(IllegalArgumentException.class, () -> RecipeCursor.decode("not a cursor"));
+    }
+    
+    @Test
+    void testGetRecipes_ReadsCategoriesFromSummaryRowsWithoutExtraQuery() {
+        RecipeFilterCriteria criteria = new RecipeFilterCriteria();
+        criteria.setUserId(100L);
+        criteria.setPage(0);
+        criteria.setSize(20);
+        criteria.setSortField("title");
+        criteria.setSortDirection("asc");
+        
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(Arrays.asList(recipe1, recipe2), 
+            PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")), 2);
+        
+        recipe1.setCategories(Arrays.asList(new CategoryDTO(1L, "Breakfast", true)));
+        recipe2.setCategories(Arrays.asList(new CategoryDTO(2L, "Dessert", true)));
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
+            .thenReturn(recipePage);
+        
+        RecipeListResponseData result = recipeService.getRecipes(criteria);
+        
+        assertEquals("Breakfast", result.getRecipes().get(0).getCategories().get(0).getName());
+        assertEquals("Dessert", result.getRecipes().get(1).getCategories().get(0).getName());
+        verify(summaryRepository, times(1)).findSummaries(any(Specification.class), any(PageRequest.class), any());
+        verifyNoMoreInteractions(summaryRepository);
+    }
+    
+    @Test
+    void testGetRecipes_FullTextSearch_ReturnsRecipesInRankOrder() {
+        RecipeFilterCriteria criteria = new RecipeFilterCriteria();
+        criteria.setUserId(100L);
+        criteria.setPage(0);
+        criteria.setSize(20);
+        criteria.setSortField("title");
+        criteria.setSortDirection("asc");
+        criteria.setSearchQuery("chocolate");
+        criteria.setSearchMode("fulltext");
+        
+        when(indexCoordinator.isReady()).thenReturn(true);
+        when(searchIndex.search(100L, "chocolate", null, null))
+            .thenReturn(Arrays.asList(new SearchHit(2L, 3.5), new SearchHit(1L, 1.2)));
+        when(summaryRepository.findSummariesByIds(eq(100L), eq(Arrays.asList(2L, 1L)), any()))
+            .thenReturn(Arrays.asList(recipe1, recipe2));
+        
+        RecipeListResponseData result = recipeService.getRecipes(criteria);
+        
+        assertEquals(2, result.getRecipes().size());
+        assertEquals("Chocolate Cake", result.getRecipes().get(0).getTitle());
+        assertEquals("Pancakes", result.getRecipes().get(1).getTitle());
+        assertEquals(2L, result.getPagination().getTotalRecipes());
+        verify(summaryRepository, never()).findSummaries(any(Specification.class), any(PageRequest.class), any());
+    }
+    
+    @Test
+    void testGetRecipes_FullTextSearch_FallsBackToTitleSearchWhileIndexIsBuilding() {
+        RecipeFilterCriteria criteria = new RecipeFilterCriteria();
+        criteria.setUserId(100L);
+        criteria.setPage(0);
+        criteria.setSize(20);
+        criteria.setSortField("title");
+        criteria.setSortDirection("asc");
+        criteria.setSearchQuery("chocolate");
+        criteria.setSearchMode("fulltext");
+        
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(Arrays.asList(recipe2), 
+            PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")), 1);
+        
+        when(indexCoordinator.isReady()).thenReturn(false);
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
+            .thenReturn(recipePage);
+        
+        RecipeListResponseData result = recipeService.getRecipes(criteria);
+        
+        assertEquals(1, result.getRecipes().size());
+        verify(searchIndex, never()).search(any(), any(), any(), any());
+    }
+    
+    @Test
+    void testGetRecipes_CategoryFilterUsesIndexAndHydratesOnlyThePage() {
+        RecipeFilterCriteria criteria = new RecipeFilterCriteria();
+        criteria.setUserId(100L);
+        criteria.setCategoryIds(Arrays.asList(1L, 2L));
+        criteria.setPage(1);
+        criteria.setSize(1);
+        criteria.setSortField("title");
+        criteria.setSortDirection("asc");
+        
+        when(indexCoordinator.isReady()).thenReturn(true);
+        when(categoryFilterIndex.filter(100L, Arrays.asList(1L, 2L), null, null, "title", false, 2))
+            .thenReturn(new FilteredRecipeIds(Arrays.asList(2L, 1L), 2));
+        when(summaryRepository.findSummariesByIds(eq(100L), eq(Arrays.asList(1L)), any()))
+            .thenReturn(Arrays.asList(recipe1));
+        
+        RecipeListResponseData result = recipeService.getRecipes(criteria);
+        
+        assertEquals(1, result.getRecipes().size());
+        assertEquals("Pancakes", result.getRecipes().get(0).getTitle());
+        
+        PaginationDTO pagination = result.getPagination();
+        assertEquals(2L, pagination.getTotalRecipes());
+        assertEquals(2, pagination.getTotalPages());
+        assertTrue(pagination.getHasPrevious());
+        assertFalse(pagination.getHasNext());
+        verify(summaryRepository, never()).findSummaries(any(Specification.class), any(PageRequest.class), any());
+    }
+    
+    @Test
+    void testGetRecipes_PrefixSearch_QueriesSummaryTableInsteadOfFilterIndex() {
+        RecipeFilterCriteria criteria = new RecipeFilterCriteria();
+        criteria.setUserId(100L);
+        criteria.setCategoryIds(Arrays.asList(1L));
+        criteria.setPage(0);
+        criteria.setSize(20);
+        criteria.setSortField("title");
+        criteria.setSortDirection("asc");
+        criteria.setSearchQuery("Choc");
+        criteria.setSearchMode("prefix");
+        
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(Arrays.asList(recipe2), 
+            PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")), 1);
+        
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
+            .thenReturn(recipePage);
+        
+        RecipeListResponseData result = recipeService.getRecipes(criteria);
+        
+        assertEquals(1, result.getRecipes().size());
+        assertEquals("Chocolate Cake", result.getRecipes().get(0).getTitle());
+        verifyNoInteractions(categoryFilterIndex, searchIndex);
+    }
+    
+    @Test
+    void testGetRecipes_FuzzySearch_ReturnsRecipesInDistanceOrder() {
+        RecipeFilterCriteria criteria = new RecipeFilterCriteria();
+        criteria.setUserId(100L);
+        criteria.setDifficulty(Difficulty.MEDIUM);
+        criteria.setPage(0);
+        criteria.setSize(20);
+        criteria.setSortField("title");
+        criteria.setSortDirection("asc");
+        criteria.setSearchQuery("choclate");
+        criteria.setSearchMode("contains");
+        criteria.setFuzzy(true);
+        
+        when(indexCoordinator.isReady()).thenReturn(true);
+        when(fuzzySearchIndex.search(100L, "choclate", null, Difficulty.MEDIUM))
+            .thenReturn(Arrays.asList(new FuzzyHit(2L, 1, 3), new FuzzyHit(1L, 2, 2)));
+        when(summaryRepository.findSummariesByIds(eq(100L), eq(Arrays.asList(2L, 1L)), any()))
+            .thenReturn(Arrays.asList(recipe1, recipe2));
+        
+        RecipeListResponseData result = recipeService.getRecipes(criteria);
+        
+        assertEquals(2, result.getRecipes().size());
+        assertEquals("Chocolate Cake", result.getRecipes().get(0).getTitle());
+        assertEquals("Pancakes", result.getRecipes().get(1).getTitle());
+        verifyNoInteractions(categoryFilterIndex, searchIndex);
+        verify(summaryRepository, never()).findSummaries(any(Specification.class), any(PageRequest.class), any());
+    }
+    
+    @Test
+    void testGetRecipes_FuzzySearch_FallsBackToTitleSearchWhileIndexIsBuilding() {
+        RecipeFilterCriteria criteria = new RecipeFilterCriteria();
+        criteria.setUserId(100L);
+        criteria.setPage(0);
+        criteria.setSize(20);
+        criteria.setSortField("title");
+        criteria.setSortDirection("asc");
+        criteria.setSearchQuery("chocolate");
+        criteria.setSearchMode("contains");
+        criteria.setFuzzy(true);
+        
+        Page<RecipeSummaryRow> recipePage = new PageImpl<>(Arrays.asList(recipe2), 
+            PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")), 1);
+        
+        when(indexCoordinator.isReady()).thenReturn(false);
+        when(summaryRepository.findSummaries(any(Specification.class), any(PageRequest.class), any()))
+            .thenReturn(recipePage);
+        
+        RecipeListResponseData result = recipeService.getRecipes(criteria);
+        
+        assertEquals(1, result.getRecipes().size());
+        verifyNoInteractions(fuzzySearchIndex);
     }
 }
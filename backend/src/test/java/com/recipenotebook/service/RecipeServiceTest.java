@@ -2,30 +2,39 @@ package com.recipenotebook.service;
 
 import com.recipenotebook.dto.CreateRecipeRequest;
 import com.recipenotebook.dto.IngredientRequest;
+import com.recipenotebook.dto.RecipeBatchDeleteResponseData;
+import com.recipenotebook.dto.RecipeBatchItemDTO;
 import com.recipenotebook.dto.RecipeDetailDTO;
 import com.recipenotebook.dto.StepRequest;
 import com.recipenotebook.entity.*;
 import com.recipenotebook.exception.CategoryNotFoundException;
 import com.recipenotebook.exception.RecipeNotFoundException;
-import com.recipenotebook.repository.CategoryRepository;
+import com.recipenotebook.index.RecipeChangedEvent;
+import com.recipenotebook.repository.RecipeChildRow;
+import com.recipenotebook.repository.RecipeDetailRow;
 import com.recipenotebook.repository.RecipeRepository;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.util.Optional;
@@ -37,11 +46,20 @@ class RecipeServiceTest {
     private RecipeRepository recipeRepository;
     
     @Mock
-    private CategoryRepository categoryRepository;
+    private CategoryRegistry categoryRegistry;
     
     @Mock
     private EntityManager entityManager;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private RecipeFacetService facetService;
+    
+    @Mock
+    private RecipeSummaryService summaryService;
+    
     @InjectMocks
     private RecipeService recipeService;
     
@@ -80,23 +98,60 @@ class RecipeServiceTest {
         Recipe savedRecipe = new Recipe();
         savedRecipe.setId(42L);
         
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         
         Long recipeId = recipeService.createRecipe(validRequest, userId);
         
         assertThat(recipeId).isEqualTo(42L);
-        verify(categoryRepository, times(2)).findAllById(Arrays.asList(1L, 2L));
+        verify(categoryRegistry).findMissingIds(Arrays.asList(1L, 2L));
         verify(recipeRepository).save(any(Recipe.class));
     }
     
+    @Test
+    void createRecipe_PublishesUpsertEventForSearchIndex() {
+        Long userId = 123L;
+        Recipe savedRecipe = new Recipe();
+        savedRecipe.setId(42L);
+        savedRecipe.setUserId(userId);
+        savedRecipe.setTitle("Test Recipe");
+        
+        stubKnownCategories();
+        when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
+        
+        recipeService.createRecipe(validRequest, userId);
+        
+        ArgumentCaptor<RecipeChangedEvent> eventCaptor = ArgumentCaptor.forClass(RecipeChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        RecipeChangedEvent event = eventCaptor.getValue();
+        assertThat(event.getType()).isEqualTo(RecipeChangedEvent.Type.UPSERTED);
+        assertThat(event.getRecipeId()).isEqualTo(42L);
+        assertThat(event.getUserId()).isEqualTo(userId);
+        assertThat(event.getDocument().getTitle()).isEqualTo("Test Recipe");
+    }
+    
+    @Test
+    void createRecipe_RecordsFacetCountsForSavedRecipe() {
+        Long userId = 123L;
+        Recipe savedRecipe = new Recipe();
+        savedRecipe.setId(42L);
+        
+        stubKnownCategories();
+        when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
+        
+        recipeService.createRecipe(validRequest, userId);
+        
+        verify(facetService).recordAdded(userId, List.of(savedRecipe));
+        verify(summaryService).recordCreated(List.of(savedRecipe));
+    }
+    
     @Test
     void createRecipe_SetsCorrectRecipeProperties() {
         Long userId = 123L;
         Recipe savedRecipe = new Recipe();
         savedRecipe.setId(42L);
         
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         
         recipeService.createRecipe(validRequest, userId);
@@ -117,7 +172,7 @@ class RecipeServiceTest {
         Recipe savedRecipe = new Recipe();
         savedRecipe.setId(42L);
         
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         
         recipeService.createRecipe(validRequest, userId);
@@ -149,7 +204,7 @@ class RecipeServiceTest {
         Recipe savedRecipe = new Recipe();
         savedRecipe.setId(42L);
         
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         
         recipeService.createRecipe(validRequest, userId);
@@ -175,7 +230,7 @@ class RecipeServiceTest {
         Recipe savedRecipe = new Recipe();
         savedRecipe.setId(42L);
         
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         
         recipeService.createRecipe(validRequest, userId);
@@ -193,14 +248,13 @@ class RecipeServiceTest {
     void createRecipe_WithNonExistentCategory_ThrowsCategoryNotFoundException() {
         Long userId = 123L;
         
-        when(categoryRepository.findAllById(anyList()))
-            .thenReturn(Arrays.asList(categories.get(0)));
+        when(categoryRegistry.findMissingIds(anyList())).thenReturn(List.of(2L));
         
         assertThatThrownBy(() -> recipeService.createRecipe(validRequest, userId))
             .isInstanceOf(CategoryNotFoundException.class)
             .hasMessageContaining("Category with ID 2 does not exist");
         
-        verify(categoryRepository).findAllById(Arrays.asList(1L, 2L));
+        verify(categoryRegistry).findMissingIds(Arrays.asList(1L, 2L));
         verify(recipeRepository, never()).save(any(Recipe.class));
     }
     
@@ -208,7 +262,7 @@ class RecipeServiceTest {
     void createRecipe_WithAllNonExistentCategories_ThrowsCategoryNotFoundException() {
         Long userId = 123L;
         
-        when(categoryRepository.findAllById(anyList())).thenReturn(Arrays.asList());
+        when(categoryRegistry.findMissingIds(anyList())).thenReturn(List.of(1L, 2L));
         
         assertThatThrownBy(() -> recipeService.createRecipe(validRequest, userId))
             .isInstanceOf(CategoryNotFoundException.class)
@@ -221,13 +275,12 @@ class RecipeServiceTest {
     void createRecipe_ValidatesCategoriesBeforeSaving() {
         Long userId = 123L;
         
-        when(categoryRepository.findAllById(anyList()))
-            .thenReturn(Arrays.asList(categories.get(0)));
+        when(categoryRegistry.findMissingIds(anyList())).thenReturn(List.of(2L));
         
         assertThatThrownBy(() -> recipeService.createRecipe(validRequest, userId))
             .isInstanceOf(CategoryNotFoundException.class);
         
-        verify(categoryRepository).findAllById(anyList());
+        verify(categoryRegistry).findMissingIds(anyList());
         verify(recipeRepository, never()).save(any(Recipe.class));
     }
     
@@ -241,7 +294,7 @@ class RecipeServiceTest {
             new IngredientRequest("1", "cup", "water")
         ));
         
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         
         recipeService.createRecipe(validRequest, userId);
@@ -265,7 +318,7 @@ class RecipeServiceTest {
             new StepRequest("Second step")
         ));
         
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
         
         recipeService.createRecipe(validRequest, userId);
@@ -286,14 +339,14 @@ class RecipeServiceTest {
         Recipe existingRecipe = createExistingRecipe(recipeId, userId);
         
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(existingRecipe);
         
         Long returnedId = recipeService.updateRecipe(recipeId, userId, validRequest);
         
         assertThat(returnedId).isEqualTo(recipeId);
         verify(recipeRepository).findById(recipeId);
-        verify(categoryRepository, times(2)).findAllById(Arrays.asList(1L, 2L));
+        verify(categoryRegistry).findMissingIds(Arrays.asList(1L, 2L));
         verify(recipeRepository).save(any(Recipe.class));
     }
     
@@ -304,7 +357,7 @@ class RecipeServiceTest {
         Recipe existingRecipe = createExistingRecipe(recipeId, userId);
         
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(existingRecipe);
         
         recipeService.updateRecipe(recipeId, userId, validRequest);
@@ -327,7 +380,7 @@ class RecipeServiceTest {
         Recipe existingRecipe = createExistingRecipe(recipeId, userId);
         
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(existingRecipe);
         
         recipeService.updateRecipe(recipeId, userId, validRequest);
@@ -349,7 +402,7 @@ class RecipeServiceTest {
         Recipe existingRecipe = createExistingRecipe(recipeId, userId);
         
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(existingRecipe);
         
         recipeService.updateRecipe(recipeId, userId, validRequest);
@@ -371,7 +424,7 @@ class RecipeServiceTest {
         Recipe existingRecipe = createExistingRecipe(recipeId, userId);
         
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
-        when(categoryRepository.findAllById(anyList())).thenReturn(categories);
+        stubKnownCategories();
         when(recipeRepository.save(any(Recipe.class))).thenReturn(existingRecipe);
         
         recipeService.updateRecipe(recipeId, userId, validRequest);
@@ -385,6 +438,114 @@ class RecipeServiceTest {
             .containsExactlyInAnyOrder(1L, 2L);
     }
     
+    @Test
+    void updateRecipe_UpdatesChangedChildrenInPlace() {
+        Long recipeId = 42L;
+        Long userId = 123L;
+        Recipe existingRecipe = createExistingRecipe(recipeId, userId);
+        existingRecipe.setTitle("Test Recipe");
+        existingRecipe.setDifficulty(Difficulty.MEDIUM);
+        existingRecipe.setCookingTimeMinutes(30);
+        categories.forEach(existingRecipe::addCategory);
+        addIngredient(existingRecipe, 1, "2", "cups", "flour");
+        addIngredient(existingRecipe, 2, "1", "cup", "suger");
+        addIngredient(existingRecipe, 3, "1/2", "tsp", "salt");
+        addStep(existingRecipe, 1, "Mix dry ingredients");
+        addStep(existingRecipe, 2, "Add wet ingredients");
+        addStep(existingRecipe, 3, "Bake at 350°F");
+        List<Ingredient> originalIngredients = List.copyOf(existingRecipe.getIngredients());
+        
+        when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
+        when(categoryRegistry.findMissingIds(anyList())).thenReturn(List.of());
+        when(recipeRepository.save(any(Recipe.class))).thenReturn(existingRecipe);
+        
+        recipeService.updateRecipe(recipeId, userId, validRequest);
+        
+        assertThat(existingRecipe.getIngredients()).containsExactlyElementsOf(originalIngredients);
+        assertThat(existingRecipe.getIngredients().get(1).getName()).isEqualTo("sugar");
+        assertThat(existingRecipe.getIngredients().get(1).getSortOrder()).isEqualTo(2);
+        verify(entityManager, never()).getReference(any(), any());
+    }
+    
+    @Test
+    void updateRecipe_RemovesSurplusChildrenAndAppendsNewOnes() {
+        Long recipeId = 42L;
+        Long userId = 123L;
+        Recipe existingRecipe = createExistingRecipe(recipeId, userId);
+        addIngredient(existingRecipe, 1, "2", "cups", "flour");
+        addStep(existingRecipe, 1, "Mix dry ingredients");
+        addStep(existingRecipe, 2, "Add wet ingredients");
+        addStep(existingRecipe, 3, "Bake at 350°F");
+        addStep(existingRecipe, 4, "Cool on a rack");
+        Step firstStep = existingRecipe.getSteps().get(0);
+        
+        when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
+        stubKnownCategories();
+        when(recipeRepository.save(any(Recipe.class))).thenReturn(existingRecipe);
+        
+        recipeService.updateRecipe(recipeId, userId, validRequest);
+        
+        assertThat(existingRecipe.getSteps()).hasSize(3);
+        assertThat(existingRecipe.getSteps().get(0)).isSameAs(firstStep);
+        assertThat(existingRecipe.getIngredients()).extracting(Ingredient::getSortOrder).containsExactly(1, 2, 3);
+        assertThat(existingRecipe.getIngredients()).extracting(Ingredient::getName).containsExactly("flour", "sugar", "salt");
+    }
+    
+    @Test
+    void updateRecipe_WithNoChanges_SkipsWriteAndEvent() {
+        Long recipeId = 42L;
+        Long userId = 123L;
+        Recipe existingRecipe = createExistingRecipe(recipeId, userId);
+        existingRecipe.setTitle("Test Recipe");
+        existingRecipe.setDifficulty(Difficulty.MEDIUM);
+        existingRecipe.setCookingTimeMinutes(30);
+        categories.forEach(existingRecipe::addCategory);
+        addIngredient(existingRecipe, 1, "2", "cups", "flour");
+        addIngredient(existingRecipe, 2, "1", "cup", "sugar");
+        addIngredient(existingRecipe, 3, "1/2", "tsp", "salt");
+        addStep(existingRecipe, 1, "Mix dry ingredients");
+        addStep(existingRecipe, 2, "Add wet ingredients");
+        addStep(existingRecipe, 3, "Bake at 350°F");
+        
+        when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
+        when(categoryRegistry.findMissingIds(anyList())).thenReturn(List.of());
+        
+        Long returnedId = recipeService.updateRecipe(recipeId, userId, validRequest);
+        
+        assertThat(returnedId).isEqualTo(recipeId);
+        verify(recipeRepository, never()).save(any(Recipe.class));
+        verify(eventPublisher, never()).publishEvent(any());
+        verifyNoInteractions(facetService);
+        verifyNoInteractions(summaryService);
+    }
+    
+    @Test
+    void updateRecipe_RecordsFacetKeysBeforeAndAfterChange() {
+        Long recipeId = 42L;
+        Long userId = 123L;
+        Recipe existingRecipe = createExistingRecipe(recipeId, userId);
+        existingRecipe.addCategory(categories.get(0));
+        
+        when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
+        stubKnownCategories();
+        when(recipeRepository.save(any(Recipe.class))).thenReturn(existingRecipe);
+        
+        recipeService.updateRecipe(recipeId, userId, validRequest);
+        
+        verify(facetService).recordChanged(
+            userId,
+            List.of(
+                new RecipeFacetService.FacetKey("difficulty", "EASY"),
+                new RecipeFacetService.FacetKey("cookingTime", "0-15"),
+                new RecipeFacetService.FacetKey("category", "1")),
+            List.of(
+                new RecipeFacetService.FacetKey("difficulty", "MEDIUM"),
+                new RecipeFacetService.FacetKey("cookingTime", "16-30"),
+                new RecipeFacetService.FacetKey("category", "1"),
+                new RecipeFacetService.FacetKey("category", "2")));
+        verify(summaryService).recordUpdated(existingRecipe);
+    }
+    
     @Test
     void updateRecipe_WithNonExistentRecipe_ThrowsRecipeNotFoundException() {
         Long recipeId = 999L;
@@ -424,18 +585,43 @@ class RecipeServiceTest {
         Recipe existingRecipe = createExistingRecipe(recipeId, userId);
         
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
-        when(categoryRepository.findAllById(anyList()))
-            .thenReturn(Arrays.asList(categories.get(0)));
+        when(categoryRegistry.findMissingIds(anyList())).thenReturn(List.of(2L));
         
         assertThatThrownBy(() -> recipeService.updateRecipe(recipeId, userId, validRequest))
             .isInstanceOf(CategoryNotFoundException.class)
             .hasMessageContaining("Category with ID 2 does not exist");
         
         verify(recipeRepository).findById(recipeId);
-        verify(categoryRepository).findAllById(Arrays.asList(1L, 2L));
+        verify(categoryRegistry).findMissingIds(Arrays.asList(1L, 2L));
         verify(recipeRepository, never()).save(any(Recipe.class));
     }
     
+    private void stubKnownCategories() {
+        when(categoryRegistry.findMissingIds(anyList())).thenReturn(List.of());
+        when(entityManager.getReference(eq(Category.class), any())).thenAnswer(invocation -> categories.stream()
+            .filter(category -> category.getId().equals(invocation.getArgument(1)))
+            .findFirst()
+            .orElseThrow());
+    }
+    
+    private void addIngredient(Recipe recipe, int sortOrder, String quantity, String unit, String name) {
+        Ingredient ingredient = new Ingredient();
+        ingredient.setId((long) sortOrder);
+        ingredient.setQuantity(quantity);
+        ingredient.setUnit(unit);
+        ingredient.setName(name);
+        ingredient.setSortOrder(sortOrder);
+        recipe.addIngredient(ingredient);
+    }
+    
+    private void addStep(Recipe recipe, int stepNumber, String instruction) {
+        Step step = new Step();
+        step.setId((long) stepNumber);
+        step.setStepNumber(stepNumber);
+        step.setInstruction(instruction);
+        recipe.addStep(step);
+    }
+    
     private Recipe createExistingRecipe(Long recipeId, Long userId) {
         Recipe recipe = new Recipe();
         recipe.setId(recipeId);
@@ -450,9 +636,9 @@ class RecipeServiceTest {
     void getRecipeById_WithValidRecipeAndUser_ReturnsRecipeDetailDTO() {
         Long recipeId = 1L;
         Long userId = 123L;
-        Recipe recipe = createRecipeWithAssociations(recipeId, userId);
         
-        when(recipeRepository.findByIdAndUserId(recipeId, userId)).thenReturn(Optional.of(recipe));
+        when(recipeRepository.findDetailRowsByIdAndUserId(recipeId, userId)).thenReturn(createDetailRows(recipeId));
+        when(recipeRepository.findChildRowsByRecipeId(recipeId)).thenReturn(createChildRows(recipeId));
         
         RecipeDetailDTO result = recipeService.getRecipeById(recipeId, userId);
         
@@ -464,16 +650,17 @@ class RecipeServiceTest {
         assertThat(result.getCreatedAt()).isNotNull();
         assertThat(result.getUpdatedAt()).isNotNull();
         
-        verify(recipeRepository).findByIdAndUserId(recipeId, userId);
+        verify(recipeRepository).findDetailRowsByIdAndUserId(recipeId, userId);
+        verify(recipeRepository).findChildRowsByRecipeId(recipeId);
     }
     
     @Test
     void getRecipeById_ReturnsIngredientsSortedByOrder() {
         Long recipeId = 1L;
         Long userId = 123L;
-        Recipe recipe = createRecipeWithAssociations(recipeId, userId);
         
-        when(recipeRepository.findByIdAndUserId(recipeId, userId)).thenReturn(Optional.of(recipe));
+        when(recipeRepository.findDetailRowsByIdAndUserId(recipeId, userId)).thenReturn(createDetailRows(recipeId));
+        when(recipeRepository.findChildRowsByRecipeId(recipeId)).thenReturn(createChildRows(recipeId));
         
         RecipeDetailDTO result = recipeService.getRecipeById(recipeId, userId);
         
@@ -494,9 +681,9 @@ class RecipeServiceTest {
     void getRecipeById_ReturnsStepsSortedByStepNumber() {
         Long recipeId = 1L;
         Long userId = 123L;
-        Recipe recipe = createRecipeWithAssociations(recipeId, userId);
         
-        when(recipeRepository.findByIdAndUserId(recipeId, userId)).thenReturn(Optional.of(recipe));
+        when(recipeRepository.findDetailRowsByIdAndUserId(recipeId, userId)).thenReturn(createDetailRows(recipeId));
+        when(recipeRepository.findChildRowsByRecipeId(recipeId)).thenReturn(createChildRows(recipeId));
         
         RecipeDetailDTO result = recipeService.getRecipeById(recipeId, userId);
         
@@ -515,9 +702,9 @@ class RecipeServiceTest {
     void getRecipeById_ReturnsCategories() {
         Long recipeId = 1L;
         Long userId = 123L;
-        Recipe recipe = createRecipeWithAssociations(recipeId, userId);
         
-        when(recipeRepository.findByIdAndUserId(recipeId, userId)).thenReturn(Optional.of(recipe));
+        when(recipeRepository.findDetailRowsByIdAndUserId(recipeId, userId)).thenReturn(createDetailRows(recipeId));
+        when(recipeRepository.findChildRowsByRecipeId(recipeId)).thenReturn(createChildRows(recipeId));
         
         RecipeDetailDTO result = recipeService.getRecipeById(recipeId, userId);
         
@@ -531,13 +718,14 @@ class RecipeServiceTest {
         Long recipeId = 999L;
         Long userId = 123L;
         
-        when(recipeRepository.findByIdAndUserId(recipeId, userId)).thenReturn(Optional.empty());
+        when(recipeRepository.findDetailRowsByIdAndUserId(recipeId, userId)).thenReturn(Collections.emptyList());
         
         assertThatThrownBy(() -> recipeService.getRecipeById(recipeId, userId))
             .isInstanceOf(RecipeNotFoundException.class)
             .hasMessage("Recipe not found");
         
-        verify(recipeRepository).findByIdAndUserId(recipeId, userId);
+        verify(recipeRepository).findDetailRowsByIdAndUserId(recipeId, userId);
+        verify(recipeRepository, never()).findChildRowsByRecipeId(any());
     }
     
     @Test
@@ -546,29 +734,36 @@ class RecipeServiceTest {
         Long userId = 123L;
         Long differentUserId = 456L;
         
-        when(recipeRepository.findByIdAndUserId(recipeId, differentUserId)).thenReturn(Optional.empty());
+        when(recipeRepository.findDetailRowsByIdAndUserId(recipeId, differentUserId)).thenReturn(Collections.emptyList());
         
         assertThatThrownBy(() -> recipeService.getRecipeById(recipeId, differentUserId))
             .isInstanceOf(RecipeNotFoundException.class)
             .hasMessage("Recipe not found");
         
-        verify(recipeRepository).findByIdAndUserId(recipeId, differentUserId);
+        verify(recipeRepository).findDetailRowsByIdAndUserId(recipeId, differentUserId);
+        verify(recipeRepository, never()).findChildRowsByRecipeId(any());
     }
     
     @Test
     void deleteRecipe_Success() {
         Long recipeId = 1L;
         Long userId = 100L;
-        Recipe recipe = new Recipe();
-        recipe.setId(recipeId);
-        recipe.setUserId(userId);
         
-        when(recipeRepository.findByIdAndUserId(recipeId, userId))
-                .thenReturn(Optional.of(recipe));
+        when(recipeRepository.findIdsByIdInAndUserId(List.of(recipeId), userId))
+                .thenReturn(List.of(recipeId));
         
         recipeService.deleteRecipe(recipeId, userId);
         
-        verify(recipeRepository).delete(any(Recipe.class));
+        InOrder inOrder = inOrder(facetService, recipeRepository, summaryService);
+        inOrder.verify(facetService).recordRemoved(List.of(recipeId));
+        inOrder.verify(recipeRepository).deleteByIdInAndUserId(List.of(recipeId), userId);
+        inOrder.verify(summaryService).recordDeleted(List.of(recipeId));
+        verify(recipeRepository, never()).delete(any(Recipe.class));
+        
+        ArgumentCaptor<RecipeChangedEvent> eventCaptor = ArgumentCaptor.forClass(RecipeChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getType()).isEqualTo(RecipeChangedEvent.Type.DELETED);
+        assertThat(eventCaptor.getValue().getRecipeId()).isEqualTo(recipeId);
     }
     
     @Test
@@ -576,14 +771,14 @@ class RecipeServiceTest {
         Long recipeId = 1L;
         Long userId = 100L;
         
-        when(recipeRepository.findByIdAndUserId(recipeId, userId))
-                .thenReturn(Optional.empty());
+        when(recipeRepository.findIdsByIdInAndUserId(List.of(recipeId), userId))
+                .thenReturn(List.of());
         
         assertThatThrownBy(() -> recipeService.deleteRecipe(recipeId, userId))
                 .isInstanceOf(RecipeNotFoundException.class)
                 .hasMessage("Recipe not found");
         
-        verify(recipeRepository, never()).delete(any(Recipe.class));
+        verify(recipeRepository, never()).deleteByIdInAndUserId(any(), any());
     }
     
     @Test
@@ -592,40 +787,70 @@ class RecipeServiceTest {
         Long requestingUserId = 100L;
         Long actualOwnerId = 200L;
         
-        when(recipeRepository.findByIdAndUserId(recipeId, requestingUserId))
-                .thenReturn(Optional.empty());
+        when(recipeRepository.findIdsByIdInAndUserId(List.of(recipeId), requestingUserId))
+                .thenReturn(List.of());
         
         assertThatThrownBy(() -> recipeService.deleteRecipe(recipeId, requestingUserId))
                 .isInstanceOf(RecipeNotFoundException.class)
                 .hasMessage("Recipe not found");
         
-        verify(recipeRepository, never()).delete(any(Recipe.class));
+        verify(recipeRepository, never()).deleteByIdInAndUserId(any(), any());
     }
     
-    private Recipe createRecipeWithAssociations(Long recipeId, Long userId) {
-        Recipe recipe = new Recipe();
-        recipe.setId(recipeId);
-        recipe.setUserId(userId);
-        recipe.setTitle("Test Recipe");
-        recipe.setDifficulty(Difficulty.MEDIUM);
-        recipe.setCookingTimeMinutes(30);
-        recipe.setCreatedAt(LocalDateTime.now());
-        recipe.setUpdatedAt(LocalDateTime.now());
-        
-        Ingredient ing1 = new Ingredient(1L, recipe, "2", "cups", "flour", 1);
-        Ingredient ing2 = new Ingredient(2L, recipe, "1", "cup", "sugar", 2);
-        Ingredient ing3 = new Ingredient(3L, recipe, "1/2", "tsp", "salt", 3);
-        recipe.getIngredients().addAll(Arrays.asList(ing1, ing2, ing3));
-        
-        Step step1 = new Step(1L, recipe, 1, "Mix dry ingredients");
-        Step step2 = new Step(2L, recipe, 2, "Add wet ingredients");
-        Step step3 = new Step(3L, recipe, 3, "Bake at 350°F");
-        recipe.getSteps().addAll(Arrays.asList(step1, step2, step3));
-        
-        Category cat1 = new Category(1L, "Dessert", false);
-        Category cat2 = new Category(2L, "Quick & Easy", false);
-        recipe.getCategories().addAll(Arrays.asList(cat1, cat2));
+    @Test
+    void deleteRecipes_DeletesOwnedIdsInOneStatementAndReportsTheRest() {
+        Long userId = 100L;
         
-        return recipe;
+        when(recipeRepository.findIdsByIdInAndUserId(any(), eq(userId)))
+                .thenReturn(List.of(1L, 3L));
+        
+        RecipeBatchDeleteResponseData result = recipeService.deleteRecipes(List.of(1L, 2L, 3L, 2L), userId);
+        
+        assertThat(result.getDeletedIds()).containsExactly(1L, 3L);
+        assertThat(result.getNotFoundIds()).containsExactly(2L);
+        verify(recipeRepository, times(1)).deleteByIdInAndUserId(List.of(1L, 3L), userId);
+        verify(eventPublisher, times(2)).publishEvent(any(RecipeChangedEvent.class));
+    }
+    
+    @Test
+    void getRecipesByIds_ReturnsRecipesInRequestedOrderWithNotFoundMarkers() {
+        Long userId = 123L;
+        List<RecipeDetailRow> detailRows = new ArrayList<>(createDetailRows(1L));
+        detailRows.addAll(createDetailRows(2L));
+        List<RecipeChildRow> childRows = new ArrayList<>(createChildRows(1L));
+        childRows.addAll(createChildRows(2L));
+        
+        when(recipeRepository.findDetailRowsByIdsAndUserId(any(), eq(userId))).thenReturn(detailRows);
+        when(recipeRepository.findChildRowsByRecipeIds(any())).thenReturn(childRows);
+        
+        List<RecipeBatchItemDTO> result = recipeService.getRecipesByIds(List.of(2L, 99L, 1L), userId);
+        
+        assertThat(result).extracting(RecipeBatchItemDTO::getId).containsExactly(2L, 99L, 1L);
+        assertThat(result).extracting(RecipeBatchItemDTO::isFound).containsExactly(true, false, true);
+        assertThat(result.get(0).getRecipe().getIngredients()).hasSize(3);
+        assertThat(result.get(0).getRecipe().getCategories()).hasSize(2);
+        assertThat(result.get(1).getRecipe()).isNull();
+        assertThat(result.get(2).getRecipe().getSteps().get(0).getInstruction()).isEqualTo("Mix dry ingredients");
+        verify(recipeRepository, times(1)).findDetailRowsByIdsAndUserId(any(), eq(userId));
+        verify(recipeRepository, times(1)).findChildRowsByRecipeIds(any());
+    }
+    
+    private List<RecipeDetailRow> createDetailRows(Long recipeId) {
+        LocalDateTime now = LocalDateTime.now();
+        return Arrays.asList(
+            new RecipeDetailRow(recipeId, "Test Recipe", Difficulty.MEDIUM, 30, now, now, 1L, "Dessert", false),
+            new RecipeDetailRow(recipeId, "Test Recipe", Difficulty.MEDIUM, 30, now, now, 2L, "Quick & Easy", false)
+        );
+    }
+    
+    private List<RecipeChildRow> createChildRows(Long recipeId) {
+        return Arrays.asList(
+            new RecipeChildRow(recipeId, RecipeChildRow.INGREDIENT, 1L, 1, "2", "cups", "flour", null),
+            new RecipeChildRow(recipeId, RecipeChildRow.INGREDIENT, 2L, 2, "1", "cup", "sugar", null),
+            new RecipeChildRow(recipeId, RecipeChildRow.INGREDIENT, 3L, 3, "1/2", "tsp", "salt", null),
+            new RecipeChildRow(recipeId, RecipeChildRow.STEP, 1L, 1, null, null, null, "Mix dry ingredients"),
+            new RecipeChildRow(recipeId, RecipeChildRow.STEP, 2L, 2, null, null, null, "Add wet ingredients"),
+            new RecipeChildRow(recipeId, RecipeChildRow.STEP, 3L, 3, null, null, null, "Bake at 350°F")
+        );
     }
 }
@@ -0,0 +1,116 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.CreateRecipeRequest;
+import com.recipenotebook.dto.IngredientRequest;
+import com.recipenotebook.dto.RecipeSummaryCheckResult;
+import com.recipenotebook.dto.StepRequest;
+import com.recipenotebook.entity.Category;
+import com.recipenotebook.entity.RecipeSummary;
+import com.recipenotebook.repository.CategoryRepository;
+import com.recipenotebook.repository.RecipeSummaryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class RecipeSummaryConsistencyTest {
+    
+    private static final Long USER_ID = 6161L;
+    private static final Long ORPHAN_ID = 987654321L;
+    
+    @Autowired
+    private RecipeService recipeService;
+    
+    @Autowired
+    private RecipeSummaryService summaryService;
+    
+    @Autowired
+    private RecipeSummaryRepository summaryRepository;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    private Category breakfast;
+    private final List<Long> recipeIds = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        breakfast = categoryRepository.save(new Category(null, "Summary Breakfast", false));
+        for (int i = 0; i < 3; i++) {
+            recipeIds.add(recipeService.createRecipe(request("Summary Recipe " + i), USER_ID));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+    
+    @Test
+    void writes_KeepSummariesInSync() {
+        RecipeSummary created = summaryRepository.findById(recipeIds.get(0)).orElseThrow();
+        assertThat(created.getNormalizedTitle()).isEqualTo("summary recipe 0");
+        assertThat(created.getCategoryIds()).isEqualTo("," + breakfast.getId() + ",");
+        
+        recipeService.updateRecipe(recipeIds.get(0), USER_ID, request("Renamed Recipe"));
+        recipeService.deleteRecipe(recipeIds.get(1), USER_ID);
+        entityManager.flush();
+        entityManager.clear();
+        
+        assertThat(summaryRepository.findById(recipeIds.get(0)).orElseThrow().getTitle()).isEqualTo("Renamed Recipe");
+        assertThat(summaryRepository.findById(recipeIds.get(1))).isEmpty();
+        assertThat(summaryService.check().isConsistent()).isTrue();
+    }
+    
+    @Test
+    void check_ReportsDriftAndRebuildRepairsIt() {
+        Long staleId = recipeIds.get(0);
+        Long missingId = recipeIds.get(1);
+        entityManager.createNativeQuery("UPDATE recipe_summaries SET title = 'Drifted' WHERE recipe_id = :id")
+            .setParameter("id", staleId)
+            .executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM recipe_summaries WHERE recipe_id = :id")
+            .setParameter("id", missingId)
+            .executeUpdate();
+        entityManager.createNativeQuery("INSERT INTO recipe_summaries (recipe_id, user_id, title, normalized_title, difficulty, " +
+                "cooking_time_minutes, category_ids, categories) VALUES (:id, :userId, 'Ghost', 'ghost', 'EASY', 5, ',', '[]')")
+            .setParameter("id", ORPHAN_ID)
+            .setParameter("userId", USER_ID)
+            .executeUpdate();
+        entityManager.clear();
+        
+        RecipeSummaryCheckResult drifted = summaryService.check();
+        
+        assertThat(drifted.isConsistent()).isFalse();
+        assertThat(drifted.getStaleIds()).contains(staleId);
+        assertThat(drifted.getMissingIds()).contains(missingId);
+        assertThat(drifted.getOrphanedIds()).contains(ORPHAN_ID);
+        
+        summaryService.rebuild();
+        
+        assertThat(summaryService.check().isConsistent()).isTrue();
+        assertThat(summaryRepository.findById(staleId).orElseThrow().getTitle()).isEqualTo("Summary Recipe 0");
+        assertThat(summaryRepository.findById(missingId)).isPresent();
+        assertThat(summaryRepository.findById(ORPHAN_ID)).isEmpty();
+    }
+    
+    private CreateRecipeRequest request(String title) {
+        CreateRecipeRequest request = new CreateRecipeRequest();
+        request.setTitle(title);
+        request.setDifficulty("EASY");
+        request.setCookingTimeMinutes(10);
+        request.setCategoryIds(List.of(breakfast.getId()));
+        request.setIngredients(List.of(new IngredientRequest("1", "cup", "flour")));
+        request.setSteps(List.of(new StepRequest("Mix")));
+        return request;
+    }
+}
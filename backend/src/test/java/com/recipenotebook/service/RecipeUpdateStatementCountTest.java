@@ -0,0 +1,115 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.CreateRecipeRequest;
+import com.recipenotebook.dto.IngredientRequest;
+import com.recipenotebook.entity.Category;
+import com.recipenotebook.entity.Ingredient;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.entity.Step;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecipeUpdateStatementCountTest extends StatementCountTestSupport {
+    
+    private static final int INGREDIENT_COUNT = 40;
+    private static final int STEP_COUNT = 10;
+    
+    private CreateRecipeRequest request;
+    private Long recipeId;
+    
+    @BeforeEach
+    void setUp() {
+        request = recipeRequest("Pancakes with syurp", INGREDIENT_COUNT, STEP_COUNT,
+            List.of(saveCategory("Update Breakfast"), saveCategory("Update Dessert")));
+        recipeId = recipeService.createRecipe(request, USER_ID);
+        startCounting();
+    }
+    
+    @Test
+    void titleTypoFix_WritesOnlyTheRecipeRow() {
+        request.setTitle("Pancakes with syrup");
+        
+        recipeService.updateRecipe(recipeId, USER_ID, request);
+        entityManager.flush();
+        
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionRemoveCount()).isZero();
+    }
+    
+    @Test
+    void titleTypoFix_IssuesFarFewerStatementsThanReplacingChildren() {
+        replaceAllChildren("Pancakes with syrup");
+        long replaceStatements = statistics.getPrepareStatementCount();
+        
+        entityManager.clear();
+        statistics.clear();
+        
+        request.setTitle("Pancakes with syrup!");
+        recipeService.updateRecipe(recipeId, USER_ID, request);
+        entityManager.flush();
+        long diffStatements = statistics.getPrepareStatementCount();
+        
+        assertThat(replaceStatements).isGreaterThan(INGREDIENT_COUNT * 2L);
+        assertThat(diffStatements).isLessThan(10);
+    }
+    
+    @Test
+    void editingOneIngredient_UpdatesOnlyThatRow() {
+        List<IngredientRequest> ingredients = new ArrayList<>(request.getIngredients());
+        ingredients.set(5, new IngredientRequest("6", "kg", "ingredient 5"));
+        request.setIngredients(ingredients);
+        
+        recipeService.updateRecipe(recipeId, USER_ID, request);
+        entityManager.flush();
+        
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(2);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+    }
+    
+    @Test
+    void unchangedRequest_WritesNothing() {
+        recipeService.updateRecipe(recipeId, USER_ID, request);
+        entityManager.flush();
+        
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+    }
+    
+    private void replaceAllChildren(String title) {
+        Recipe recipe = entityManager.find(Recipe.class, recipeId);
+        List<Category> categories = new ArrayList<>(recipe.getCategories());
+        recipe.setTitle(title);
+        recipe.getIngredients().clear();
+        recipe.getSteps().clear();
+        recipe.getCategories().clear();
+        entityManager.flush();
+        
+        for (int i = 0; i < request.getIngredients().size(); i++) {
+            IngredientRequest ingReq = request.getIngredients().get(i);
+            Ingredient ingredient = new Ingredient();
+            ingredient.setQuantity(ingReq.getQuantity());
+            ingredient.setUnit(ingReq.getUnit());
+            ingredient.setName(ingReq.getName());
+            ingredient.setSortOrder(i + 1);
+            recipe.addIngredient(ingredient);
+        }
+        for (int i = 0; i < request.getSteps().size(); i++) {
+            Step step = new Step();
+            step.setInstruction(request.getSteps().get(i).getInstruction());
+            step.setStepNumber(i + 1);
+            recipe.addStep(step);
+        }
+        categories.forEach(recipe::addCategory);
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,116 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.RegisterRequest;
+import com.recipenotebook.dto.RegisterResponse;
+import com.recipenotebook.entity.Category;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.entity.RecipeSummary;
+import com.recipenotebook.repository.RecipeRepository;
+import com.recipenotebook.repository.RecipeSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:registration")
+class RegistrationStatementCountTest extends StatementCountTestSupport {
+    
+    @Autowired
+    private AuthService authService;
+    
+    @Autowired
+    private RecipeRepository recipeRepository;
+    
+    @Autowired
+    private RecipeSummaryRepository summaryRepository;
+    
+    @Autowired
+    private RecipeFacetService facetService;
+    
+    private Category dessert;
+    
+    @BeforeEach
+    void setUp() {
+        dessert = categoryRepository.findByName("Dessert")
+            .orElseGet(() -> categoryRepository.save(new Category(null, "Dessert", true)));
+    }
+    
+    @Test
+    void registerUser_ClonesSampleRecipeWithSetBasedInserts() {
+        register("warmupuser");
+        startCounting();
+        
+        RegisterResponse response = register("templateuser");
+        entityManager.flush();
+        
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        entityManager.clear();
+        
+        List<Recipe> recipes = recipeRepository.findAll().stream()
+            .filter(recipe -> recipe.getUserId().equals(response.getUserId()))
+            .collect(Collectors.toList());
+        assertThat(recipes).hasSize(1);
+        Recipe recipe = recipes.get(0);
+        assertThat(recipe.getTitle()).isEqualTo("Classic Chocolate Chip Cookies");
+        assertThat(recipe.getNormalizedTitle()).isEqualTo("classic chocolate chip cookies");
+        assertThat(recipe.getIngredients()).extracting("sortOrder").containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(recipe.getSteps()).extracting("stepNumber").containsExactlyInAnyOrder(1, 2, 3, 4, 5, 6);
+        assertThat(recipe.getCategories()).extracting("id").containsExactly(dessert.getId());
+        
+        RecipeSummary summary = summaryRepository.findById(recipe.getId()).orElseThrow();
+        assertThat(summary.getCategoryIds()).isEqualTo("," + dessert.getId() + ",");
+        assertThat(summary.getCreatedAt()).isEqualTo(recipe.getCreatedAt());
+        
+        assertThat(facetService.getFacets(response.getUserId()).getDifficulties())
+            .filteredOn(facet -> facet.getValue().equals("EASY"))
+            .extracting("count")
+            .containsExactly(1L);
+    }
+    
+    @Test
+    void registerUser_AssignsDistinctChildIdsForEachUser() {
+        RegisterResponse first = register("firstcook");
+        RegisterResponse second = register("secondcook");
+        entityManager.flush();
+        entityManager.clear();
+        
+        List<Long> ingredientIds = entityManager.createQuery(
+                "SELECT i.id FROM Ingredient i WHERE i.recipe.userId IN (:userIds)", Long.class)
+            .setParameter("userIds", List.of(first.getUserId(), second.getUserId()))
+            .getResultList();
+        assertThat(ingredientIds).hasSize(18).doesNotHaveDuplicates();
+    }
+    
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
+    void registerUser_OnFreshSequences_AssignsPositiveChildIds() {
+        RegisterResponse response = register("freshcook");
+        entityManager.flush();
+        entityManager.clear();
+        
+        List<Long> ingredientIds = entityManager.createQuery(
+                "SELECT i.id FROM Ingredient i WHERE i.recipe.userId = :userId", Long.class)
+            .setParameter("userId", response.getUserId())
+            .getResultList();
+        List<Long> stepIds = entityManager.createQuery(
+                "SELECT s.id FROM Step s WHERE s.recipe.userId = :userId", Long.class)
+            .setParameter("userId", response.getUserId())
+            .getResultList();
+        assertThat(ingredientIds).hasSize(9).allMatch(id -> id >= 1);
+        assertThat(stepIds).hasSize(6).allMatch(id -> id >= 1);
+    }
+    
+    private RegisterResponse register(String username) {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername(username);
+        request.setPassword("password123");
+        return authService.registerUser(request);
+    }
+}
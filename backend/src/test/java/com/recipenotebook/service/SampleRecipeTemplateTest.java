@@ -0,0 +1,118 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.CategoryDTO;
+import com.recipenotebook.entity.Difficulty;
+import com.recipenotebook.entity.IdBlocks;
+import com.recipenotebook.entity.Ingredient;
+import com.recipenotebook.entity.Recipe;
+import com.recipenotebook.entity.Step;
+import com.recipenotebook.repository.RecipeRepository;
+import com.recipenotebook.repository.RecipeTemplate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SampleRecipeTemplateTest {
+    
+    @Mock
+    private RecipeRepository recipeRepository;
+    
+    @Mock
+    private CategoryRegistry categoryRegistry;
+    
+    @Test
+    void createFor_InsertsFromPrecomputedTemplateAndReturnsRecipe() {
+        when(categoryRegistry.current()).thenReturn(snapshot(new CategoryDTO(4L, "Dessert", true)));
+        when(recipeRepository.insertFromTemplate(any(RecipeTemplate.class), eq(7L), eq(List.of(4L)), any(LocalDateTime.class)))
+            .thenReturn(150L);
+        SampleRecipeTemplate sampleRecipeTemplate = new SampleRecipeTemplate(recipeRepository, categoryRegistry);
+        
+        Recipe recipe = sampleRecipeTemplate.createFor(7L);
+        
+        ArgumentCaptor<RecipeTemplate> template = ArgumentCaptor.forClass(RecipeTemplate.class);
+        ArgumentCaptor<LocalDateTime> createdAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(recipeRepository).insertFromTemplate(template.capture(), eq(7L), eq(List.of(4L)), createdAt.capture());
+        assertThat(template.getValue().getTitle()).isEqualTo("Classic Chocolate Chip Cookies");
+        assertThat(template.getValue().getNormalizedTitle()).isEqualTo("classic chocolate chip cookies");
+        assertThat(template.getValue().getIngredientCount()).isEqualTo(9);
+        assertThat(template.getValue().getIngredientParameters())
+            .containsEntry("quantity0", "2¼")
+            .containsEntry("unit0", "cups")
+            .containsEntry("name0", "all-purpose flour")
+            .containsEntry("sortOrder0", 1);
+        assertThat(template.getValue().getStepParameters())
+            .containsEntry("stepNumber5", 6)
+            .containsEntry("instruction5", "Bake for 9-11 minutes or until golden brown.");
+        
+        assertThat(recipe.getId()).isEqualTo(150L);
+        assertThat(recipe.getUserId()).isEqualTo(7L);
+        assertThat(recipe.getTitle()).isEqualTo("Classic Chocolate Chip Cookies");
+        assertThat(recipe.getDifficulty()).isEqualTo(Difficulty.EASY);
+        assertThat(recipe.getCookingTimeMinutes()).isEqualTo(25);
+        assertThat(recipe.getIngredients()).hasSize(9).extracting(Ingredient::getSortOrder).startsWith(1, 2, 3);
+        assertThat(recipe.getSteps()).hasSize(6).extracting(Step::getStepNumber).endsWith(6);
+        assertThat(recipe.getCategories()).extracting("id").containsExactly(4L);
+        assertThat(recipe.getCreatedAt()).isEqualTo(createdAt.getValue());
+        assertThat(recipe.getUpdatedAt()).isEqualTo(createdAt.getValue());
+    }
+    
+    @Test
+    void createFor_WithoutDessertCategory_InsertsRecipeWithoutCategories() {
+        when(categoryRegistry.current()).thenReturn(snapshot(new CategoryDTO(1L, "Breakfast", true)));
+        when(recipeRepository.insertFromTemplate(any(RecipeTemplate.class), eq(7L), eq(List.of()), any(LocalDateTime.class)))
+            .thenReturn(200L);
+        SampleRecipeTemplate sampleRecipeTemplate = new SampleRecipeTemplate(recipeRepository, categoryRegistry);
+        
+        Recipe recipe = sampleRecipeTemplate.createFor(7L);
+        
+        assertThat(recipe.getId()).isEqualTo(200L);
+        assertThat(recipe.getCategories()).isEmpty();
+    }
+    
+    @Test
+    void template_BindsValuesInsteadOfInliningThem() {
+        Recipe recipe = new Recipe();
+        recipe.setTitle("Grandma's Pie");
+        recipe.addIngredient(new Ingredient(null, null, null, "cup", "baker's flour", 1));
+        recipe.addStep(new Step(null, null, 1, "Don't overmix"));
+        
+        RecipeTemplate template = RecipeTemplate.of(recipe);
+        
+        assertThat(template.getInsertIngredientsSql())
+            .isEqualTo("INSERT INTO ingredients (id, recipe_id, quantity, unit, name, sort_order) VALUES "
+                + "(:id0, :recipeId, :quantity0, :unit0, :name0, :sortOrder0)");
+        assertThat(template.getInsertStepsSql()).doesNotContain("overmix");
+        assertThat(template.getIngredientParameters())
+            .containsEntry("quantity0", null)
+            .containsEntry("name0", "baker's flour");
+        assertThat(template.getStepParameters()).containsEntry("instruction0", "Don't overmix");
+    }
+    
+    @Test
+    void template_RejectsMoreRowsThanOneIdBlock() {
+        Recipe recipe = new Recipe();
+        recipe.addStep(new Step(null, null, 1, "Mix"));
+        for (int i = 0; i <= IdBlocks.SIZE; i++) {
+            recipe.addIngredient(new Ingredient(null, null, "1", "cup", "flour", i + 1));
+        }
+        
+        assertThatThrownBy(() -> RecipeTemplate.of(recipe)).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    private CategorySnapshot snapshot(CategoryDTO... categories) {
+        return new CategorySnapshot(List.of(categories), new byte[0], "\"test\"");
+    }
+}
@@ -0,0 +1,75 @@
+package com.recipenotebook.service;
+
+import com.recipenotebook.dto.CreateRecipeRequest;
+import com.recipenotebook.dto.IngredientRequest;
+import com.recipenotebook.dto.StepRequest;
+import com.recipenotebook.entity.Category;
+import com.recipenotebook.repository.CategoryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+abstract class StatementCountTestSupport {
+    
+    protected static final Long USER_ID = 4242L;
+    
+    @Autowired
+    protected RecipeService recipeService;
+    
+    @Autowired
+    protected CategoryRepository categoryRepository;
+    
+    @Autowired
+    protected EntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    protected Statistics statistics;
+    
+    @BeforeEach
+    void openStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    protected Long saveCategory(String name) {
+        return categoryRepository.save(new Category(null, name, false)).getId();
+    }
+    
+    protected void startCounting() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+    
+    protected static CreateRecipeRequest recipeRequest(String title, int ingredientCount, int stepCount,
+                                                       List<Long> categoryIds) {
+        List<IngredientRequest> ingredients = new ArrayList<>();
+        for (int i = 0; i < ingredientCount; i++) {
+            ingredients.add(new IngredientRequest(String.valueOf(i + 1), "g", "ingredient " + i));
+        }
+        List<StepRequest> steps = new ArrayList<>();
+        for (int i = 0; i < stepCount; i++) {
+            steps.add(new StepRequest("Step " + i));
+        }
+        
+        CreateRecipeRequest request = new CreateRecipeRequest();
+        request.setTitle(title);
+        request.setDifficulty("EASY");
+        request.setCookingTimeMinutes(20);
+        request.setCategoryIds(categoryIds);
+        request.setIngredients(ingredients);
+        request.setSteps(steps);
+        return request;
+    }
+}
@@ -7,6 +7,19 @@ const apiClient = axios.create({
   }
 });
 
+apiClient.interceptors.request.use((config) => {
+  try {
+    const authData = sessionStorage.getItem('auth');
+    const token = authData ? JSON.parse(authData).token : null;
+    if (token) {
+      config.headers.Authorization = `Bearer ${token}`;
+    }
+  } catch (error) {
+    sessionStorage.removeItem('auth');
+  }
+  return config;
+});
+
 export const authApi = {
   register: (data) => {
     return apiClient.post('/auth/register', data);
@@ -19,39 +32,25 @@ export const authApi = {
 
 export const recipesApi = {
   getRecipes: (params) => {
-    const userId = sessionStorage.getItem('userId');
     return apiClient.get('/recipes', {
-      params,
-      headers: userId ? { 'X-User-Id': userId } : {}
+      params
     });
   },
   
   getRecipe: (id) => {
-    const userId = sessionStorage.getItem('userId');
-    return apiClient.get(`/recipes/${id}`, {
-      headers: userId ? { 'X-User-Id': userId } : {}
-    });
+    return apiClient.get(`/recipes/${id}`);
   },
   
   createRecipe: (data) => {
-    const userId = sessionStorage.getItem('userId');
-    return apiClient.post('/recipes', data, {
-      headers: userId ? { 'X-User-Id': userId } : {}
-    });
+    return apiClient.post('/recipes', data);
   },
   
   updateRecipe: (id, data) => {
-    const userId = sessionStorage.getItem('userId');
-    return apiClient.put(`/recipes/${id}`, data, {
-      headers: userId ? { 'X-User-Id': userId } : {}
-    });
+    return apiClient.put(`/recipes/${id}`, data);
   },
   
   deleteRecipe: (id) => {
-    const userId = sessionStorage.getItem('userId');
-    return apiClient.delete(`/recipes/${id}`, {
-      headers: userId ? { 'X-User-Id': userId } : {}
-    });
+    return apiClient.delete(`/recipes/${id}`);
   }
 };
 